@@ -0,0 +1,32 @@
+package com.acme.middleware.application.dto;
+
+import com.acme.middleware.domain.model.SyncCheckpoint;
+
+import java.time.Instant;
+
+/**
+ * Where the Jira project backfill stands.
+ *
+ * @param total Jira's approximate issue count, known once the run has begun
+ * @param lastKey last issue key written; a resumed run continues after it
+ */
+public record BackfillProgress(
+    SyncCheckpoint.State state,
+    long processed,
+    Long total,
+    String lastKey,
+    Instant startedAt,
+    Instant updatedAt
+) {
+    public static BackfillProgress of(SyncCheckpoint checkpoint) {
+        return new BackfillProgress(checkpoint.getState(), checkpoint.getProcessed(), checkpoint.getTotal(),
+                checkpoint.getCursor(), checkpoint.getStartedAt(), checkpoint.getUpdatedAt());
+    }
+
+    /**
+     * Requested or running, and so still to be picked up or resumed
+     */
+    public boolean isActive() {
+        return state == SyncCheckpoint.State.REQUESTED || state == SyncCheckpoint.State.RUNNING;
+    }
+}
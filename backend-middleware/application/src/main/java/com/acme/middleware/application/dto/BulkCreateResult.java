@@ -0,0 +1,28 @@
+package com.acme.middleware.application.dto;
+
+/**
+ * Outcome of one element of a bulk create: either the created issue key or Jira's error.
+ *
+ * @param retryable false when the element was rejected before being sent and would be again
+ */
+public record BulkCreateResult(
+    String issueKey,
+    String error,
+    boolean retryable
+) {
+    public static BulkCreateResult created(String issueKey) {
+        return new BulkCreateResult(issueKey, null, false);
+    }
+
+    public static BulkCreateResult failed(String error) {
+        return new BulkCreateResult(null, error, true);
+    }
+
+    public static BulkCreateResult rejected(String error) {
+        return new BulkCreateResult(null, error, false);
+    }
+
+    public boolean succeeded() {
+        return issueKey != null;
+    }
+}
@@ -0,0 +1,12 @@
+package com.acme.middleware.application.dto;
+
+import com.acme.middleware.domain.model.DeadLetterEvent;
+
+import java.util.List;
+
+public record DeadLetterPage(
+    List<DeadLetterEvent> items,
+    int page,
+    int size,
+    long totalItems
+) {}
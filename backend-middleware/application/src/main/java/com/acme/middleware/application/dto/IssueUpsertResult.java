@@ -0,0 +1,22 @@
+package com.acme.middleware.application.dto;
+
+/**
+ * What an import from Jira did to the local issues.
+ *
+ * @param skipped issues that were unchanged, or changed locally after their last Jira update
+ */
+public record IssueUpsertResult(
+    int created,
+    int updated,
+    int skipped
+) {
+    public static final IssueUpsertResult NONE = new IssueUpsertResult(0, 0, 0);
+
+    public IssueUpsertResult plus(IssueUpsertResult other) {
+        return new IssueUpsertResult(created + other.created, updated + other.updated, skipped + other.skipped);
+    }
+
+    public int total() {
+        return created + updated + skipped;
+    }
+}
@@ -0,0 +1,23 @@
+package com.acme.middleware.application.dto;
+
+/**
+ * Fields of a Jira issue to be created.
+ *
+ * @param issueType issue type name; null for the configured default type
+ * @param duedate due date in YYYY-MM-DD format (optional)
+ * @param priority priority name (optional)
+ * @param idempotencyLabel label that identifies the local issue in Jira, so a create that may
+ *                         already have gone through can be found instead of repeated (optional)
+ */
+public record JiraIssueDraft(
+    String summary,
+    String description,
+    String issueType,
+    String duedate,
+    String priority,
+    String idempotencyLabel
+) {
+    public JiraIssueDraft(String summary, String description, String issueType, String duedate, String priority) {
+        this(summary, description, issueType, duedate, priority, null);
+    }
+}
@@ -0,0 +1,17 @@
+package com.acme.middleware.application.dto;
+
+import java.util.List;
+
+/**
+ * One page of a Jira search.
+ *
+ * @param nextPageToken token for the following page; null on the last page
+ */
+public record JiraIssuePage(
+    List<JiraIssueSnapshot> issues,
+    String nextPageToken
+) {
+    public boolean isLast() {
+        return nextPageToken == null;
+    }
+}
@@ -0,0 +1,25 @@
+package com.acme.middleware.application.dto;
+
+import com.acme.middleware.domain.model.IssueStatus;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * State of a Jira issue as read from a search, already mapped to local values.
+ *
+ * @param description plain text of the Jira description (optional)
+ * @param dueDate start of the due day in UTC (optional)
+ * @param labels Jira labels, including the idempotency label of issues created from here
+ */
+public record JiraIssueSnapshot(
+    String key,
+    String summary,
+    String description,
+    IssueStatus status,
+    String priority,
+    Instant dueDate,
+    Instant created,
+    Instant updated,
+    List<String> labels
+) {}
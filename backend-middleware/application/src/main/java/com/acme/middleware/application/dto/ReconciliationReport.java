@@ -0,0 +1,23 @@
+package com.acme.middleware.application.dto;
+
+/**
+ * Outcome of comparing the local issues with Jira.
+ *
+ * @param mismatchedBuckets buckets whose digests differed and whose issues were compared one by one
+ * @param missingLocally Jira issues with no local issue linked to them
+ * @param missingInJira local issues linked to a key that Jira no longer has
+ * @param differing issues present on both sides whose synced fields differ
+ * @param repaired what re-reading the missing and differing issues from Jira changed locally
+ */
+public record ReconciliationReport(
+    int buckets,
+    int mismatchedBuckets,
+    int missingLocally,
+    int missingInJira,
+    int differing,
+    IssueUpsertResult repaired
+) {
+    public boolean inSync() {
+        return mismatchedBuckets == 0;
+    }
+}
@@ -0,0 +1,42 @@
+package com.acme.middleware.application.dto;
+
+import com.acme.middleware.domain.model.Event;
+import com.acme.middleware.domain.model.Issue;
+import com.acme.middleware.domain.model.IssueId;
+
+import java.util.List;
+
+/**
+ * Net Jira operation for one issue, folded from all of its claimed outbox events.
+ *
+ * @param issue the issue as loaded for dispatch; null until loaded, or when it no longer exists
+ */
+public record SyncOperation(
+    Kind kind,
+    IssueId issueId,
+    List<Event> events,
+    Issue issue
+) {
+    public SyncOperation(Kind kind, IssueId issueId, List<Event> events) {
+        this(kind, issueId, events, null);
+    }
+
+    public SyncOperation withIssue(Issue issue) {
+        return new SyncOperation(kind, issueId, events, issue);
+    }
+
+    /**
+     * Whether dispatch needs the issue row; a delete works from its event payload alone
+     */
+    public boolean needsIssue() {
+        return kind == Kind.CREATE || kind == Kind.UPDATE;
+    }
+
+    public enum Kind {
+        CREATE,
+        UPDATE,
+        DELETE,
+        // The events cancel out (e.g. created then deleted before sync); nothing to send
+        NOOP
+    }
+}
@@ -0,0 +1,8 @@
+package com.acme.middleware.application.exceptions;
+
+public class BackfillInProgressException extends RuntimeException {
+
+    public BackfillInProgressException(String message) {
+        super(message);
+    }
+}
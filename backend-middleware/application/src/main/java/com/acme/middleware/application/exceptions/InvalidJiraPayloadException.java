@@ -0,0 +1,11 @@
+package com.acme.middleware.application.exceptions;
+
+/**
+ * A payload that Jira's configuration for the project cannot accept, found before it was sent.
+ * Sending the same payload again cannot succeed, so it is not retried.
+ */
+public class InvalidJiraPayloadException extends JiraSyncException {
+    public InvalidJiraPayloadException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,21 @@
+package com.acme.middleware.application.exceptions;
+
+import java.time.Duration;
+
+/**
+ * A Jira call refused on this side before it was sent, for instance while the circuit breaker
+ * is open. Jira never saw it, so it does not count as a failed attempt.
+ */
+public class JiraCallRejectedException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public JiraCallRejectedException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter != null ? retryAfter : Duration.ZERO;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
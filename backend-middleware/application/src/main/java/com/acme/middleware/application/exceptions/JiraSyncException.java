@@ -0,0 +1,7 @@
+package com.acme.middleware.application.exceptions;
+
+public class JiraSyncException extends RuntimeException {
+    public JiraSyncException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,17 @@
+package com.acme.middleware.application.exceptions;
+
+import java.time.Duration;
+
+public class SyncBacklogSaturatedException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public SyncBacklogSaturatedException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
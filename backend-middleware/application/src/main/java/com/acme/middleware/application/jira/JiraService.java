@@ -4,7 +4,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import com.acme.middleware.application.dto.IssueUpsertResult;
 import com.acme.middleware.application.port.JiraEventPublisher;
+import com.acme.middleware.application.service.jira.JiraPullSyncService;
 import com.acme.middleware.application.usecase.IssueUseCase;
 import com.acme.middleware.domain.model.Issue;
 
@@ -20,15 +22,21 @@ public class JiraService {
 
     private final IssueUseCase jiraGateway;
     private final JiraEventPublisher jiraEventPublisher;
+    private final JiraPullSyncService jiraPullSyncService;
 
-    public JiraService(IssueUseCase jiraGateway, JiraEventPublisher jiraEventPublisher) {
+    public JiraService(IssueUseCase jiraGateway, JiraEventPublisher jiraEventPublisher, JiraPullSyncService jiraPullSyncService) {
         this.jiraGateway = jiraGateway;
         this.jiraEventPublisher = jiraEventPublisher;
+        this.jiraPullSyncService = jiraPullSyncService;
     }
 
+    /**
+     * Brings the given issues up to date with their state in Jira
+     */
     public void syncIssues(List<Issue> issues) {
         try {
-            //desarrollar
+            IssueUpsertResult result = jiraPullSyncService.refresh(issues);
+            log.info("Synced {} issues from Jira: {} updated, {} unchanged", result.total(), result.updated(), result.skipped());
         } catch (Exception e) {
             log.error("Failed to sync issues: {}", e.getMessage(), e);
         }
@@ -40,9 +48,10 @@ public class JiraService {
             log.info("Created Jira issue {}", key);
             return key;
         } catch (Exception e) {
-            log.error("Failed to create Jira issue: {}", e.getMessage(), e);
+            log.error("Failed to create Jira issue: {}", e.getMessage());
+            // Propagate so the sync pipeline can schedule a retry instead of storing a null key
+            throw e;
         }
-        return null;
     }
 
     public void updateIssue(String issueKey, Map<String, Object> fields) {
@@ -0,0 +1,48 @@
+package com.acme.middleware.application.port;
+
+import com.acme.middleware.application.dto.BulkCreateResult;
+import com.acme.middleware.application.dto.JiraIssueDraft;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking counterpart of {@link JiraIssuePort}: each call returns at once and completes
+ * when Jira answered, so a caller can keep many requests in flight without a thread per
+ * request. Failures complete the future exceptionally with the same exceptions the blocking
+ * port throws.
+ */
+public interface AsyncJiraIssuePort {
+
+    /**
+     * @see JiraIssuePort#createIssueWithAdf(String, String, String, String, String)
+     */
+    CompletableFuture<String> createIssueWithAdf(String summary, String description, String issueType, String duedate, String priority);
+
+    /**
+     * @see JiraIssuePort#createIssuesBulk(List)
+     */
+    CompletableFuture<List<BulkCreateResult>> createIssuesBulk(List<JiraIssueDraft> drafts);
+
+    /**
+     * @see JiraIssuePort#findIssueKeysByLabels(Collection)
+     */
+    CompletableFuture<Map<String, String>> findIssueKeysByLabels(Collection<String> labels);
+
+    /**
+     * @see JiraIssuePort#updateIssueWithAdf(String, JiraIssueDraft)
+     */
+    CompletableFuture<Void> updateIssueWithAdf(String issueKey, JiraIssueDraft draft);
+
+    /**
+     * @see JiraIssuePort#updateIssue(String, Map)
+     */
+    CompletableFuture<Void> updateIssue(String issueKey, Map<String, Object> fields);
+
+    /**
+     * @see JiraIssuePort#deleteIssue(String)
+     */
+    CompletableFuture<Void> deleteIssue(String issueKey);
+}
@@ -1,10 +1,35 @@
 package com.acme.middleware.application.port;
 
+import com.acme.middleware.application.dto.BulkCreateResult;
+import com.acme.middleware.application.dto.JiraIssueDraft;
+import com.acme.middleware.domain.model.IssueId;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Port for Jira issue operations with enhanced ADF support
  */
 public interface JiraIssuePort {
-    
+
+    /**
+     * Largest number of issues Jira accepts in one bulk create request
+     */
+    int MAX_BULK_CREATE = 50;
+
+    /**
+     * Prefix of the label every synced issue carries in Jira, followed by the local issue id
+     */
+    String IDEMPOTENCY_LABEL_PREFIX = "mw-";
+
+    /**
+     * Stable Jira label for a local issue; the same on every attempt to create it.
+     */
+    static String idempotencyLabel(IssueId issueId) {
+        return IDEMPOTENCY_LABEL_PREFIX + issueId.getValue();
+    }
+
     /**
      * Creates a Jira issue with ADF format description
      * 
@@ -16,4 +41,45 @@ public interface JiraIssuePort {
      * @return The created issue key
      */
     String createIssueWithAdf(String summary, String description, String issueType, String duedate, String priority);
-}
\ No newline at end of file
+
+    /**
+     * Creates several Jira issues with as few requests as possible. Drafts beyond
+     * {@link #MAX_BULK_CREATE} are sent in further requests.
+     *
+     * @param drafts The issues to create
+     * @return One result per draft, in the same order; failed elements carry Jira's error
+     */
+    List<BulkCreateResult> createIssuesBulk(List<JiraIssueDraft> drafts);
+
+    /**
+     * Looks up issues of the project by idempotency label.
+     *
+     * @param labels The labels to look for
+     * @return Jira key per label found; labels without an issue are absent
+     */
+    Map<String, String> findIssueKeysByLabels(Collection<String> labels);
+
+    /**
+     * Overwrites summary, description (as ADF), due date and priority of an existing issue.
+     * The issue type of the draft is ignored.
+     *
+     * @param issueKey The Jira issue key
+     * @param draft The current field values
+     */
+    void updateIssueWithAdf(String issueKey, JiraIssueDraft draft);
+
+    /**
+     * Sets the given fields of an existing issue; fields not listed keep their value.
+     *
+     * @param issueKey The Jira issue key
+     * @param fields Jira field values by field id, in Jira's JSON representation
+     */
+    void updateIssue(String issueKey, Map<String, Object> fields);
+
+    /**
+     * Deletes a Jira issue. An issue that no longer exists counts as deleted.
+     *
+     * @param issueKey The Jira issue key
+     */
+    void deleteIssue(String issueKey);
+}
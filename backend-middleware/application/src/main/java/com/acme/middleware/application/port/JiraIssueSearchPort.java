@@ -0,0 +1,59 @@
+package com.acme.middleware.application.port;
+
+import com.acme.middleware.application.dto.JiraIssuePage;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Reads issues of the configured Jira project page by page. Only the fields that are mapped to
+ * local issues are requested.
+ */
+public interface JiraIssueSearchPort {
+
+    /**
+     * Largest page Jira returns for a search with fields
+     */
+    int MAX_PAGE_SIZE = 100;
+
+    /**
+     * Issues last updated in {@code [from, to)}, oldest change first. Jira compares at minute
+     * precision, so bounds are effectively truncated to the minute.
+     *
+     * @param pageToken token from the previous page, or null for the first one
+     */
+    JiraIssuePage searchUpdated(Instant from, Instant to, String pageToken, int pageSize);
+
+    /**
+     * Issues with the given keys; keys that no longer exist are left out.
+     *
+     * @param pageToken token from the previous page, or null for the first one
+     */
+    JiraIssuePage searchByKeys(Collection<String> keys, String pageToken, int pageSize);
+
+    /**
+     * One page of the whole project in key order, starting after {@code afterKey}. The next page
+     * is asked for with the last key of this one, so a walk can be resumed from a stored key.
+     *
+     * @param afterKey last key already read, or null to start with the first issue
+     */
+    JiraIssuePage searchProject(String afterKey, int pageSize);
+
+    /**
+     * Like {@link #searchProject} but without descriptions, labels and timestamps, which make
+     * up most of a page; for comparing the project with the local issues.
+     */
+    JiraIssuePage listProject(String afterKey, int pageSize);
+
+    /**
+     * Jira's approximate number of issues in the project, for progress reporting.
+     */
+    long countProjectIssues();
+
+    /**
+     * When the most recently changed issue of the project was last updated; empty for a project
+     * without issues.
+     */
+    Optional<Instant> latestUpdate();
+}
@@ -0,0 +1,13 @@
+package com.acme.middleware.application.port;
+
+/**
+ * Guards the Jira sync backlog against unbounded growth while Jira is unreachable.
+ */
+public interface SyncAdmissionPort {
+    /**
+     * Reserves room for one more outbox event.
+     * @throws com.acme.middleware.application.exceptions.SyncBacklogSaturatedException while
+     *         the backlog is above its high-water mark
+     */
+    void admit();
+}
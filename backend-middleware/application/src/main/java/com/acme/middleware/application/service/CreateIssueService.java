@@ -3,9 +3,11 @@ package com.acme.middleware.application.service;
 import com.acme.middleware.application.dto.CreateIssueCommand;
 import com.acme.middleware.application.dto.IssueDto;
 import com.acme.middleware.application.mapper.IssueApplicationMapper;
+import com.acme.middleware.application.port.SyncAdmissionPort;
 import com.acme.middleware.application.usecase.CreateIssueUseCase;
 import com.acme.middleware.domain.event.IssueCreated;
 import com.acme.middleware.domain.model.Event;
+import com.acme.middleware.domain.model.EventConstants;
 import com.acme.middleware.domain.model.Issue;
 import com.acme.middleware.domain.model.IssueId;
 import com.acme.middleware.domain.port.DomainEventPublisher;
@@ -21,21 +23,27 @@ public class CreateIssueService implements CreateIssueUseCase {
     private final EventRepository eventRepository;
     private final DomainEventPublisher eventPublisher;
     private final IssueApplicationMapper mapper;
+    private final SyncAdmissionPort syncAdmission;
 
 
     public CreateIssueService(IssueRepository issueRepository, 
                            EventRepository eventRepository,
                            DomainEventPublisher eventPublisher,
-                           IssueApplicationMapper mapper) {
+                           IssueApplicationMapper mapper,
+                           SyncAdmissionPort syncAdmission) {
         this.issueRepository = issueRepository;
         this.eventRepository = eventRepository;
         this.eventPublisher = eventPublisher;
         this.mapper = mapper;
+        this.syncAdmission = syncAdmission;
     }
 
     @Override
     @Transactional
     public IssueDto execute(CreateIssueCommand command) {
+        // Rejected before anything is written, so the caller can simply retry later
+        syncAdmission.admit();
+
         IssueId issueId = IssueId.generate();
         Issue issue = Issue.create(issueId, command.title(), command.description(), command.dueDate(), command.priority());
         
@@ -45,8 +53,8 @@ public class CreateIssueService implements CreateIssueUseCase {
 
         eventPublisher.publish(issueCreated);
 
-        Event event = new Event(java.util.UUID.randomUUID().toString(), "IssueCreated", savedIssue.getId(), savedIssue.getTitle(), savedIssue.getDescription(), savedIssue.getPriority()); 
-        eventRepository.save(event);
+        Event event = new Event(java.util.UUID.randomUUID().toString(), EventConstants.ISSUE_CREATED, savedIssue.getId(), savedIssue.getTitle(), savedIssue.getDescription(), savedIssue.getPriority()); 
+        eventRepository.append(event);
 
         // Note: Jira integration moved to dedicated JiraIssueService
         // Business key can be set separately via the Jira API endpoints
@@ -2,24 +2,30 @@ package com.acme.middleware.application.service;
 
 import com.acme.middleware.application.usecase.DeleteIssueUseCase;
 import com.acme.middleware.domain.event.IssueDeleted;
+import com.acme.middleware.domain.model.Event;
 import com.acme.middleware.domain.model.Issue;
 import com.acme.middleware.domain.port.DomainEventPublisher;
+import com.acme.middleware.domain.port.EventRepository;
 import com.acme.middleware.domain.port.IssueRepository;
 import com.acme.middleware.application.exceptions.IssueNotFoundException;
+import org.springframework.transaction.annotation.Transactional;
 import java.time.Instant;
 import java.util.UUID;
 
 public class DeleteIssueService implements DeleteIssueUseCase {
 
     private final IssueRepository issueRepository;
+    private final EventRepository eventRepository;
     private final DomainEventPublisher eventPublisher;
 
-    public DeleteIssueService(IssueRepository issueRepository, DomainEventPublisher eventPublisher) {
+    public DeleteIssueService(IssueRepository issueRepository, EventRepository eventRepository, DomainEventPublisher eventPublisher) {
         this.issueRepository = issueRepository;
+        this.eventRepository = eventRepository;
         this.eventPublisher = eventPublisher;
     }   
 
     @Override
+    @Transactional
     public void execute(UUID issue) {
 
         Issue issueDel = issueRepository.findById(issue)
@@ -27,9 +33,10 @@ public class DeleteIssueService implements DeleteIssueUseCase {
         
         issueRepository.deleteById(issueDel.getId().getValue());
 
-        // Note: Jira integration moved to dedicated JiraIssueService
+        // The Jira key is captured now; the issue row is gone by the time the outbox is drained
+        eventRepository.append(Event.issueDeleted(UUID.randomUUID().toString(), issueDel.getId(), issueDel.getBusinessKey(), issueDel.getPriority()));
 
         IssueDeleted event = new IssueDeleted(issueDel.getId(), Instant.now());
-        //eventPublisher.publish(event);
+        eventPublisher.publish(event);
     }
 }
\ No newline at end of file
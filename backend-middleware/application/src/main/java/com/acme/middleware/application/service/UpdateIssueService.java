@@ -6,9 +6,13 @@ import com.acme.middleware.application.exceptions.IssueNotFoundException;
 import com.acme.middleware.application.mapper.IssueApplicationMapper;
 import com.acme.middleware.application.usecase.UpdateIssueUseCase;
 import com.acme.middleware.domain.event.IssueUpdated;
+import com.acme.middleware.domain.model.Event;
+import com.acme.middleware.domain.model.EventConstants;
 import com.acme.middleware.domain.model.Issue;
 import com.acme.middleware.domain.port.DomainEventPublisher;
+import com.acme.middleware.domain.port.EventRepository;
 import com.acme.middleware.domain.port.IssueRepository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
 import java.util.UUID;
@@ -16,13 +20,16 @@ import java.util.UUID;
 public class UpdateIssueService implements UpdateIssueUseCase {
 
     private final IssueRepository issueRepository;
+    private final EventRepository eventRepository;
     private final DomainEventPublisher eventPublisher;
     private final IssueApplicationMapper mapper;
 
     public UpdateIssueService(IssueRepository issueRepository,
+                           EventRepository eventRepository,
                            DomainEventPublisher eventPublisher,
                            IssueApplicationMapper mapper) {
         this.issueRepository = issueRepository;
+        this.eventRepository = eventRepository;
         this.eventPublisher = eventPublisher;
         this.mapper = mapper;
     }
@@ -58,7 +65,11 @@ public class UpdateIssueService implements UpdateIssueUseCase {
             updatedIssue.getStatus(),
             Instant.now()
         );
-       // eventPublisher.publish(event);
+        eventPublisher.publish(event);
+
+        // Same transaction as the change, so Jira hears about every committed update
+        Event outboxEvent = new Event(UUID.randomUUID().toString(), EventConstants.ISSUE_UPDATED, updatedIssue.getId(), updatedIssue.getTitle(), updatedIssue.getDescription(), updatedIssue.getPriority());
+        eventRepository.append(outboxEvent);
 
         return mapper.toDto(updatedIssue);
     }
@@ -0,0 +1,43 @@
+package com.acme.middleware.application.service.jira;
+
+import com.acme.middleware.application.port.AsyncJiraIssuePort;
+import com.acme.middleware.application.usecase.AsyncIssueUseCase;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.stereotype.Service;
+
+/**
+ * Non-blocking Jira issue operations on top of {@link AsyncJiraIssuePort}, so they share the
+ * concurrency limit of the outbox dispatch.
+ */
+@Service
+public class AsyncJiraIssueService implements AsyncIssueUseCase {
+
+    private final AsyncJiraIssuePort jiraIssuePort;
+
+    public AsyncJiraIssueService(AsyncJiraIssuePort jiraIssuePort) {
+        this.jiraIssuePort = jiraIssuePort;
+    }
+
+    @Override
+    public CompletableFuture<String> createIssue(String summary, String description, String issueType, Instant dueDate, String priority) {
+        // Jira date fields take a plain YYYY-MM-DD date
+        String duedate = dueDate != null ? LocalDate.ofInstant(dueDate, ZoneOffset.UTC).toString() : null;
+        return jiraIssuePort.createIssueWithAdf(summary, description, issueType, duedate, priority);
+    }
+
+    @Override
+    public CompletableFuture<Void> updateIssue(String issueKey, Map<String, Object> fields) {
+        return jiraIssuePort.updateIssue(issueKey, fields);
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteIssue(String issueKey) {
+        return jiraIssuePort.deleteIssue(issueKey);
+    }
+}
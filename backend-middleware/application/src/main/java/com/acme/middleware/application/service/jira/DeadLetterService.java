@@ -0,0 +1,85 @@
+package com.acme.middleware.application.service.jira;
+
+import com.acme.middleware.application.dto.DeadLetterPage;
+import com.acme.middleware.application.usecase.ListDeadLettersUseCase;
+import com.acme.middleware.application.usecase.ReplayDeadLettersUseCase;
+import com.acme.middleware.domain.model.DeadLetterEvent;
+import com.acme.middleware.domain.port.DeadLetterRepository;
+import com.acme.middleware.domain.port.EventRepository;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Inspection and replay of events that exhausted their retries. A replay is one transaction per
+ * request, bounded by {@link #MAX_PAGE_SIZE}, so recovering from a long Jira outage is a series
+ * of short calls rather than one long lock-holding one.
+ */
+@Service
+public class DeadLetterService implements ListDeadLettersUseCase, ReplayDeadLettersUseCase {
+
+    public static final int MAX_PAGE_SIZE = 500;
+
+    private static final Logger log = LoggerFactory.getLogger(DeadLetterService.class);
+
+    private final DeadLetterRepository deadLetterRepository;
+    private final EventRepository eventRepository;
+
+    public DeadLetterService(DeadLetterRepository deadLetterRepository, EventRepository eventRepository) {
+        this.deadLetterRepository = deadLetterRepository;
+        this.eventRepository = eventRepository;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public DeadLetterPage execute(String errorClass, int page, int size) {
+        validatePaging(page, size);
+        List<DeadLetterEvent> items = deadLetterRepository.findPage(errorClass, page, size);
+        return new DeadLetterPage(items, page, size, deadLetterRepository.count(errorClass));
+    }
+
+    @Override
+    @Transactional
+    public int replay(List<String> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("At least one dead letter id is required");
+        }
+        if (ids.size() > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Cannot replay more than " + MAX_PAGE_SIZE + " dead letters at once");
+        }
+        return requeue(deadLetterRepository.findAllById(ids));
+    }
+
+    @Override
+    @Transactional
+    public int replayByErrorClass(String errorClass, int limit) {
+        if (errorClass == null || errorClass.isBlank()) {
+            throw new IllegalArgumentException("Error class is required");
+        }
+        validatePaging(0, limit);
+        return requeue(deadLetterRepository.findPage(errorClass, 0, limit));
+    }
+
+    private int requeue(List<DeadLetterEvent> deadLetters) {
+        if (deadLetters.isEmpty()) {
+            return 0;
+        }
+        deadLetters.forEach(deadLetter -> eventRepository.append(deadLetter.toReplayEvent()));
+        deadLetterRepository.deleteAllById(deadLetters.stream().map(DeadLetterEvent::getId).toList());
+        log.info("Replayed {} dead-lettered event(s) into the outbox", deadLetters.size());
+        return deadLetters.size();
+    }
+
+    private static void validatePaging(int page, int size) {
+        if (page < 0) {
+            throw new IllegalArgumentException("Page must not be negative");
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.acme.middleware.application.service.jira;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Two-level Merkle-style summary of a set of issues: a fingerprint per issue, a digest per
+ * bucket of issue keys, and a root over the buckets. Two trees built from the same issues have
+ * the same root; otherwise only the buckets whose digests differ need to be looked into.
+ * Digests are sums of fingerprints, so issues can be added in any order.
+ */
+final class IssueDigestTree {
+
+    private final List<Map<String, Long>> leaves;
+    private final long[] digests;
+
+    IssueDigestTree(int buckets) {
+        this.leaves = new ArrayList<>(buckets);
+        for (int i = 0; i < buckets; i++) {
+            leaves.add(new HashMap<>());
+        }
+        this.digests = new long[buckets];
+    }
+
+    static int bucketOf(String key, int buckets) {
+        return Math.floorMod(key.hashCode(), buckets);
+    }
+
+    void add(String key, long fingerprint) {
+        int bucket = bucketOf(key, digests.length);
+        Long previous = leaves.get(bucket).put(key, fingerprint);
+        digests[bucket] += fingerprint - (previous != null ? previous : 0);
+    }
+
+    int buckets() {
+        return digests.length;
+    }
+
+    long root() {
+        long root = 0;
+        for (long digest : digests) {
+            root = root * 31 + digest;
+        }
+        return root;
+    }
+
+    long digest(int bucket) {
+        return digests[bucket];
+    }
+
+    /**
+     * @return fingerprint per issue key of one bucket
+     */
+    Map<String, Long> leaves(int bucket) {
+        return leaves.get(bucket);
+    }
+
+    List<Integer> mismatchingBuckets(IssueDigestTree other) {
+        if (other.buckets() != buckets()) {
+            throw new IllegalArgumentException("Trees have different bucket counts");
+        }
+        List<Integer> mismatching = new ArrayList<>();
+        if (root() == other.root()) {
+            return mismatching;
+        }
+        for (int bucket = 0; bucket < digests.length; bucket++) {
+            if (digests[bucket] != other.digests[bucket]) {
+                mismatching.add(bucket);
+            }
+        }
+        return mismatching;
+    }
+}
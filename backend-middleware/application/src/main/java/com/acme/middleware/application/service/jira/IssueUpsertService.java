@@ -0,0 +1,141 @@
+package com.acme.middleware.application.service.jira;
+
+import com.acme.middleware.application.dto.IssueUpsertResult;
+import com.acme.middleware.application.dto.JiraIssueSnapshot;
+import com.acme.middleware.application.port.JiraIssuePort;
+import com.acme.middleware.domain.model.Issue;
+import com.acme.middleware.domain.model.IssueConstants;
+import com.acme.middleware.domain.model.IssueId;
+import com.acme.middleware.domain.port.IssueRepository;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Writes issues read from Jira into the local table, one transaction per page. Jira is the
+ * source of truth unless the local issue changed after Jira's last update: such an edit is
+ * still on its way to Jira through the outbox and is left alone. Nothing is written to the
+ * outbox here, so imported state is never echoed back to Jira.
+ * <p>
+ * Concurrent pull slices can both see a new Jira issue as unknown, so new issues are written
+ * by business key and the slower writer updates the row the other one inserted.
+ */
+@Service
+public class IssueUpsertService {
+
+    private final IssueRepository issueRepository;
+
+    public IssueUpsertService(IssueRepository issueRepository) {
+        this.issueRepository = issueRepository;
+    }
+
+    @Transactional
+    public IssueUpsertResult upsert(List<JiraIssueSnapshot> snapshots) {
+        // An issue updated while it was being paged can show up twice; the later state wins
+        Map<String, JiraIssueSnapshot> latest = new LinkedHashMap<>();
+        for (JiraIssueSnapshot snapshot : snapshots) {
+            latest.merge(snapshot.key(), snapshot, (a, b) -> b.updated().isAfter(a.updated()) ? b : a);
+        }
+        if (latest.isEmpty()) {
+            return IssueUpsertResult.NONE;
+        }
+
+        Map<String, Issue> byKey = issueRepository.findAllByBusinessKey(latest.keySet()).stream()
+                .collect(Collectors.toMap(Issue::getBusinessKey, Function.identity(), (a, b) -> a));
+        // Created from here, but the Jira key was not recorded yet: found by idempotency label
+        List<UUID> labelled = latest.values().stream()
+                .filter(snapshot -> !byKey.containsKey(snapshot.key()))
+                .map(IssueUpsertService::localId)
+                .flatMap(Optional::stream)
+                .toList();
+        Map<IssueId, Issue> byId = labelled.isEmpty() ? Map.of() : issueRepository.findAllById(labelled).stream()
+                .collect(Collectors.toMap(Issue::getId, Function.identity()));
+
+        List<Issue> changed = new ArrayList<>();
+        List<Issue> added = new ArrayList<>();
+        int created = 0;
+        int updated = 0;
+        int skipped = 0;
+        for (JiraIssueSnapshot snapshot : latest.values()) {
+            Issue issue = byKey.get(snapshot.key());
+            if (issue == null) {
+                issue = localId(snapshot).map(id -> byId.get(IssueId.of(id))).orElse(null);
+            }
+            if (issue == null) {
+                added.add(newIssue(snapshot));
+                created++;
+            } else if (issue.getUpdatedAt().isAfter(snapshot.updated()) || matches(issue, snapshot)) {
+                skipped++;
+            } else {
+                issue.applyJiraState(snapshot.key(), snapshot.summary(), description(snapshot), snapshot.status(),
+                        snapshot.dueDate(), snapshot.priority(), snapshot.updated());
+                changed.add(issue);
+                updated++;
+            }
+        }
+        issueRepository.saveAll(changed);
+        issueRepository.upsertAllByBusinessKey(added);
+        return new IssueUpsertResult(created, updated, skipped);
+    }
+
+    static Issue newIssue(JiraIssueSnapshot snapshot) {
+        Instant created = snapshot.created() != null ? snapshot.created() : snapshot.updated();
+        return Issue.restore(IssueId.generate(), snapshot.summary(), description(snapshot), snapshot.status(),
+                created, snapshot.updated(), snapshot.dueDate(), snapshot.priority(), snapshot.key());
+    }
+
+    private static boolean matches(Issue issue, JiraIssueSnapshot snapshot) {
+        return snapshot.key().equals(issue.getBusinessKey())
+                && Objects.equals(issue.getTitle(), snapshot.summary().trim())
+                && Objects.equals(issue.getDescription(), description(snapshot))
+                && issue.getStatus() == snapshot.status()
+                && Objects.equals(issue.getPriority(), snapshot.priority() != null ? snapshot.priority() : IssueConstants.DEFAULT_PRIORITY)
+                // Jira keeps a date, the local side an instant
+                && Objects.equals(day(issue.getDueDate()), day(snapshot.dueDate()));
+    }
+
+    private static String description(JiraIssueSnapshot snapshot) {
+        String description = snapshot.description();
+        if (description != null && description.length() > IssueConstants.MAX_DESCRIPTION_LENGTH) {
+            return description.substring(0, IssueConstants.MAX_DESCRIPTION_LENGTH);
+        }
+        return description;
+    }
+
+    private static LocalDate day(Instant instant) {
+        return instant != null ? LocalDate.ofInstant(instant, ZoneOffset.UTC) : null;
+    }
+
+    static Optional<UUID> localId(JiraIssueSnapshot snapshot) {
+        if (snapshot.labels() == null) {
+            return Optional.empty();
+        }
+        return snapshot.labels().stream()
+                .filter(label -> label.startsWith(JiraIssuePort.IDEMPOTENCY_LABEL_PREFIX))
+                .map(label -> label.substring(JiraIssuePort.IDEMPOTENCY_LABEL_PREFIX.length()))
+                .flatMap(IssueUpsertService::parseUuid)
+                .findFirst();
+    }
+
+    private static Stream<UUID> parseUuid(String value) {
+        try {
+            return Stream.of(UUID.fromString(value));
+        } catch (IllegalArgumentException e) {
+            return Stream.empty();
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.acme.middleware.application.service.jira;
+
+import com.acme.middleware.application.dto.BackfillProgress;
+import com.acme.middleware.application.dto.JiraIssuePage;
+import com.acme.middleware.application.dto.JiraIssueSnapshot;
+import com.acme.middleware.application.exceptions.BackfillInProgressException;
+import com.acme.middleware.application.port.JiraIssueSearchPort;
+import com.acme.middleware.application.usecase.BackfillJiraProjectUseCase;
+import com.acme.middleware.domain.model.SyncCheckpoint;
+import com.acme.middleware.domain.port.IssueRepository;
+import com.acme.middleware.domain.port.SyncCheckpointRepository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Imports every issue of the Jira project into the local table, for onboarding a project that
+ * already has issues. The project is walked in key order one page at a time and each page is
+ * written as it arrives, so memory does not grow with the project. The last key written is
+ * stored after each page: a run that stops (restart, lost leadership, Jira down) continues
+ * after it. Pages are written idempotently, so a page written before a crash but not yet
+ * checkpointed is simply written again.
+ */
+public class JiraBackfillService implements BackfillJiraProjectUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(JiraBackfillService.class);
+
+    public static final String CHECKPOINT = "jira-backfill";
+
+    private final JiraIssueSearchPort searchPort;
+    private final IssueUpsertService upsertService;
+    private final IssueRepository issueRepository;
+    private final SyncCheckpointRepository checkpointRepository;
+    private final int pageSize;
+
+    public JiraBackfillService(JiraIssueSearchPort searchPort, IssueUpsertService upsertService, IssueRepository issueRepository,
+                               SyncCheckpointRepository checkpointRepository, int pageSize) {
+        this.searchPort = searchPort;
+        this.upsertService = upsertService;
+        this.issueRepository = issueRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.pageSize = pageSize;
+    }
+
+    @Override
+    public BackfillProgress start() {
+        SyncCheckpoint checkpoint = checkpointRepository.findByName(CHECKPOINT)
+                .orElseGet(() -> SyncCheckpoint.start(CHECKPOINT));
+        if (checkpoint.isActive()) {
+            throw new BackfillInProgressException("A Jira backfill is already " + checkpoint.getState().name().toLowerCase());
+        }
+        checkpoint.request();
+        return BackfillProgress.of(checkpointRepository.save(checkpoint));
+    }
+
+    @Override
+    public Optional<BackfillProgress> progress() {
+        return checkpointRepository.findByName(CHECKPOINT).map(BackfillProgress::of);
+    }
+
+    /**
+     * Runs or resumes the requested backfill until the project is exhausted.
+     *
+     * @param active checked before each page; once false the run stops and stays resumable
+     */
+    public void run(BooleanSupplier active) {
+        SyncCheckpoint checkpoint = checkpointRepository.findByName(CHECKPOINT)
+                .filter(SyncCheckpoint::isActive)
+                .orElse(null);
+        if (checkpoint == null) {
+            return;
+        }
+        if (checkpoint.getState() == SyncCheckpoint.State.REQUESTED) {
+            checkpoint.begin(searchPort.countProjectIssues());
+            checkpointRepository.save(checkpoint);
+            log.info("Jira backfill started, about {} issues", checkpoint.getTotal());
+        } else {
+            log.info("Jira backfill resumed after {} ({} issues done)", checkpoint.getCursor(), checkpoint.getProcessed());
+        }
+
+        JiraIssuePage page;
+        do {
+            if (!active.getAsBoolean()) {
+                log.info("Jira backfill paused after {}", checkpoint.getCursor());
+                return;
+            }
+            page = searchPort.searchProject(checkpoint.getCursor(), pageSize);
+            if (page.issues().isEmpty()) {
+                break;
+            }
+            write(page.issues());
+            checkpoint.recordPage(page.issues().getLast().key(), page.issues().size());
+            checkpointRepository.save(checkpoint);
+        } while (!page.isLast());
+
+        checkpoint.complete();
+        checkpointRepository.save(checkpoint);
+        log.info("Jira backfill completed: {} issues", checkpoint.getProcessed());
+    }
+
+    private void write(List<JiraIssueSnapshot> snapshots) {
+        // Issues created from here may be stored without their key yet; only the label finds them
+        Map<Boolean, List<JiraIssueSnapshot>> createdHere = snapshots.stream()
+                .collect(Collectors.partitioningBy(snapshot -> IssueUpsertService.localId(snapshot).isPresent()));
+        upsertService.upsert(createdHere.get(true));
+        issueRepository.upsertAllByBusinessKey(createdHere.get(false).stream()
+                .map(IssueUpsertService::newIssue)
+                .toList());
+    }
+}
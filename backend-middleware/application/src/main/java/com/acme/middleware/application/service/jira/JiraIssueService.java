@@ -25,7 +25,7 @@ public class JiraIssueService {
      * 
      * @param summary The issue summary/title
      * @param description The issue description (will be converted to ADF)
-     * @param issueType The type of issue (default: "Task")
+     * @param issueType The type of issue (null for the configured default type)
      * @return The created issue key
      */
     public String createIssue(String summary, String description, String issueType) {
@@ -37,7 +37,7 @@ public class JiraIssueService {
      * 
      * @param summary The issue summary/title
      * @param description The issue description (will be converted to ADF)
-     * @param issueType The type of issue (default: "Task")
+     * @param issueType The type of issue (null for the configured default type)
      * @param duedate The due date in YYYY-MM-DD format
      * @param priority The priority name (e.g., "High", "Medium", "Low")
      * @return The created issue key
@@ -50,8 +50,8 @@ public class JiraIssueService {
             throw new IllegalArgumentException("Issue summary cannot be null or empty");
         }
         
-        if (issueType == null || issueType.trim().isEmpty()) {
-            issueType = "Task"; // Default issue type
+        if (issueType != null && issueType.trim().isEmpty()) {
+            issueType = null; // Resolved to the configured default type
         }
         
         try {
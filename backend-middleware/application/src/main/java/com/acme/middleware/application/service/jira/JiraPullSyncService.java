@@ -0,0 +1,170 @@
+package com.acme.middleware.application.service.jira;
+
+import com.acme.middleware.application.dto.IssueUpsertResult;
+import com.acme.middleware.application.dto.JiraIssuePage;
+import com.acme.middleware.application.exceptions.JiraSyncException;
+import com.acme.middleware.application.port.JiraIssueSearchPort;
+import com.acme.middleware.domain.model.Issue;
+import com.acme.middleware.domain.model.SyncCheckpoint;
+import com.acme.middleware.domain.port.SyncCheckpointRepository;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Pulls issues changed in Jira since the last run into the local table, as a safety net for
+ * webhooks Jira failed to deliver. Each run covers {@code [watermark - overlap, now)}, split
+ * into time slices that are paged through concurrently; the watermark only moves once every
+ * slice went through, so a failed run is simply repeated. Upserts are idempotent, which makes
+ * the overlap (covering Jira's indexing lag and clock skew) harmless.
+ */
+public class JiraPullSyncService {
+
+    public static final String CHECKPOINT = "jira-pull";
+
+    private static final Logger log = LoggerFactory.getLogger(JiraPullSyncService.class);
+
+    /**
+     * @param pageSize issues per Jira request
+     * @param parallelism time slices paged through at the same time
+     * @param overlap how far each run reaches back before the watermark
+     * @param initialLookback window of the very first run, when there is no watermark yet
+     */
+    public record Settings(int pageSize, int parallelism, Duration overlap, Duration initialLookback) {
+        public Settings {
+            if (pageSize < 1 || pageSize > JiraIssueSearchPort.MAX_PAGE_SIZE) {
+                throw new IllegalArgumentException("Page size must be between 1 and " + JiraIssueSearchPort.MAX_PAGE_SIZE);
+            }
+            if (parallelism < 1) {
+                throw new IllegalArgumentException("Parallelism must be at least 1");
+            }
+            Objects.requireNonNull(overlap, "Overlap cannot be null");
+            Objects.requireNonNull(initialLookback, "Initial lookback cannot be null");
+        }
+    }
+
+    private final JiraIssueSearchPort searchPort;
+    private final IssueUpsertService upsertService;
+    private final SyncCheckpointRepository checkpointRepository;
+    private final Settings settings;
+    private final Clock clock;
+
+    public JiraPullSyncService(JiraIssueSearchPort searchPort, IssueUpsertService upsertService,
+                               SyncCheckpointRepository checkpointRepository, Settings settings, Clock clock) {
+        this.searchPort = searchPort;
+        this.upsertService = upsertService;
+        this.checkpointRepository = checkpointRepository;
+        this.settings = settings;
+        this.clock = clock;
+    }
+
+    /**
+     * Runs one incremental pull and advances the watermark.
+     *
+     * @throws JiraSyncException if any slice failed; the watermark is then left where it was
+     */
+    public IssueUpsertResult pull() {
+        // Jira compares at minute precision; the current minute is left to the next run
+        Instant to = clock.instant().truncatedTo(ChronoUnit.MINUTES);
+        SyncCheckpoint checkpoint = checkpointRepository.findByName(CHECKPOINT)
+                .orElseGet(() -> SyncCheckpoint.start(CHECKPOINT));
+        Instant from = (checkpoint.getWatermark() != null
+                ? checkpoint.getWatermark().minus(settings.overlap())
+                : to.minus(settings.initialLookback())).truncatedTo(ChronoUnit.MINUTES);
+        if (!from.isBefore(to)) {
+            return IssueUpsertResult.NONE;
+        }
+
+        List<Instant> bounds = slices(from, to, settings.parallelism());
+        IssueUpsertResult result = IssueUpsertResult.NONE;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<IssueUpsertResult>> slices = new ArrayList<>(bounds.size() - 1);
+            for (int i = 0; i < bounds.size() - 1; i++) {
+                Instant sliceFrom = bounds.get(i);
+                Instant sliceTo = bounds.get(i + 1);
+                slices.add(executor.submit(() -> drain(token -> searchPort.searchUpdated(sliceFrom, sliceTo, token, settings.pageSize()))));
+            }
+            for (Future<IssueUpsertResult> slice : slices) {
+                result = result.plus(await(slice));
+            }
+        }
+
+        checkpoint.advanceTo(to);
+        checkpointRepository.save(checkpoint);
+        log.info("Pulled Jira changes from {} to {}: {} created, {} updated, {} unchanged",
+                from, to, result.created(), result.updated(), result.skipped());
+        return result;
+    }
+
+    /**
+     * Re-reads the given issues from Jira. Issues not linked to Jira yet are ignored.
+     */
+    public IssueUpsertResult refresh(List<Issue> issues) {
+        List<String> keys = issues.stream()
+                .map(Issue::getBusinessKey)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        IssueUpsertResult result = IssueUpsertResult.NONE;
+        for (int from = 0; from < keys.size(); from += settings.pageSize()) {
+            List<String> chunk = keys.subList(from, Math.min(from + settings.pageSize(), keys.size()));
+            result = result.plus(drain(token -> searchPort.searchByKeys(chunk, token, settings.pageSize())));
+        }
+        return result;
+    }
+
+    /**
+     * Upserts page after page, each in its own transaction, until the search is exhausted
+     */
+    private IssueUpsertResult drain(Function<String, JiraIssuePage> search) {
+        IssueUpsertResult result = IssueUpsertResult.NONE;
+        String token = null;
+        do {
+            JiraIssuePage page = search.apply(token);
+            result = result.plus(upsertService.upsert(page.issues()));
+            token = page.nextPageToken();
+        } while (token != null);
+        return result;
+    }
+
+    /**
+     * Splits {@code [from, to)} into at most {@code count} minute-aligned slices of equal length.
+     *
+     * @return the slice bounds, from first to last
+     */
+    static List<Instant> slices(Instant from, Instant to, int count) {
+        long minutes = Math.max(1, Duration.between(from, to).toMinutes());
+        int n = (int) Math.min(count, minutes);
+        long step = (minutes + n - 1) / n;
+        List<Instant> bounds = new ArrayList<>(n + 1);
+        for (Instant bound = from; bound.isBefore(to); bound = bound.plus(step, ChronoUnit.MINUTES)) {
+            bounds.add(bound);
+        }
+        bounds.add(to);
+        return bounds;
+    }
+
+    private static IssueUpsertResult await(Future<IssueUpsertResult> slice) {
+        try {
+            return slice.get();
+        } catch (ExecutionException e) {
+            throw new JiraSyncException("Jira pull failed: " + e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JiraSyncException("Jira pull interrupted");
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.acme.middleware.application.service.jira;
+
+import com.acme.middleware.application.dto.IssueUpsertResult;
+import com.acme.middleware.application.dto.JiraIssuePage;
+import com.acme.middleware.application.dto.JiraIssueSnapshot;
+import com.acme.middleware.application.dto.ReconciliationReport;
+import com.acme.middleware.application.port.JiraIssueSearchPort;
+import com.acme.middleware.domain.model.Issue;
+import com.acme.middleware.domain.model.IssueConstants;
+import com.acme.middleware.domain.model.IssueStatus;
+import com.acme.middleware.domain.port.IssueRepository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Finds local issues that drifted from Jira, for example after missed webhooks or syncs that
+ * failed for good. Both sides are summarized into an {@link IssueDigestTree} over the synced
+ * fields (summary, status, priority, due date); when the roots match nothing else is done.
+ * Otherwise only the issues in mismatching buckets are compared, and those that are missing or
+ * differ locally are re-read from Jira in full and upserted, which keeps local edits still on
+ * their way to Jira. Jira cannot compute digests itself, so its side is built from a listing
+ * of the whole project without descriptions. The tree therefore saves the per-issue comparison
+ * and the full reads of issues that did not drift, not Jira calls: every run that gets past the
+ * pre-check below pages through the entire project.
+ * <p>
+ * The pre-check compares what both sides can tell cheaply: the number of linked issues and the
+ * time of the newest change. Only when both are exactly equal is the run skipped. A local side
+ * that is newer is never taken as agreement, since that is what a local edit that failed or was
+ * dead-lettered on its way to Jira looks like. Jira's count is approximate, so a count that is
+ * off merely costs a full comparison.
+ * <p>
+ * Descriptions are not part of the fingerprint, so a description that drifted on its own is not
+ * repaired here; it is brought over by the next pull that sees the issue updated in Jira, or when
+ * another field of the issue differs and the issue is re-read in full.
+ */
+public class JiraReconciliationService {
+
+    private static final Logger log = LoggerFactory.getLogger(JiraReconciliationService.class);
+
+    private static final int LOCAL_PAGE_SIZE = 500;
+    private static final int LOGGED_KEYS = 20;
+
+    private final JiraIssueSearchPort searchPort;
+    private final IssueRepository issueRepository;
+    private final IssueUpsertService upsertService;
+    private final int buckets;
+    private final int pageSize;
+
+    public JiraReconciliationService(JiraIssueSearchPort searchPort, IssueRepository issueRepository,
+                                     IssueUpsertService upsertService, int buckets, int pageSize) {
+        this.searchPort = searchPort;
+        this.issueRepository = issueRepository;
+        this.upsertService = upsertService;
+        this.buckets = buckets;
+        this.pageSize = pageSize;
+    }
+
+    public ReconciliationReport reconcile() {
+        if (sidesAgree()) {
+            log.info("Reconciled with Jira: issue count and latest update match, nothing compared");
+            return new ReconciliationReport(buckets, 0, 0, 0, 0, IssueUpsertResult.NONE);
+        }
+        IssueDigestTree jira = jiraTree();
+        IssueDigestTree local = localTree();
+        List<Integer> mismatching = jira.mismatchingBuckets(local);
+
+        List<String> missingLocally = new ArrayList<>();
+        List<String> missingInJira = new ArrayList<>();
+        List<String> differing = new ArrayList<>();
+        for (int bucket : mismatching) {
+            Map<String, Long> jiraLeaves = jira.leaves(bucket);
+            Map<String, Long> localLeaves = local.leaves(bucket);
+            jiraLeaves.forEach((key, fingerprint) -> {
+                Long localFingerprint = localLeaves.get(key);
+                if (localFingerprint == null) {
+                    missingLocally.add(key);
+                } else if (!localFingerprint.equals(fingerprint)) {
+                    differing.add(key);
+                }
+            });
+            localLeaves.keySet().stream().filter(key -> !jiraLeaves.containsKey(key)).forEach(missingInJira::add);
+        }
+
+        List<String> drifted = new ArrayList<>(missingLocally);
+        drifted.addAll(differing);
+        IssueUpsertResult repaired = IssueUpsertResult.NONE;
+        for (int from = 0; from < drifted.size(); from += JiraIssueSearchPort.MAX_PAGE_SIZE) {
+            List<String> chunk = drifted.subList(from, Math.min(from + JiraIssueSearchPort.MAX_PAGE_SIZE, drifted.size()));
+            repaired = repaired.plus(upsertService.upsert(searchPort.searchByKeys(chunk, null, chunk.size()).issues()));
+        }
+        if (!missingInJira.isEmpty()) {
+            // Deleted in Jira, or the delete never reached this side; left for a person to decide
+            log.warn("{} local issues link to Jira keys that no longer exist, e.g. {}",
+                    missingInJira.size(), missingInJira.subList(0, Math.min(LOGGED_KEYS, missingInJira.size())));
+        }
+
+        ReconciliationReport report = new ReconciliationReport(buckets, mismatching.size(), missingLocally.size(),
+                missingInJira.size(), differing.size(), repaired);
+        log.info("Reconciled with Jira: {}/{} buckets differed, {} missing locally, {} missing in Jira, {} differing, {} repaired",
+                report.mismatchedBuckets(), buckets, report.missingLocally(), report.missingInJira(), report.differing(),
+                repaired.created() + repaired.updated());
+        return report;
+    }
+
+    /**
+     * Jira's count is approximate and may lag a fresh change; that only means a run that could
+     * have been skipped compares the digests.
+     */
+    private boolean sidesAgree() {
+        long localCount = issueRepository.countLinked();
+        if (searchPort.countProjectIssues() != localCount) {
+            return false;
+        }
+        if (localCount == 0) {
+            return true;
+        }
+        Optional<Instant> jiraLatest = searchPort.latestUpdate();
+        return jiraLatest.isPresent() && jiraLatest.equals(issueRepository.findLatestLinkedUpdate());
+    }
+
+    private IssueDigestTree jiraTree() {
+        IssueDigestTree tree = new IssueDigestTree(buckets);
+        String afterKey = null;
+        JiraIssuePage page;
+        do {
+            page = searchPort.listProject(afterKey, pageSize);
+            for (JiraIssueSnapshot snapshot : page.issues()) {
+                tree.add(snapshot.key(), fingerprint(snapshot.key(), snapshot.summary(), snapshot.status(),
+                        snapshot.priority(), snapshot.dueDate()));
+            }
+            if (!page.issues().isEmpty()) {
+                afterKey = page.issues().getLast().key();
+            }
+        } while (!page.isLast() && !page.issues().isEmpty());
+        return tree;
+    }
+
+    private IssueDigestTree localTree() {
+        IssueDigestTree tree = new IssueDigestTree(buckets);
+        String afterKey = null;
+        List<Issue> page;
+        do {
+            page = issueRepository.findLinkedAfter(afterKey, LOCAL_PAGE_SIZE);
+            for (Issue issue : page) {
+                tree.add(issue.getBusinessKey(), fingerprint(issue.getBusinessKey(), issue.getTitle(), issue.getStatus(),
+                        issue.getPriority(), issue.getDueDate()));
+            }
+            if (!page.isEmpty()) {
+                afterKey = page.getLast().getBusinessKey();
+            }
+        } while (page.size() == LOCAL_PAGE_SIZE);
+        return tree;
+    }
+
+    /**
+     * 64-bit FNV-1a over the synced fields, normalized the way an upsert stores them
+     */
+    static long fingerprint(String key, String title, IssueStatus status, String priority, Instant dueDate) {
+        String canonical = String.join("\u0000",
+                key,
+                title != null ? title.trim() : "",
+                status != null ? status.name() : "",
+                priority != null ? priority : IssueConstants.DEFAULT_PRIORITY,
+                // Jira keeps a date, the local side an instant
+                dueDate != null ? LocalDate.ofInstant(dueDate, ZoneOffset.UTC).toString() : "");
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : canonical.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+}
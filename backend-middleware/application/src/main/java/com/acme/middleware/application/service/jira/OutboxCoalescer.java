@@ -0,0 +1,79 @@
+package com.acme.middleware.application.service.jira;
+
+import com.acme.middleware.application.dto.SyncOperation;
+import com.acme.middleware.application.dto.SyncOperation.Kind;
+import com.acme.middleware.domain.model.Event;
+import com.acme.middleware.domain.model.EventConstants;
+import com.acme.middleware.domain.model.IssueId;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Folds the claimed events of each issue into a single net operation, so a burst of edits
+ * costs one Jira round-trip. Jira always receives the issue's current state, which is why
+ * the intermediate updates can be dropped:
+ * <ul>
+ *   <li>create + update* becomes one create</li>
+ *   <li>update + update* becomes one update</li>
+ *   <li>create + ... + delete becomes a no-op</li>
+ *   <li>update* + delete becomes one delete</li>
+ * </ul>
+ * A create that was already dispatched may exist in Jira, so followed by a delete it becomes a
+ * delete rather than a no-op.
+ */
+@Component
+public class OutboxCoalescer {
+
+    // Stable, so events created in the same instant keep their claim order
+    private static final Comparator<Event> OLDEST_FIRST =
+            Comparator.comparing(Event::getCreatedAt, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    /**
+     * Claims come ordered by priority class first, so a later HIGH update can precede an older
+     * MEDIUM event of the same issue; each issue's events are put back in creation order before
+     * they are folded.
+     *
+     * @param events claimed events
+     * @return one operation per issue, in order of each issue's first claimed event
+     */
+    public List<SyncOperation> coalesce(List<Event> events) {
+        Map<IssueId, List<Event>> byIssue = new LinkedHashMap<>();
+        for (Event event : events) {
+            byIssue.computeIfAbsent(event.getEntityId(), id -> new ArrayList<>()).add(event);
+        }
+        byIssue.values().forEach(issueEvents -> issueEvents.sort(OLDEST_FIRST));
+
+        List<SyncOperation> operations = new ArrayList<>(byIssue.size());
+        byIssue.forEach((issueId, issueEvents) -> operations.add(new SyncOperation(fold(issueEvents), issueId, issueEvents)));
+        return operations;
+    }
+
+    private Kind fold(List<Event> issueEvents) {
+        Kind net = null;
+        boolean dispatched = false;
+        for (Event event : issueEvents) {
+            dispatched |= event.wasDispatched();
+            net = apply(net, event.getEventType(), dispatched);
+        }
+        return net;
+    }
+
+    private Kind apply(Kind current, String eventType, boolean dispatched) {
+        if (EventConstants.ISSUE_CREATED.equals(eventType)) {
+            return Kind.CREATE;
+        }
+        if (EventConstants.ISSUE_DELETED.equals(eventType)) {
+            // A create never sent has nothing to delete in Jira
+            boolean neverSent = (current == Kind.CREATE || current == Kind.NOOP) && !dispatched;
+            return neverSent ? Kind.NOOP : Kind.DELETE;
+        }
+        // Updates (and unknown types) push the current state; they only matter on their own
+        return current == null ? Kind.UPDATE : current;
+    }
+}
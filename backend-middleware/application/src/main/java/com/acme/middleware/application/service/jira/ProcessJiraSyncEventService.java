@@ -1,49 +1,290 @@
 package com.acme.middleware.application.service.jira;
 
-import com.acme.middleware.application.jira.JiraService;
+import com.acme.middleware.application.dto.BulkCreateResult;
+import com.acme.middleware.application.dto.JiraIssueDraft;
+import com.acme.middleware.application.dto.SyncOperation;
+import com.acme.middleware.application.exceptions.InvalidJiraPayloadException;
+import com.acme.middleware.application.exceptions.JiraSyncException;
+import com.acme.middleware.application.port.AsyncJiraIssuePort;
+import com.acme.middleware.application.port.JiraIssuePort;
 import com.acme.middleware.application.usecase.ProcessJiraSyncEventUseCase;
 import com.acme.middleware.domain.model.Event;
 import com.acme.middleware.domain.model.Issue;
-import com.acme.middleware.domain.port.EventRepository;
+import com.acme.middleware.domain.model.IssueId;
 import com.acme.middleware.domain.port.IssueRepository;
 
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+/**
+ * Syncs a coalesced outbox operation to Jira in three phases: the claim (done by the poller),
+ * the remote call, and the completion. Only the first and last touch the database, each in its
+ * own short transaction, so the Jira call never pins a pooled connection. The remote call is
+ * asynchronous and the completion runs when Jira answers, so no thread waits on Jira either.
+ */
 @Service
 public class ProcessJiraSyncEventService implements ProcessJiraSyncEventUseCase {
 
+    private static final CompletableFuture<Void> DONE = CompletableFuture.completedFuture(null);
+
     private final IssueRepository issueRepository;
-    private final JiraService jiraService;  
-    private final EventRepository eventRepository;
+    private final AsyncJiraIssuePort jiraIssuePort;
+    private final SyncEventLifecycleService lifecycleService;
 
     private final Logger log = LoggerFactory.getLogger(ProcessJiraSyncEventService.class);
 
-    
-    public ProcessJiraSyncEventService(IssueRepository issueRepository, JiraService jiraService, EventRepository eventRepository) {
+
+    public ProcessJiraSyncEventService(IssueRepository issueRepository, AsyncJiraIssuePort jiraIssuePort, SyncEventLifecycleService lifecycleService) {
         this.issueRepository = issueRepository;
-        this.jiraService = jiraService;
-        this.eventRepository = eventRepository;
+        this.jiraIssuePort = jiraIssuePort;
+        this.lifecycleService = lifecycleService;
+    }
+
+    /**
+     * Attaches the issues that CREATE and UPDATE operations dispatch from, fetched for the whole
+     * batch with a single query instead of one lookup per event.
+     */
+    @Override
+    public List<SyncOperation> loadIssues(List<SyncOperation> operations) {
+        List<UUID> ids = operations.stream()
+                .filter(SyncOperation::needsIssue)
+                .map(operation -> operation.issueId().getValue())
+                .toList();
+        Map<IssueId, Issue> issues = issueRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Issue::getId, Function.identity()));
+        return operations.stream()
+                .map(operation -> operation.needsIssue() ? operation.withIssue(issues.get(operation.issueId())) : operation)
+                .toList();
+    }
+
+    @Override
+    public CompletableFuture<Void> executeAsync(SyncOperation operation) {
+        return switch (operation.kind()) {
+            case CREATE -> executeCreatesAsync(List.of(operation));
+            case UPDATE -> update(operation);
+            case DELETE -> delete(operation);
+            case NOOP -> {
+                log.debug("Events for issue {} cancel out, nothing to send to Jira", operation.issueId());
+                lifecycleService.complete(operation.events());
+                yield DONE;
+            }
+        };
+    }
+
+    @Override
+    public void execute(SyncOperation operation) {
+        join(executeAsync(operation));
+    }
+
+    @Override
+    public void executeCreates(List<SyncOperation> operations) {
+        join(executeCreatesAsync(operations));
+    }
+
+    /**
+     * Sends the issue as it is now, so collapsed updates cost one call. An issue without a Jira
+     * key still has its create pending, which will carry the same state.
+     */
+    private CompletableFuture<Void> update(SyncOperation operation) {
+        Issue issue = operation.issue();
+        if (issue == null || issue.getBusinessKey() == null) {
+            log.debug("Issue {} is gone or not in Jira yet, skipping update", operation.issueId());
+            lifecycleService.complete(operation.events());
+            return DONE;
+        }
+
+        return call(() -> jiraIssuePort.updateIssueWithAdf(issue.getBusinessKey(), toDraft(issue)))
+                .handle((ignored, error) -> {
+                    if (error != null) {
+                        lifecycleService.fail(operation.events(), cause(error));
+                    } else {
+                        lifecycleService.complete(operation.events(), issue.getId(), issue.getBusinessKey());
+                    }
+                    return null;
+                });
+    }
+
+    /**
+     * Deletes by the Jira key captured with the delete. Without one, a create that was dispatched
+     * may still have reached Jira, so its issue is looked up by the idempotency label instead.
+     */
+    private CompletableFuture<Void> delete(SyncOperation operation) {
+        List<Event> events = operation.events();
+        String jiraKey = events.get(events.size() - 1).getPayload().businessKey();
+        if (jiraKey != null) {
+            return deleteIssue(events, jiraKey);
+        }
+        if (events.stream().noneMatch(Event::wasDispatched)) {
+            // A create still in flight queues its own delete once Jira has returned the key
+            log.debug("Issue {} was deleted before reaching Jira, nothing to delete", operation.issueId());
+            lifecycleService.complete(events);
+            return DONE;
+        }
+
+        String label = JiraIssuePort.idempotencyLabel(operation.issueId());
+        return call(() -> jiraIssuePort.findIssueKeysByLabels(List.of(label)))
+                .handle((existingKeys, error) -> {
+                    if (error != null) {
+                        lifecycleService.fail(events, cause(error));
+                        return DONE;
+                    }
+                    String existingKey = existingKeys.get(label);
+                    if (existingKey == null) {
+                        log.debug("Issue {} was deleted before its create reached Jira, nothing to delete", operation.issueId());
+                        lifecycleService.complete(events);
+                        return DONE;
+                    }
+                    log.info("Issue {} was deleted after its create reached Jira as {}, deleting it there", operation.issueId(), existingKey);
+                    return deleteIssue(events, existingKey);
+                }).thenCompose(Function.identity());
+    }
+
+    private CompletableFuture<Void> deleteIssue(List<Event> events, String jiraKey) {
+        return call(() -> jiraIssuePort.deleteIssue(jiraKey))
+                .handle((ignored, error) -> {
+                    if (error != null) {
+                        lifecycleService.fail(events, cause(error));
+                    } else {
+                        lifecycleService.complete(events);
+                    }
+                    return null;
+                });
     }
-    
+
+    /**
+     * One Jira round trip for the whole list. Jira reports success or failure per element, so
+     * each operation is completed or rescheduled on its own and a rejected issue does not hold
+     * back the others.
+     * <p>
+     * Every issue is created with its idempotency label, and its events are marked as dispatched
+     * before the request leaves. A create whose events were dispatched before (the worker died or
+     * timed out after Jira may have accepted it) is first looked up by label, and an issue found
+     * there is adopted instead of created twice.
+     */
     @Override
-    @Transactional
-    public void execute(Event event) {
-
-        Issue issue = issueRepository.findById(event.getEntityId().getValue()).get();
-        
-        if (event.getStatus().equals("PENDING")) {
-            try {
-                String jiraKey = jiraService.createIssue(issue.getTitle(), issue.getDescription(), "Task", issue.getDueDate(), issue.getPriority());
-                issue.updateBusinessKey(jiraKey);
-                issue.updateSyncStatus("DONE");
-                issueRepository.save(issue);
-                eventRepository.deleteById(event.getId());
-            } catch (Exception e) {
-                log.error("Error creating Jira issue: {}", e.getMessage(), e);
+    public CompletableFuture<Void> executeCreatesAsync(List<SyncOperation> operations) {
+        List<SyncOperation> creates = new ArrayList<>(operations.size());
+        List<CompletableFuture<Void>> cleanups = new ArrayList<>();
+        for (SyncOperation operation : operations) {
+            if (operation.issue() == null) {
+                if (operation.events().stream().anyMatch(Event::wasDispatched)) {
+                    // An earlier attempt may have created it; its IssueDeleted event has no key
+                    cleanups.add(delete(operation));
+                } else {
+                    // Deleted before it was synced; its IssueDeleted event finds no Jira key either
+                    log.debug("Issue {} no longer exists, skipping create", operation.issueId());
+                    lifecycleService.complete(operation.events());
+                }
+                continue;
+            }
+            creates.add(operation);
+        }
+        if (creates.isEmpty()) {
+            return CompletableFuture.allOf(cleanups.toArray(CompletableFuture[]::new));
+        }
+        if (!cleanups.isEmpty()) {
+            cleanups.add(executeCreatesAsync(creates));
+            return CompletableFuture.allOf(cleanups.toArray(CompletableFuture[]::new));
+        }
+
+        List<String> retriedLabels = creates.stream()
+                .filter(operation -> operation.events().stream().anyMatch(Event::wasDispatched))
+                .map(operation -> JiraIssuePort.idempotencyLabel(operation.issueId()))
+                .toList();
+        CompletableFuture<Map<String, String>> existing = retriedLabels.isEmpty()
+                ? CompletableFuture.completedFuture(Map.of())
+                : call(() -> jiraIssuePort.findIssueKeysByLabels(retriedLabels));
+
+        return existing.handle((existingKeys, error) -> {
+            if (error != null) {
+                creates.forEach(operation -> lifecycleService.fail(operation.events(), cause(error)));
+                return DONE;
+            }
+            List<SyncOperation> pending = new ArrayList<>(creates.size());
+            for (SyncOperation operation : creates) {
+                String jiraKey = existingKeys.get(JiraIssuePort.idempotencyLabel(operation.issueId()));
+                if (jiraKey != null) {
+                    log.info("Issue {} already exists in Jira as {}, adopting it instead of creating it again", operation.issueId(), jiraKey);
+                    lifecycleService.complete(operation.events(), operation.issueId(), jiraKey);
+                } else {
+                    pending.add(operation);
+                }
+            }
+            return pending.isEmpty() ? DONE : create(pending);
+        }).thenCompose(Function.identity());
+    }
+
+    private CompletableFuture<Void> create(List<SyncOperation> creates) {
+        lifecycleService.markDispatched(creates.stream().flatMap(operation -> operation.events().stream()).toList());
+        List<JiraIssueDraft> drafts = creates.stream()
+                .map(operation -> toDraft(operation.issue()))
+                .toList();
+
+        return call(() -> jiraIssuePort.createIssuesBulk(drafts))
+                .handle((results, error) -> {
+                    if (error != null) {
+                        creates.forEach(operation -> lifecycleService.fail(operation.events(), cause(error)));
+                        return null;
+                    }
+                    for (int i = 0; i < creates.size(); i++) {
+                        SyncOperation operation = creates.get(i);
+                        BulkCreateResult result = results.get(i);
+                        if (result.succeeded()) {
+                            lifecycleService.complete(operation.events(), operation.issueId(), result.issueKey());
+                        } else {
+                            lifecycleService.fail(operation.events(), result.retryable()
+                                    ? new JiraSyncException(result.error())
+                                    : new InvalidJiraPayloadException(result.error()));
+                        }
+                    }
+                    return null;
+                });
+    }
+
+    /**
+     * Starts a port call; an exception thrown before the future exists fails the future too, so
+     * every outcome goes through the same handler.
+     */
+    private static <T> CompletableFuture<T> call(Supplier<CompletableFuture<T>> request) {
+        try {
+            return request.get();
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private static Exception cause(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        return cause instanceof Exception exception ? exception : new JiraSyncException(cause.toString());
+    }
+
+    private static void join(CompletableFuture<Void> future) {
+        try {
+            future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
             }
+            throw e;
         }
-        
+    }
+
+    private static JiraIssueDraft toDraft(Issue issue) {
+        String dueDate = issue.getDueDate() != null ? LocalDate.ofInstant(issue.getDueDate(), ZoneOffset.UTC).toString() : null;
+        return new JiraIssueDraft(issue.getTitle(), issue.getDescription(), null, dueDate, issue.getPriority(),
+                JiraIssuePort.idempotencyLabel(issue.getId()));
     }
 }
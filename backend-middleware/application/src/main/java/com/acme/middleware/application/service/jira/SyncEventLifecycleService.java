@@ -0,0 +1,131 @@
+package com.acme.middleware.application.service.jira;
+
+import com.acme.middleware.application.exceptions.InvalidJiraPayloadException;
+import com.acme.middleware.application.exceptions.JiraCallRejectedException;
+import com.acme.middleware.domain.model.DeadLetterEvent;
+import com.acme.middleware.domain.model.Event;
+import com.acme.middleware.domain.model.IssueConstants;
+import com.acme.middleware.domain.model.IssueId;
+import com.acme.middleware.domain.port.DeadLetterRepository;
+import com.acme.middleware.domain.port.EventRepository;
+import com.acme.middleware.domain.port.IssueRepository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Short write transactions around a sync attempt. Kept apart from the Jira call so that no
+ * database connection or row lock is held while waiting on the remote side.
+ */
+@Service
+public class SyncEventLifecycleService {
+
+    private static final Logger log = LoggerFactory.getLogger(SyncEventLifecycleService.class);
+
+    private final IssueRepository issueRepository;
+    private final EventRepository eventRepository;
+    private final DeadLetterRepository deadLetterRepository;
+    private final SyncRetryPolicy retryPolicy;
+
+    public SyncEventLifecycleService(IssueRepository issueRepository, EventRepository eventRepository, DeadLetterRepository deadLetterRepository, SyncRetryPolicy retryPolicy) {
+        this.issueRepository = issueRepository;
+        this.eventRepository = eventRepository;
+        this.deadLetterRepository = deadLetterRepository;
+        this.retryPolicy = retryPolicy;
+    }
+
+    /**
+     * Records the Jira key on the issue and archives the events in one transaction. The issue is
+     * re-read here so edits made while the Jira call was in flight are not overwritten.
+     * <p>
+     * An issue deleted while its create was in flight left an {@code IssueDeleted} event without
+     * a Jira key, which completes without calling Jira. The key is only known now, so a delete
+     * carrying it is queued in the same transaction instead of leaving the new Jira issue behind.
+     */
+    @Transactional
+    public void complete(List<Event> events, IssueId issueId, String jiraKey) {
+        issueRepository.findById(issueId.getValue()).ifPresentOrElse(issue -> {
+            issue.updateBusinessKey(jiraKey);
+            issue.updateSyncStatus(IssueConstants.SYNC_SUCCESS);
+            issueRepository.save(issue);
+        }, () -> {
+            log.warn("Issue {} was deleted before Jira key {} could be recorded, queueing its deletion", issueId, jiraKey);
+            String priority = events.get(events.size() - 1).getPayload().priority();
+            eventRepository.append(Event.issueDeleted(UUID.randomUUID().toString(), issueId, jiraKey, priority));
+        });
+        complete(events);
+    }
+
+    /**
+     * Archives events whose effect has reached Jira (or that turned out to need no call at all).
+     */
+    @Transactional
+    public void complete(List<Event> events) {
+        eventRepository.archive(events);
+    }
+
+    /**
+     * Reserves a create before it is sent: once this commits, any later attempt for the same
+     * events knows Jira may already have the issue. Costs one bulk update per Jira request.
+     */
+    @Transactional
+    public void markDispatched(List<Event> events) {
+        eventRepository.markDispatched(events, Instant.now());
+    }
+
+    /**
+     * Records a failed attempt for all events of one operation. They share a single next attempt
+     * so they are claimed, and coalesced, together again. While attempts are left the events are
+     * rescheduled with backoff; afterwards they move to the dead-letter table, so a poison event
+     * stops reaching Jira and no longer weighs on the outbox polls. A payload found invalid
+     * before it was sent goes there on the first failure.
+     * <p>
+     * A call refused on this side (circuit open, bulkhead full) never reached Jira: its events go
+     * back to the outbox without using up an attempt.
+     */
+    @Transactional
+    public void fail(List<Event> events, Exception cause) {
+        if (cause instanceof JiraCallRejectedException rejected) {
+            defer(events, rejected);
+            return;
+        }
+        String errorClass = cause.getClass().getSimpleName();
+        String error = errorClass + ": " + cause.getMessage();
+        int attempts = events.stream().mapToInt(Event::attempts).max().orElse(0) + 1;
+        Optional<Instant> nextAttemptAt = cause instanceof InvalidJiraPayloadException
+                ? Optional.empty()
+                : retryPolicy.nextAttemptAt(attempts, Instant.now());
+        for (Event event : events) {
+            if (nextAttemptAt.isPresent()) {
+                event.scheduleRetry(error, nextAttemptAt.get());
+                eventRepository.save(event);
+            } else {
+                deadLetterRepository.save(DeadLetterEvent.exhausted(event, errorClass, error));
+                eventRepository.deleteById(event.getId());
+            }
+        }
+        if (nextAttemptAt.isPresent()) {
+            log.warn("Sync of {} event(s) failed (attempt {}/{}), retrying at {}: {}",
+                    events.size(), attempts, retryPolicy.getMaxAttempts(), nextAttemptAt.get(), error);
+        } else {
+            log.error("Sync of {} event(s) failed after {} attempts, moved to dead letters: {}", events.size(), attempts, error);
+        }
+    }
+
+    private void defer(List<Event> events, JiraCallRejectedException cause) {
+        Instant nextAttemptAt = retryPolicy.deferredUntil(cause.getRetryAfter(), Instant.now());
+        for (Event event : events) {
+            event.defer(nextAttemptAt);
+            eventRepository.save(event);
+        }
+        log.info("Jira call for {} event(s) was refused before it was sent, deferred to {}: {}",
+                events.size(), nextAttemptAt, cause.getMessage());
+    }
+}
@@ -0,0 +1,67 @@
+package com.acme.middleware.application.service.jira;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Exponential backoff with jitter for failed sync attempts. The n-th retry waits between half
+ * and all of {@code baseDelay * 2^(n-1)}, capped at {@code maxDelay}; the jitter keeps events
+ * that failed together (e.g. during a Jira outage) from retrying in lockstep.
+ */
+public class SyncRetryPolicy {
+
+    private final int maxAttempts;
+    private final Duration baseDelay;
+    private final Duration maxDelay;
+
+    public SyncRetryPolicy(int maxAttempts, Duration baseDelay, Duration maxDelay) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("Max attempts must be at least 1");
+        }
+        this.maxAttempts = maxAttempts;
+        this.baseDelay = Objects.requireNonNull(baseDelay, "Base delay cannot be null");
+        this.maxDelay = Objects.requireNonNull(maxDelay, "Max delay cannot be null");
+    }
+
+    /**
+     * @param failedAttempts attempts made so far, including the one that just failed
+     * @return when to try again, or empty once the attempt budget is spent
+     */
+    public Optional<Instant> nextAttemptAt(int failedAttempts, Instant now) {
+        if (failedAttempts >= maxAttempts) {
+            return Optional.empty();
+        }
+        Duration ceiling = backoffCeiling(failedAttempts);
+        long ceilingMillis = ceiling.toMillis();
+        long jittered = ceilingMillis / 2 + ThreadLocalRandom.current().nextLong(ceilingMillis / 2 + 1);
+        return Optional.of(now.plusMillis(jittered));
+    }
+
+    /**
+     * When to try again after a call that was refused before it reached Jira: once
+     * {@code retryAfter} has passed, but no sooner than a jittered base delay, so a refused
+     * batch is not claimed again straight away.
+     */
+    public Instant deferredUntil(Duration retryAfter, Instant now) {
+        long baseMillis = baseDelay.toMillis();
+        long jittered = baseMillis / 2 + ThreadLocalRandom.current().nextLong(baseMillis / 2 + 1);
+        return now.plusMillis(Math.max(jittered, retryAfter.toMillis()));
+    }
+
+    Duration backoffCeiling(int failedAttempts) {
+        // Shift is bounded so the multiplication cannot overflow before the cap applies
+        int exponent = Math.min(Math.max(failedAttempts - 1, 0), 30);
+        long millis = baseDelay.toMillis() * (1L << exponent);
+        if (millis <= 0 || millis > maxDelay.toMillis()) {
+            return maxDelay;
+        }
+        return Duration.ofMillis(millis);
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+}
@@ -0,0 +1,15 @@
+package com.acme.middleware.application.usecase;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking counterpart of {@link IssueUseCase}, completing when Jira answered. The blocking
+ * interface stays for existing callers.
+ */
+public interface AsyncIssueUseCase {
+    CompletableFuture<String> createIssue(String summary, String description, String issueType, Instant dueDate, String priority);
+    CompletableFuture<Void> updateIssue(String issueKey, Map<String, Object> fields);
+    CompletableFuture<Void> deleteIssue(String issueKey);
+}
@@ -0,0 +1,20 @@
+package com.acme.middleware.application.usecase;
+
+import com.acme.middleware.application.dto.BackfillProgress;
+
+import java.util.Optional;
+
+public interface BackfillJiraProjectUseCase {
+    /**
+     * Requests an import of every issue of the Jira project; a background worker runs it.
+     *
+     * @throws com.acme.middleware.application.exceptions.BackfillInProgressException if one is
+     *         already requested or running
+     */
+    BackfillProgress start();
+
+    /**
+     * @return empty if no backfill was ever requested
+     */
+    Optional<BackfillProgress> progress();
+}
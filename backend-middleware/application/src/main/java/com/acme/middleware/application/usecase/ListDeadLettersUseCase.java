@@ -0,0 +1,10 @@
+package com.acme.middleware.application.usecase;
+
+import com.acme.middleware.application.dto.DeadLetterPage;
+
+public interface ListDeadLettersUseCase {
+    /**
+     * @param errorClass simple name of the exception that exhausted the retries; null for all
+     */
+    DeadLetterPage execute(String errorClass, int page, int size);
+}
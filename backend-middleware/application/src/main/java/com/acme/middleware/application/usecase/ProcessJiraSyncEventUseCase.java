@@ -1,7 +1,34 @@
 package com.acme.middleware.application.usecase;
 
-import com.acme.middleware.domain.model.Event;
+import com.acme.middleware.application.dto.SyncOperation;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public interface ProcessJiraSyncEventUseCase {
-    void execute(Event event);
+    /**
+     * Loads the issues the operations of one batch dispatch from, in a single query
+     */
+    List<SyncOperation> loadIssues(List<SyncOperation> operations);
+
+    /**
+     * Syncs one operation; the future completes once its events are settled
+     */
+    CompletableFuture<Void> executeAsync(SyncOperation operation);
+
+    /**
+     * Sends several CREATE operations to Jira as bulk requests and settles each one on its own
+     * result; the future completes once all of them are settled
+     */
+    CompletableFuture<Void> executeCreatesAsync(List<SyncOperation> creates);
+
+    /**
+     * Blocking form of {@link #executeAsync(SyncOperation)}
+     */
+    void execute(SyncOperation operation);
+
+    /**
+     * Blocking form of {@link #executeCreatesAsync(List)}
+     */
+    void executeCreates(List<SyncOperation> creates);
 }
@@ -0,0 +1,20 @@
+package com.acme.middleware.application.usecase;
+
+import java.util.List;
+
+public interface ReplayDeadLettersUseCase {
+    /**
+     * Moves the given dead letters back into the outbox. Unknown ids are ignored.
+     *
+     * @return number of events replayed
+     */
+    int replay(List<String> ids);
+
+    /**
+     * Moves up to {@code limit} dead letters of one error class back into the outbox, oldest
+     * failure first.
+     *
+     * @return number of events replayed
+     */
+    int replayByErrorClass(String errorClass, int limit);
+}
@@ -6,13 +6,17 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import com.acme.middleware.application.dto.IssueUpsertResult;
 import com.acme.middleware.application.port.JiraEventPublisher;
+import com.acme.middleware.application.service.jira.JiraPullSyncService;
 import com.acme.middleware.application.usecase.IssueUseCase;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 class JiraServiceTest {
@@ -21,13 +25,15 @@ class JiraServiceTest {
     private IssueUseCase jiraGateway;
     @Mock
     private JiraEventPublisher jiraEventPublisher;
+    @Mock
+    private JiraPullSyncService jiraPullSyncService;
 
     private JiraService service;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        service = new JiraService(jiraGateway, jiraEventPublisher);
+        service = new JiraService(jiraGateway, jiraEventPublisher, jiraPullSyncService);
     }
 
     @Test
@@ -51,6 +57,15 @@ class JiraServiceTest {
         verify(jiraGateway).deleteIssue("DEMO-1");
     }
 
+    @Test
+    void syncIssues_refreshesFromJira() {
+        when(jiraPullSyncService.refresh(anyList())).thenReturn(new IssueUpsertResult(0, 1, 0));
+
+        service.syncIssues(List.of());
+
+        verify(jiraPullSyncService).refresh(List.of());
+    }
+
     @Test
     void processWebhook_publishesMappedEvent() {
         Map<String, Object> payload = Map.of(
@@ -0,0 +1,46 @@
+package com.acme.middleware.application.service.jira;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import com.acme.middleware.application.port.AsyncJiraIssuePort;
+
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AsyncJiraIssueServiceTest {
+
+    @Mock
+    private AsyncJiraIssuePort jiraIssuePort;
+
+    private AsyncJiraIssueService service;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        service = new AsyncJiraIssueService(jiraIssuePort);
+    }
+
+    @Test
+    void createIssue_sendsDueDateAsUtcDate() {
+        when(jiraIssuePort.createIssueWithAdf("title", "description", "Task", "2025-10-01", "High"))
+                .thenReturn(CompletableFuture.completedFuture("DEMO-1"));
+
+        String key = service.createIssue("title", "description", "Task", Instant.parse("2025-10-01T23:30:00Z"), "High").join();
+
+        assertEquals("DEMO-1", key);
+    }
+
+    @Test
+    void createIssue_withoutDueDate_sendsNone() {
+        when(jiraIssuePort.createIssueWithAdf("title", null, null, null, null))
+                .thenReturn(CompletableFuture.completedFuture("DEMO-2"));
+
+        assertEquals("DEMO-2", service.createIssue("title", null, null, null, null).join());
+    }
+}
@@ -0,0 +1,91 @@
+package com.acme.middleware.application.service.jira;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import com.acme.middleware.domain.model.DeadLetterEvent;
+import com.acme.middleware.domain.model.Event;
+import com.acme.middleware.domain.model.EventConstants;
+import com.acme.middleware.domain.model.IssueEventPayload;
+import com.acme.middleware.domain.model.IssueId;
+import com.acme.middleware.domain.port.DeadLetterRepository;
+import com.acme.middleware.domain.port.EventRepository;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class DeadLetterServiceTest {
+
+    @Mock
+    private DeadLetterRepository deadLetterRepository;
+    @Mock
+    private EventRepository eventRepository;
+
+    private DeadLetterService service;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        service = new DeadLetterService(deadLetterRepository, eventRepository);
+    }
+
+    @Test
+    void replay_requeuesWithFreshBudgetAndOriginalOrder() {
+        Instant createdAt = Instant.parse("2025-09-01T10:00:00Z");
+        DeadLetterEvent deadLetter = DeadLetterEvent.restore("evt-1", EventConstants.ISSUE_UPDATED, IssueId.generate(), IssueEventPayload.of("title", null, "HIGH"),
+                "HttpServerErrorException", "HttpServerErrorException: 500", createdAt, "HttpServerErrorException: 503", 10, createdAt, Instant.now(), null);
+        when(deadLetterRepository.findAllById(List.of("evt-1", "missing"))).thenReturn(List.of(deadLetter));
+
+        int replayed = service.replay(List.of("evt-1", "missing"));
+
+        assertEquals(1, replayed);
+        ArgumentCaptor<Event> appended = ArgumentCaptor.forClass(Event.class);
+        verify(eventRepository).append(appended.capture());
+        assertEquals("evt-1", appended.getValue().getId());
+        assertEquals(EventConstants.STATUS_PENDING, appended.getValue().getStatus());
+        assertEquals(0, appended.getValue().attempts());
+        assertEquals(createdAt, appended.getValue().getCreatedAt());
+        assertFalse(appended.getValue().wasDispatched());
+        verify(deadLetterRepository).deleteAllById(List.of("evt-1"));
+    }
+
+    @Test
+    void replay_keepsDispatchMarkOfCreateThatReachedJira() {
+        Instant dispatchedAt = Instant.parse("2025-09-01T10:00:05Z");
+        DeadLetterEvent deadLetter = DeadLetterEvent.restore("evt-2", EventConstants.ISSUE_CREATED, IssueId.generate(), IssueEventPayload.of("title", null, "HIGH"),
+                "ResourceAccessException", "ResourceAccessException: Read timed out", dispatchedAt, "ResourceAccessException: Read timed out", 10,
+                dispatchedAt, Instant.now(), dispatchedAt);
+        when(deadLetterRepository.findAllById(List.of("evt-2"))).thenReturn(List.of(deadLetter));
+
+        service.replay(List.of("evt-2"));
+
+        ArgumentCaptor<Event> appended = ArgumentCaptor.forClass(Event.class);
+        verify(eventRepository).append(appended.capture());
+        assertTrue(appended.getValue().wasDispatched());
+        assertEquals(dispatchedAt, appended.getValue().getDispatchedAt());
+    }
+
+    @Test
+    void replayByErrorClass_isBoundedByLimit() {
+        when(deadLetterRepository.findPage("JiraSyncException", 0, 20)).thenReturn(List.of());
+
+        assertEquals(0, service.replayByErrorClass("JiraSyncException", 20));
+
+        verify(deadLetterRepository).findPage("JiraSyncException", 0, 20);
+        verify(eventRepository, never()).append(any());
+        assertThrows(IllegalArgumentException.class, () -> service.replayByErrorClass("JiraSyncException", DeadLetterService.MAX_PAGE_SIZE + 1));
+    }
+
+    @Test
+    void list_rejectsOversizedPages() {
+        assertThrows(IllegalArgumentException.class, () -> service.execute(null, 0, DeadLetterService.MAX_PAGE_SIZE + 1));
+        assertThrows(IllegalArgumentException.class, () -> service.execute(null, -1, 10));
+    }
+}
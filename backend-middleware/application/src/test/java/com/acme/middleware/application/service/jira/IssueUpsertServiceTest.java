@@ -0,0 +1,124 @@
+package com.acme.middleware.application.service.jira;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import com.acme.middleware.application.dto.IssueUpsertResult;
+import com.acme.middleware.application.dto.JiraIssueSnapshot;
+import com.acme.middleware.application.port.JiraIssuePort;
+import com.acme.middleware.domain.model.Issue;
+import com.acme.middleware.domain.model.IssueId;
+import com.acme.middleware.domain.model.IssueStatus;
+import com.acme.middleware.domain.port.IssueRepository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+class IssueUpsertServiceTest {
+
+    private static final Instant JIRA_UPDATED = Instant.parse("2025-09-01T12:00:00Z");
+
+    @Mock
+    private IssueRepository issueRepository;
+
+    private IssueUpsertService service;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        service = new IssueUpsertService(issueRepository);
+    }
+
+    @Test
+    void unknownIssueIsCreatedWithItsJiraKey() {
+        IssueUpsertResult result = service.upsert(List.of(snapshot("DEMO-1", "From Jira", JIRA_UPDATED, List.of())));
+
+        Issue created = addedIssues().iterator().next();
+        assertEquals(new IssueUpsertResult(1, 0, 0), result);
+        assertEquals("DEMO-1", created.getBusinessKey());
+        assertEquals("From Jira", created.getTitle());
+        assertEquals(JIRA_UPDATED, created.getUpdatedAt());
+    }
+
+    @Test
+    void olderLocalIssueTakesJiraState() {
+        Issue local = local("DEMO-1", JIRA_UPDATED.minusSeconds(60));
+        when(issueRepository.findAllByBusinessKey(anyCollection())).thenReturn(List.of(local));
+
+        IssueUpsertResult result = service.upsert(List.of(snapshot("DEMO-1", "Renamed in Jira", JIRA_UPDATED, List.of())));
+
+        assertEquals(new IssueUpsertResult(0, 1, 0), result);
+        assertEquals("Renamed in Jira", local.getTitle());
+        assertEquals(IssueStatus.IN_PROGRESS, local.getStatus());
+        assertEquals(JIRA_UPDATED, local.getUpdatedAt());
+    }
+
+    @Test
+    void newerLocalEditIsLeftForTheOutbox() {
+        Issue local = local("DEMO-1", JIRA_UPDATED.plusSeconds(60));
+        when(issueRepository.findAllByBusinessKey(anyCollection())).thenReturn(List.of(local));
+
+        IssueUpsertResult result = service.upsert(List.of(snapshot("DEMO-1", "Renamed in Jira", JIRA_UPDATED, List.of())));
+
+        assertEquals(new IssueUpsertResult(0, 0, 1), result);
+        assertEquals("local title", local.getTitle());
+        assertTrue(savedIssues().isEmpty());
+        assertTrue(addedIssues().isEmpty());
+    }
+
+    @Test
+    void issueCreatedFromHereIsMatchedByLabelBeforeItsKeyIsRecorded() {
+        Issue local = local(null, JIRA_UPDATED.minusSeconds(60));
+        when(issueRepository.findAllById(anyCollection())).thenReturn(List.of(local));
+
+        IssueUpsertResult result = service.upsert(List.of(
+                snapshot("DEMO-9", "local title", JIRA_UPDATED, List.of(JiraIssuePort.idempotencyLabel(local.getId())))));
+
+        assertEquals(new IssueUpsertResult(0, 1, 0), result);
+        assertEquals("DEMO-9", local.getBusinessKey());
+        assertEquals(List.of(local), List.copyOf(savedIssues()));
+    }
+
+    @Test
+    void issueSeenTwiceInABatchKeepsTheLaterState() {
+        service.upsert(List.of(
+                snapshot("DEMO-1", "second", JIRA_UPDATED.plusSeconds(5), List.of()),
+                snapshot("DEMO-1", "first", JIRA_UPDATED, List.of())));
+
+        Collection<Issue> added = addedIssues();
+        assertEquals(1, added.size());
+        assertEquals("second", added.iterator().next().getTitle());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Collection<Issue> savedIssues() {
+        ArgumentCaptor<Collection<Issue>> saved = ArgumentCaptor.forClass(Collection.class);
+        verify(issueRepository).saveAll(saved.capture());
+        return saved.getValue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Collection<Issue> addedIssues() {
+        ArgumentCaptor<Collection<Issue>> added = ArgumentCaptor.forClass(Collection.class);
+        verify(issueRepository).upsertAllByBusinessKey(added.capture());
+        return added.getValue();
+    }
+
+    private static Issue local(String businessKey, Instant updatedAt) {
+        return Issue.restore(IssueId.generate(), "local title", "description", IssueStatus.PENDING,
+                updatedAt, updatedAt, null, "MEDIUM", businessKey);
+    }
+
+    private static JiraIssueSnapshot snapshot(String key, String summary, Instant updated, List<String> labels) {
+        return new JiraIssueSnapshot(key, summary, "description", IssueStatus.IN_PROGRESS, "MEDIUM", null,
+                updated.minusSeconds(3600), updated, labels);
+    }
+}
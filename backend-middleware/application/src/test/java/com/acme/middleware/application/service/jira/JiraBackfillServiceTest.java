@@ -0,0 +1,141 @@
+package com.acme.middleware.application.service.jira;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import com.acme.middleware.application.dto.JiraIssuePage;
+import com.acme.middleware.application.dto.JiraIssueSnapshot;
+import com.acme.middleware.application.exceptions.BackfillInProgressException;
+import com.acme.middleware.application.port.JiraIssuePort;
+import com.acme.middleware.application.port.JiraIssueSearchPort;
+import com.acme.middleware.domain.model.Issue;
+import com.acme.middleware.domain.model.IssueId;
+import com.acme.middleware.domain.model.IssueStatus;
+import com.acme.middleware.domain.model.SyncCheckpoint;
+import com.acme.middleware.domain.port.IssueRepository;
+import com.acme.middleware.domain.port.SyncCheckpointRepository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+class JiraBackfillServiceTest {
+
+    @Mock
+    private JiraIssueSearchPort searchPort;
+    @Mock
+    private IssueUpsertService upsertService;
+    @Mock
+    private IssueRepository issueRepository;
+    @Mock
+    private SyncCheckpointRepository checkpointRepository;
+
+    private JiraBackfillService service;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        service = new JiraBackfillService(searchPort, upsertService, issueRepository, checkpointRepository, 2);
+        when(checkpointRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void requestedBackfillWalksTheProjectPageByPage() {
+        checkpoint(SyncCheckpoint.State.REQUESTED, null, 0);
+        when(searchPort.countProjectIssues()).thenReturn(3L);
+        when(searchPort.searchProject(null, 2)).thenReturn(new JiraIssuePage(List.of(snapshot("DEMO-1"), snapshot("DEMO-2")), "more"));
+        when(searchPort.searchProject("DEMO-2", 2)).thenReturn(new JiraIssuePage(List.of(snapshot("DEMO-3")), null));
+
+        service.run(() -> true);
+
+        SyncCheckpoint checkpoint = savedCheckpoint();
+        assertEquals(SyncCheckpoint.State.COMPLETED, checkpoint.getState());
+        assertEquals(3, checkpoint.getProcessed());
+        assertEquals(3L, checkpoint.getTotal());
+        assertEquals("DEMO-3", checkpoint.getCursor());
+        verify(issueRepository, times(2)).upsertAllByBusinessKey(any());
+    }
+
+    @Test
+    void interruptedBackfillResumesAfterTheStoredKey() {
+        checkpoint(SyncCheckpoint.State.RUNNING, "DEMO-40", 40);
+        when(searchPort.searchProject("DEMO-40", 2)).thenReturn(new JiraIssuePage(List.of(snapshot("DEMO-41")), null));
+
+        service.run(() -> true);
+
+        verify(searchPort, never()).countProjectIssues();
+        verify(searchPort, never()).searchProject(null, 2);
+        assertEquals(41, savedCheckpoint().getProcessed());
+    }
+
+    @Test
+    void runStopsBetweenPagesOnceInactiveAndStaysResumable() {
+        checkpoint(SyncCheckpoint.State.RUNNING, "DEMO-40", 40);
+
+        service.run(() -> false);
+
+        verify(searchPort, never()).searchProject(any(), anyInt());
+        verify(checkpointRepository, never()).save(any());
+    }
+
+    @Test
+    void issuesCreatedFromHereAreMatchedByLabelInsteadOfKey() {
+        checkpoint(SyncCheckpoint.State.RUNNING, null, 0);
+        JiraIssueSnapshot createdHere = new JiraIssueSnapshot("DEMO-2", "Summary", null, IssueStatus.PENDING, "MEDIUM", null,
+                Instant.parse("2025-09-01T12:00:00Z"), Instant.parse("2025-09-01T12:00:00Z"),
+                List.of(JiraIssuePort.idempotencyLabel(IssueId.generate())));
+        when(searchPort.searchProject(null, 2)).thenReturn(new JiraIssuePage(List.of(snapshot("DEMO-1"), createdHere), null));
+
+        service.run(() -> true);
+
+        verify(upsertService).upsert(List.of(createdHere));
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<Issue>> written = ArgumentCaptor.forClass(Collection.class);
+        verify(issueRepository).upsertAllByBusinessKey(written.capture());
+        assertEquals(List.of("DEMO-1"), written.getValue().stream().map(Issue::getBusinessKey).toList());
+    }
+
+    @Test
+    void backfillCannotBeStartedTwice() {
+        checkpoint(SyncCheckpoint.State.RUNNING, "DEMO-40", 40);
+
+        assertThrows(BackfillInProgressException.class, () -> service.start());
+    }
+
+    @Test
+    void completedBackfillCanBeStartedAgainFromTheBeginning() {
+        checkpoint(SyncCheckpoint.State.COMPLETED, "DEMO-99", 99);
+
+        assertEquals(SyncCheckpoint.State.REQUESTED, service.start().state());
+
+        SyncCheckpoint checkpoint = savedCheckpoint();
+        assertNull(checkpoint.getCursor());
+        assertEquals(0, checkpoint.getProcessed());
+    }
+
+    private void checkpoint(SyncCheckpoint.State state, String cursor, long processed) {
+        Instant at = Instant.parse("2025-09-01T12:00:00Z");
+        when(checkpointRepository.findByName(JiraBackfillService.CHECKPOINT))
+                .thenReturn(Optional.of(SyncCheckpoint.restore(JiraBackfillService.CHECKPOINT, null, cursor, processed, null, state, at, at)));
+    }
+
+    private SyncCheckpoint savedCheckpoint() {
+        ArgumentCaptor<SyncCheckpoint> saved = ArgumentCaptor.forClass(SyncCheckpoint.class);
+        verify(checkpointRepository, atLeastOnce()).save(saved.capture());
+        return saved.getValue();
+    }
+
+    private static JiraIssueSnapshot snapshot(String key) {
+        Instant at = Instant.parse("2025-09-01T12:00:00Z");
+        return new JiraIssueSnapshot(key, "Summary " + key, "description", IssueStatus.PENDING, "MEDIUM", null, at, at, List.of());
+    }
+}
@@ -0,0 +1,92 @@
+package com.acme.middleware.application.service.jira;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import com.acme.middleware.application.dto.IssueUpsertResult;
+import com.acme.middleware.application.dto.JiraIssuePage;
+import com.acme.middleware.application.exceptions.JiraSyncException;
+import com.acme.middleware.application.port.JiraIssueSearchPort;
+import com.acme.middleware.domain.model.SyncCheckpoint;
+import com.acme.middleware.domain.port.SyncCheckpointRepository;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+class JiraPullSyncServiceTest {
+
+    private static final Instant NOW = Instant.parse("2025-09-01T12:00:40Z");
+    private static final Instant WATERMARK = Instant.parse("2025-09-01T11:00:00Z");
+
+    @Mock
+    private JiraIssueSearchPort searchPort;
+    @Mock
+    private IssueUpsertService upsertService;
+    @Mock
+    private SyncCheckpointRepository checkpointRepository;
+
+    private JiraPullSyncService service;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        service = new JiraPullSyncService(searchPort, upsertService, checkpointRepository,
+                new JiraPullSyncService.Settings(50, 4, Duration.ofMinutes(2), Duration.ofDays(1)),
+                Clock.fixed(NOW, ZoneOffset.UTC));
+        when(upsertService.upsert(anyList())).thenReturn(new IssueUpsertResult(0, 1, 0));
+        when(checkpointRepository.findByName(JiraPullSyncService.CHECKPOINT))
+                .thenReturn(Optional.of(SyncCheckpoint.restore(JiraPullSyncService.CHECKPOINT, WATERMARK, null, 0, null, null, null, WATERMARK)));
+    }
+
+    @Test
+    void pagesEverySliceAndAdvancesTheWatermark() {
+        when(searchPort.searchUpdated(any(), any(), isNull(), eq(50))).thenReturn(new JiraIssuePage(List.of(), "next"));
+        when(searchPort.searchUpdated(any(), any(), eq("next"), eq(50))).thenReturn(new JiraIssuePage(List.of(), null));
+
+        IssueUpsertResult result = service.pull();
+
+        // Four slices of two pages each
+        assertEquals(8, result.updated());
+        verify(searchPort).searchUpdated(Instant.parse("2025-09-01T10:58:00Z"), Instant.parse("2025-09-01T11:14:00Z"), null, 50);
+        verify(searchPort).searchUpdated(Instant.parse("2025-09-01T11:46:00Z"), Instant.parse("2025-09-01T12:00:00Z"), null, 50);
+        ArgumentCaptor<SyncCheckpoint> saved = ArgumentCaptor.forClass(SyncCheckpoint.class);
+        verify(checkpointRepository).save(saved.capture());
+        assertEquals(Instant.parse("2025-09-01T12:00:00Z"), saved.getValue().getWatermark());
+    }
+
+    @Test
+    void failedSliceKeepsTheWatermark() {
+        when(searchPort.searchUpdated(any(), any(), any(), anyInt())).thenReturn(new JiraIssuePage(List.of(), null));
+        when(searchPort.searchUpdated(eq(Instant.parse("2025-09-01T11:14:00Z")), any(), any(), anyInt()))
+                .thenThrow(new RuntimeException("timeout"));
+
+        assertThrows(JiraSyncException.class, () -> service.pull());
+
+        verify(checkpointRepository, never()).save(any());
+    }
+
+    @Test
+    void slicesCoverTheWindowWithoutGaps() {
+        Instant from = Instant.parse("2025-09-01T10:00:00Z");
+        Instant to = Instant.parse("2025-09-01T10:07:00Z");
+
+        List<Instant> bounds = JiraPullSyncService.slices(from, to, 3);
+
+        assertEquals(List.of(from, Instant.parse("2025-09-01T10:03:00Z"), Instant.parse("2025-09-01T10:06:00Z"), to), bounds);
+    }
+}
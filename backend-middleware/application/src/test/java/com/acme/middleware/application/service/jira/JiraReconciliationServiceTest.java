@@ -0,0 +1,141 @@
+package com.acme.middleware.application.service.jira;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import com.acme.middleware.application.dto.IssueUpsertResult;
+import com.acme.middleware.application.dto.JiraIssuePage;
+import com.acme.middleware.application.dto.JiraIssueSnapshot;
+import com.acme.middleware.application.dto.ReconciliationReport;
+import com.acme.middleware.application.port.JiraIssueSearchPort;
+import com.acme.middleware.domain.model.Issue;
+import com.acme.middleware.domain.model.IssueId;
+import com.acme.middleware.domain.model.IssueStatus;
+import com.acme.middleware.domain.port.IssueRepository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+class JiraReconciliationServiceTest {
+
+    private static final Instant AT = Instant.parse("2025-09-01T12:00:00Z");
+
+    @Mock
+    private JiraIssueSearchPort searchPort;
+    @Mock
+    private IssueRepository issueRepository;
+    @Mock
+    private IssueUpsertService upsertService;
+
+    private JiraReconciliationService service;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        service = new JiraReconciliationService(searchPort, issueRepository, upsertService, 16, 100);
+        when(upsertService.upsert(anyList())).thenReturn(new IssueUpsertResult(1, 1, 0));
+    }
+
+    @Test
+    void matchingSidesNeedNoFurtherCalls() {
+        jira(listed("DEMO-1", "First"), listed("DEMO-2", "Second"));
+        local(issue("DEMO-1", "First"), issue("DEMO-2", "Second"));
+
+        ReconciliationReport report = service.reconcile();
+
+        assertTrue(report.inSync());
+        verify(searchPort, never()).searchByKeys(any(), any(), anyInt());
+        verifyNoInteractions(upsertService);
+    }
+
+    @Test
+    void matchingCountAndLatestUpdateSkipTheListing() {
+        when(searchPort.countProjectIssues()).thenReturn(2L);
+        when(searchPort.latestUpdate()).thenReturn(Optional.of(AT));
+        when(issueRepository.countLinked()).thenReturn(2L);
+        when(issueRepository.findLatestLinkedUpdate()).thenReturn(Optional.of(AT));
+
+        ReconciliationReport report = service.reconcile();
+
+        assertTrue(report.inSync());
+        verify(searchPort, never()).listProject(any(), anyInt());
+        verify(issueRepository, never()).findLinkedAfter(any(), anyInt());
+    }
+
+    @Test
+    void newerLocalSideIsComparedNotSkipped() {
+        // A local edit that never reached Jira leaves the local side newer
+        jira(listed("DEMO-1", "First"), listed("DEMO-2", "Second"));
+        when(searchPort.latestUpdate()).thenReturn(Optional.of(AT));
+        local(issue("DEMO-1", "First"), issue("DEMO-2", "Edited here"));
+        when(issueRepository.findLatestLinkedUpdate()).thenReturn(Optional.of(AT.plusSeconds(60)));
+        when(searchPort.searchByKeys(any(), isNull(), anyInt())).thenReturn(new JiraIssuePage(List.of(), null));
+
+        ReconciliationReport report = service.reconcile();
+
+        assertEquals(1, report.differing());
+        verify(searchPort).listProject(isNull(), eq(100));
+    }
+
+    @Test
+    void onlyDriftedIssuesAreReadInFullAndRepaired() {
+        jira(listed("DEMO-1", "First"), listed("DEMO-2", "Renamed in Jira"), listed("DEMO-3", "Never arrived"));
+        local(issue("DEMO-1", "First"), issue("DEMO-2", "Second"), issue("DEMO-4", "Deleted in Jira"));
+        when(searchPort.searchByKeys(any(), isNull(), anyInt())).thenReturn(new JiraIssuePage(List.of(), null));
+
+        ReconciliationReport report = service.reconcile();
+
+        assertEquals(1, report.missingLocally());
+        assertEquals(1, report.missingInJira());
+        assertEquals(1, report.differing());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<String>> keys = ArgumentCaptor.forClass(Collection.class);
+        verify(searchPort).searchByKeys(keys.capture(), isNull(), anyInt());
+        assertEquals(Set.of("DEMO-2", "DEMO-3"), Set.copyOf(keys.getValue()));
+    }
+
+    @Test
+    void fingerprintIgnoresWhatAnUpsertNormalizes() {
+        assertEquals(
+                JiraReconciliationService.fingerprint("DEMO-1", "Title ", IssueStatus.DONE, null, Instant.parse("2025-09-30T00:00:00Z")),
+                JiraReconciliationService.fingerprint("DEMO-1", "Title", IssueStatus.DONE, "MEDIUM", Instant.parse("2025-09-30T17:45:00Z")));
+        assertNotEquals(
+                JiraReconciliationService.fingerprint("DEMO-1", "Title", IssueStatus.DONE, "MEDIUM", null),
+                JiraReconciliationService.fingerprint("DEMO-1", "Title", IssueStatus.IN_PROGRESS, "MEDIUM", null));
+    }
+
+    private void jira(JiraIssueSnapshot... issues) {
+        // Changed in Jira after the last change stored locally, so the digests are compared
+        when(searchPort.countProjectIssues()).thenReturn((long) issues.length);
+        when(searchPort.latestUpdate()).thenReturn(Optional.of(AT.plusSeconds(60)));
+        when(searchPort.listProject(isNull(), eq(100))).thenReturn(new JiraIssuePage(List.of(issues), null));
+    }
+
+    private void local(Issue... issues) {
+        when(issueRepository.countLinked()).thenReturn((long) issues.length);
+        when(issueRepository.findLatestLinkedUpdate()).thenReturn(Optional.of(AT));
+        when(issueRepository.findLinkedAfter(isNull(), anyInt())).thenReturn(List.of(issues));
+    }
+
+    private static JiraIssueSnapshot listed(String key, String summary) {
+        return new JiraIssueSnapshot(key, summary, null, IssueStatus.PENDING, "MEDIUM", null, null, null, List.of());
+    }
+
+    private static Issue issue(String key, String title) {
+        return Issue.restore(IssueId.generate(), title, "description", IssueStatus.PENDING, AT, AT, null, "MEDIUM", key);
+    }
+}
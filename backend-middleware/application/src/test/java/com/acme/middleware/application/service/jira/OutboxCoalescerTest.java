@@ -0,0 +1,98 @@
+package com.acme.middleware.application.service.jira;
+
+import org.junit.jupiter.api.Test;
+
+import com.acme.middleware.application.dto.SyncOperation;
+import com.acme.middleware.application.dto.SyncOperation.Kind;
+import com.acme.middleware.domain.model.Event;
+import com.acme.middleware.domain.model.EventConstants;
+import com.acme.middleware.domain.model.IssueId;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OutboxCoalescerTest {
+
+    private final OutboxCoalescer coalescer = new OutboxCoalescer();
+
+    @Test
+    void createFollowedByUpdatesBecomesSingleCreate() {
+        IssueId issueId = IssueId.generate();
+        List<Event> events = List.of(
+                event(issueId, EventConstants.ISSUE_CREATED),
+                event(issueId, EventConstants.ISSUE_UPDATED),
+                event(issueId, EventConstants.ISSUE_UPDATED));
+
+        List<SyncOperation> operations = coalescer.coalesce(events);
+
+        assertEquals(1, operations.size());
+        assertEquals(Kind.CREATE, operations.get(0).kind());
+        assertEquals(events, operations.get(0).events());
+    }
+
+    @Test
+    void createFollowedByDeleteIsNoop() {
+        IssueId issueId = IssueId.generate();
+
+        List<SyncOperation> operations = coalescer.coalesce(List.of(
+                event(issueId, EventConstants.ISSUE_CREATED),
+                event(issueId, EventConstants.ISSUE_UPDATED),
+                event(issueId, EventConstants.ISSUE_DELETED)));
+
+        assertEquals(Kind.NOOP, operations.get(0).kind());
+    }
+
+    @Test
+    void dispatchedCreateFollowedByDeleteBecomesDelete() {
+        IssueId issueId = IssueId.generate();
+        Event create = event(issueId, EventConstants.ISSUE_CREATED);
+        create.markDispatched(Instant.now());
+
+        List<SyncOperation> operations = coalescer.coalesce(List.of(
+                create,
+                event(issueId, EventConstants.ISSUE_DELETED)));
+
+        assertEquals(Kind.DELETE, operations.get(0).kind());
+    }
+
+    @Test
+    void updatesCollapseAndDeleteWinsOverUpdates() {
+        IssueId updated = IssueId.generate();
+        IssueId deleted = IssueId.generate();
+
+        List<SyncOperation> operations = coalescer.coalesce(List.of(
+                event(updated, EventConstants.ISSUE_UPDATED),
+                event(deleted, EventConstants.ISSUE_UPDATED),
+                event(updated, EventConstants.ISSUE_UPDATED),
+                event(deleted, EventConstants.ISSUE_DELETED)));
+
+        assertEquals(2, operations.size());
+        assertEquals(updated, operations.get(0).issueId());
+        assertEquals(Kind.UPDATE, operations.get(0).kind());
+        assertEquals(2, operations.get(0).events().size());
+        assertEquals(deleted, operations.get(1).issueId());
+        assertEquals(Kind.DELETE, operations.get(1).kind());
+    }
+
+    @Test
+    void foldsEachIssueOldestFirstWhateverTheClaimOrder() {
+        IssueId issueId = IssueId.generate();
+        Event create = event(issueId, EventConstants.ISSUE_CREATED);
+        Event delete = event(issueId, EventConstants.ISSUE_DELETED);
+        create.setCreatedAt(Instant.parse("2025-09-01T12:00:00Z"));
+        delete.setCreatedAt(Instant.parse("2025-09-01T12:00:05Z"));
+
+        // A higher priority class is claimed ahead of older events
+        List<SyncOperation> operations = coalescer.coalesce(List.of(delete, create));
+
+        assertEquals(Kind.NOOP, operations.get(0).kind());
+        assertEquals(List.of(create, delete), operations.get(0).events());
+    }
+
+    private static Event event(IssueId issueId, String type) {
+        return new Event(UUID.randomUUID().toString(), type, issueId, "title", "description", "MEDIUM");
+    }
+}
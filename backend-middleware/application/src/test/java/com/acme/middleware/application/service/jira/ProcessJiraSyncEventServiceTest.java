@@ -0,0 +1,304 @@
+package com.acme.middleware.application.service.jira;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import com.acme.middleware.application.dto.BulkCreateResult;
+import com.acme.middleware.application.dto.JiraIssueDraft;
+import com.acme.middleware.application.dto.SyncOperation;
+import com.acme.middleware.application.dto.SyncOperation.Kind;
+import com.acme.middleware.application.exceptions.JiraSyncException;
+import com.acme.middleware.application.port.AsyncJiraIssuePort;
+import com.acme.middleware.application.port.JiraIssuePort;
+import com.acme.middleware.domain.model.Event;
+import com.acme.middleware.domain.model.EventConstants;
+import com.acme.middleware.domain.model.Issue;
+import com.acme.middleware.domain.model.IssueId;
+import com.acme.middleware.domain.model.IssueStatus;
+import com.acme.middleware.domain.port.IssueRepository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ProcessJiraSyncEventServiceTest {
+
+    @Mock
+    private IssueRepository issueRepository;
+    @Mock
+    private AsyncJiraIssuePort jiraIssuePort;
+    @Mock
+    private SyncEventLifecycleService lifecycleService;
+
+    private ProcessJiraSyncEventService service;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        service = new ProcessJiraSyncEventService(issueRepository, jiraIssuePort, lifecycleService);
+    }
+
+    @Test
+    void bulkCreate_settlesEachOperationOnItsOwnResult() {
+        Issue first = issue(null);
+        Issue second = issue(null);
+        SyncOperation created = operation(Kind.CREATE, first, EventConstants.ISSUE_CREATED);
+        SyncOperation rejected = operation(Kind.CREATE, second, EventConstants.ISSUE_CREATED);
+        when(jiraIssuePort.createIssuesBulk(anyList()))
+                .thenReturn(CompletableFuture.completedFuture(
+                        List.of(BulkCreateResult.created("DEMO-1"), BulkCreateResult.failed("HTTP 400 priority: invalid"))));
+
+        service.executeCreates(List.of(created, rejected));
+
+        verify(lifecycleService).complete(created.events(), first.getId(), "DEMO-1");
+        verify(lifecycleService).fail(eq(rejected.events()), any(JiraSyncException.class));
+    }
+
+    @Test
+    void bulkCreate_firstAttemptIsReservedAndLabelledWithoutALookup() {
+        Issue issue = issue(null);
+        SyncOperation operation = operation(Kind.CREATE, issue, EventConstants.ISSUE_CREATED);
+        when(jiraIssuePort.createIssuesBulk(anyList()))
+                .thenReturn(CompletableFuture.completedFuture(List.of(BulkCreateResult.created("DEMO-1"))));
+
+        service.executeCreates(List.of(operation));
+
+        verify(jiraIssuePort, never()).findIssueKeysByLabels(anyCollection());
+        verify(lifecycleService).markDispatched(operation.events());
+        ArgumentCaptor<List<JiraIssueDraft>> drafts = ArgumentCaptor.forClass(List.class);
+        verify(jiraIssuePort).createIssuesBulk(drafts.capture());
+        assertEquals("mw-" + issue.getId().getValue(), drafts.getValue().get(0).idempotencyLabel());
+    }
+
+    @Test
+    void bulkCreate_retryAdoptsIssueAlreadyInJira() {
+        Issue adopted = issue(null);
+        Issue missing = issue(null);
+        SyncOperation retriedAndFound = operation(Kind.CREATE, adopted, EventConstants.ISSUE_CREATED);
+        SyncOperation retriedAndMissing = operation(Kind.CREATE, missing, EventConstants.ISSUE_CREATED);
+        retriedAndFound.events().forEach(event -> event.markDispatched(Instant.now()));
+        retriedAndMissing.events().forEach(event -> event.markDispatched(Instant.now()));
+        when(jiraIssuePort.findIssueKeysByLabels(anyCollection()))
+                .thenReturn(CompletableFuture.completedFuture(Map.of(JiraIssuePort.idempotencyLabel(adopted.getId()), "DEMO-3")));
+        when(jiraIssuePort.createIssuesBulk(anyList()))
+                .thenReturn(CompletableFuture.completedFuture(List.of(BulkCreateResult.created("DEMO-4"))));
+
+        service.executeCreates(List.of(retriedAndFound, retriedAndMissing));
+
+        verify(lifecycleService).complete(retriedAndFound.events(), adopted.getId(), "DEMO-3");
+        verify(lifecycleService).complete(retriedAndMissing.events(), missing.getId(), "DEMO-4");
+        ArgumentCaptor<List<JiraIssueDraft>> drafts = ArgumentCaptor.forClass(List.class);
+        verify(jiraIssuePort).createIssuesBulk(drafts.capture());
+        assertEquals(1, drafts.getValue().size());
+    }
+
+    @Test
+    void bulkCreate_failedLookupReschedulesWithoutCreating() {
+        Issue issue = issue(null);
+        SyncOperation operation = operation(Kind.CREATE, issue, EventConstants.ISSUE_CREATED);
+        operation.events().forEach(event -> event.markDispatched(Instant.now()));
+        RuntimeException failure = new RuntimeException("timeout");
+        when(jiraIssuePort.findIssueKeysByLabels(anyCollection())).thenReturn(CompletableFuture.failedFuture(failure));
+
+        service.executeCreates(List.of(operation));
+
+        verify(jiraIssuePort, never()).createIssuesBulk(anyList());
+        verify(lifecycleService).fail(operation.events(), failure);
+    }
+
+    @Test
+    void loadIssues_fetchesTheBatchInOneQuery() {
+        Issue existing = issue(null);
+        IssueId deleted = IssueId.generate();
+        IssueId deletedInBatch = IssueId.generate();
+        when(issueRepository.findAllById(anyCollection())).thenReturn(List.of(existing));
+
+        List<SyncOperation> loaded = service.loadIssues(List.of(
+                operation(Kind.CREATE, existing.getId(), EventConstants.ISSUE_CREATED),
+                operation(Kind.UPDATE, deleted, EventConstants.ISSUE_UPDATED),
+                operation(Kind.DELETE, deletedInBatch, EventConstants.ISSUE_DELETED)));
+
+        verify(issueRepository).findAllById(List.of(existing.getId().getValue(), deleted.getValue()));
+        verify(issueRepository, never()).findById(any());
+        assertSame(existing, loaded.get(0).issue());
+        assertNull(loaded.get(1).issue());
+        assertNull(loaded.get(2).issue());
+    }
+
+    @Test
+    void create_ofIssueDeletedSinceIsDroppedQuietly() {
+        SyncOperation operation = operation(Kind.CREATE, IssueId.generate(), EventConstants.ISSUE_CREATED);
+
+        service.execute(operation);
+
+        verifyNoInteractions(jiraIssuePort);
+        verify(lifecycleService).complete(operation.events());
+    }
+
+    @Test
+    void create_retriedAfterIssueWasDeleted_removesWhatTheEarlierAttemptCreated() {
+        IssueId issueId = IssueId.generate();
+        SyncOperation operation = operation(Kind.CREATE, issueId, EventConstants.ISSUE_CREATED);
+        operation.events().forEach(event -> event.markDispatched(Instant.now()));
+        when(jiraIssuePort.findIssueKeysByLabels(List.of(JiraIssuePort.idempotencyLabel(issueId))))
+                .thenReturn(CompletableFuture.completedFuture(Map.of(JiraIssuePort.idempotencyLabel(issueId), "DEMO-12")));
+        when(jiraIssuePort.deleteIssue("DEMO-12")).thenReturn(CompletableFuture.completedFuture(null));
+
+        service.execute(operation);
+
+        verify(jiraIssuePort).deleteIssue("DEMO-12");
+        verify(jiraIssuePort, never()).createIssuesBulk(anyList());
+        verify(lifecycleService).complete(operation.events());
+    }
+
+    @Test
+    void update_sendsCurrentStateToJira() {
+        Issue issue = issue("DEMO-7");
+        SyncOperation operation = operation(Kind.UPDATE, issue, EventConstants.ISSUE_UPDATED);
+        when(jiraIssuePort.updateIssueWithAdf(anyString(), any())).thenReturn(CompletableFuture.completedFuture(null));
+
+        service.execute(operation);
+
+        ArgumentCaptor<JiraIssueDraft> draft = ArgumentCaptor.forClass(JiraIssueDraft.class);
+        verify(jiraIssuePort).updateIssueWithAdf(eq("DEMO-7"), draft.capture());
+        assertEquals(issue.getTitle(), draft.getValue().summary());
+        assertEquals("2025-10-01", draft.getValue().duedate());
+        verify(lifecycleService).complete(operation.events(), issue.getId(), "DEMO-7");
+    }
+
+    @Test
+    void update_beforeIssueReachedJira_isLeftToTheCreate() {
+        Issue issue = issue(null);
+        SyncOperation operation = operation(Kind.UPDATE, issue, EventConstants.ISSUE_UPDATED);
+
+        service.execute(operation);
+
+        verify(jiraIssuePort, never()).updateIssueWithAdf(anyString(), any());
+        verify(lifecycleService).complete(operation.events());
+    }
+
+    @Test
+    void update_failureIsRescheduled() {
+        Issue issue = issue("DEMO-7");
+        SyncOperation operation = operation(Kind.UPDATE, issue, EventConstants.ISSUE_UPDATED);
+        RuntimeException failure = new RuntimeException("timeout");
+        when(jiraIssuePort.updateIssueWithAdf(anyString(), any())).thenReturn(CompletableFuture.failedFuture(failure));
+
+        service.execute(operation);
+
+        verify(lifecycleService).fail(operation.events(), failure);
+    }
+
+    @Test
+    void update_failureRaisedBeforeTheCallIsRescheduledToo() {
+        Issue issue = issue("DEMO-7");
+        SyncOperation operation = operation(Kind.UPDATE, issue, EventConstants.ISSUE_UPDATED);
+        RuntimeException failure = new RuntimeException("pool exhausted");
+        when(jiraIssuePort.updateIssueWithAdf(anyString(), any())).thenThrow(failure);
+
+        service.execute(operation);
+
+        verify(lifecycleService).fail(operation.events(), failure);
+    }
+
+    @Test
+    void executeAsync_completesOnlyWhenJiraAnswers() {
+        Issue issue = issue("DEMO-7");
+        SyncOperation operation = operation(Kind.UPDATE, issue, EventConstants.ISSUE_UPDATED);
+        CompletableFuture<Void> jiraCall = new CompletableFuture<>();
+        when(jiraIssuePort.updateIssueWithAdf(anyString(), any())).thenReturn(jiraCall);
+
+        CompletableFuture<Void> sync = service.executeAsync(operation);
+
+        assertFalse(sync.isDone());
+        verifyNoInteractions(lifecycleService);
+        jiraCall.complete(null);
+        assertTrue(sync.isDone());
+        verify(lifecycleService).complete(operation.events(), issue.getId(), "DEMO-7");
+    }
+
+    @Test
+    void delete_usesKeyCapturedAtDeletion() {
+        IssueId issueId = IssueId.generate();
+        SyncOperation operation = new SyncOperation(Kind.DELETE, issueId,
+                List.of(Event.issueDeleted(UUID.randomUUID().toString(), issueId, "DEMO-9", "MEDIUM")));
+        when(jiraIssuePort.deleteIssue("DEMO-9")).thenReturn(CompletableFuture.completedFuture(null));
+
+        service.execute(operation);
+
+        verify(jiraIssuePort).deleteIssue("DEMO-9");
+        verify(lifecycleService).complete(operation.events());
+        verifyNoInteractions(issueRepository);
+    }
+
+    @Test
+    void delete_ofIssueNeverSynced_skipsJira() {
+        IssueId issueId = IssueId.generate();
+        SyncOperation operation = new SyncOperation(Kind.DELETE, issueId,
+                List.of(Event.issueDeleted(UUID.randomUUID().toString(), issueId, null, "MEDIUM")));
+
+        service.execute(operation);
+
+        verify(jiraIssuePort, never()).deleteIssue(anyString());
+        verify(lifecycleService).complete(operation.events());
+    }
+
+    @Test
+    void delete_afterDispatchedCreate_findsIssueByLabel() {
+        IssueId issueId = IssueId.generate();
+        Event create = new Event(UUID.randomUUID().toString(), EventConstants.ISSUE_CREATED, issueId, "title", "description", "MEDIUM");
+        create.markDispatched(Instant.now());
+        SyncOperation operation = new SyncOperation(Kind.DELETE, issueId,
+                List.of(create, Event.issueDeleted(UUID.randomUUID().toString(), issueId, null, "MEDIUM")));
+        when(jiraIssuePort.findIssueKeysByLabels(List.of(JiraIssuePort.idempotencyLabel(issueId))))
+                .thenReturn(CompletableFuture.completedFuture(Map.of(JiraIssuePort.idempotencyLabel(issueId), "DEMO-11")));
+        when(jiraIssuePort.deleteIssue("DEMO-11")).thenReturn(CompletableFuture.completedFuture(null));
+
+        service.execute(operation);
+
+        verify(jiraIssuePort).deleteIssue("DEMO-11");
+        verify(lifecycleService).complete(operation.events());
+    }
+
+    @Test
+    void delete_afterDispatchedCreateThatNeverArrived_skipsJiraDelete() {
+        IssueId issueId = IssueId.generate();
+        Event create = new Event(UUID.randomUUID().toString(), EventConstants.ISSUE_CREATED, issueId, "title", "description", "MEDIUM");
+        create.markDispatched(Instant.now());
+        SyncOperation operation = new SyncOperation(Kind.DELETE, issueId,
+                List.of(create, Event.issueDeleted(UUID.randomUUID().toString(), issueId, null, "MEDIUM")));
+        when(jiraIssuePort.findIssueKeysByLabels(anyCollection())).thenReturn(CompletableFuture.completedFuture(Map.of()));
+
+        service.execute(operation);
+
+        verify(jiraIssuePort, never()).deleteIssue(anyString());
+        verify(lifecycleService).complete(operation.events());
+    }
+
+    private static Issue issue(String businessKey) {
+        return Issue.restore(IssueId.generate(), "title", "description", IssueStatus.PENDING,
+                Instant.now(), Instant.now(), Instant.parse("2025-10-01T12:00:00Z"), "MEDIUM", businessKey);
+    }
+
+    private static SyncOperation operation(Kind kind, Issue issue, String eventType) {
+        return operation(kind, issue.getId(), eventType).withIssue(issue);
+    }
+
+    private static SyncOperation operation(Kind kind, IssueId issueId, String eventType) {
+        return new SyncOperation(kind, issueId,
+                List.of(new Event(UUID.randomUUID().toString(), eventType, issueId, "title", "description", "MEDIUM")));
+    }
+}
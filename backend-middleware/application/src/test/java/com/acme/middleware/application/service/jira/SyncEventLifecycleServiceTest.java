@@ -0,0 +1,141 @@
+package com.acme.middleware.application.service.jira;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import com.acme.middleware.application.exceptions.InvalidJiraPayloadException;
+import com.acme.middleware.application.exceptions.JiraCallRejectedException;
+import com.acme.middleware.domain.model.DeadLetterEvent;
+import com.acme.middleware.domain.model.Event;
+import com.acme.middleware.domain.model.EventConstants;
+import com.acme.middleware.domain.model.IssueId;
+import com.acme.middleware.domain.port.DeadLetterRepository;
+import com.acme.middleware.domain.port.EventRepository;
+import com.acme.middleware.domain.port.IssueRepository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class SyncEventLifecycleServiceTest {
+
+    @Mock
+    private IssueRepository issueRepository;
+    @Mock
+    private EventRepository eventRepository;
+    @Mock
+    private DeadLetterRepository deadLetterRepository;
+
+    private SyncEventLifecycleService service;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        service = new SyncEventLifecycleService(issueRepository, eventRepository, deadLetterRepository,
+                new SyncRetryPolicy(2, Duration.ofSeconds(1), Duration.ofSeconds(10)));
+    }
+
+    @Test
+    void fail_withAttemptsLeft_reschedulesInPlace() {
+        Event event = event();
+
+        service.fail(List.of(event), new IllegalStateException("boom"));
+
+        assertEquals(EventConstants.STATUS_PENDING, event.getStatus());
+        assertEquals(1, event.attempts());
+        verify(eventRepository).save(event);
+        verifyNoInteractions(deadLetterRepository);
+    }
+
+    @Test
+    void fail_onLastAttempt_movesEventToDeadLetters() {
+        Event event = event();
+        event.setRetryCount(1);
+
+        service.fail(List.of(event), new IllegalStateException("boom"));
+
+        ArgumentCaptor<DeadLetterEvent> deadLetter = ArgumentCaptor.forClass(DeadLetterEvent.class);
+        verify(deadLetterRepository).save(deadLetter.capture());
+        assertEquals(event.getId(), deadLetter.getValue().getId());
+        assertEquals("IllegalStateException", deadLetter.getValue().getErrorClass());
+        assertEquals("IllegalStateException: boom", deadLetter.getValue().getLastError());
+        assertEquals(2, deadLetter.getValue().getAttempts());
+        verify(eventRepository).deleteById(event.getId());
+        verify(eventRepository, never()).save(any());
+    }
+
+    @Test
+    void fail_untilExhausted_keepsFirstAndLastErrorOnDeadLetter() {
+        Event event = event();
+        service.fail(List.of(event), new IllegalStateException("connection reset"));
+        Instant firstFailedAt = event.getFirstFailedAt();
+
+        service.fail(List.of(event), new InvalidJiraPayloadException("Field 'priority' is required"));
+
+        ArgumentCaptor<DeadLetterEvent> deadLetter = ArgumentCaptor.forClass(DeadLetterEvent.class);
+        verify(deadLetterRepository).save(deadLetter.capture());
+        assertEquals("IllegalStateException: connection reset", deadLetter.getValue().getFirstError());
+        assertEquals(firstFailedAt, deadLetter.getValue().getFirstFailedAt());
+        assertEquals("InvalidJiraPayloadException: Field 'priority' is required", deadLetter.getValue().getLastError());
+        assertFalse(deadLetter.getValue().getFailedAt().isBefore(firstFailedAt));
+        verify(eventRepository).deleteById(event.getId());
+    }
+
+    @Test
+    void fail_withInvalidPayload_movesEventToDeadLettersOnFirstAttempt() {
+        Event event = event();
+
+        service.fail(List.of(event), new InvalidJiraPayloadException("Issue type Story cannot be created in project DEMO"));
+
+        ArgumentCaptor<DeadLetterEvent> deadLetter = ArgumentCaptor.forClass(DeadLetterEvent.class);
+        verify(deadLetterRepository).save(deadLetter.capture());
+        assertEquals("InvalidJiraPayloadException", deadLetter.getValue().getErrorClass());
+        assertEquals(1, deadLetter.getValue().getAttempts());
+        verify(eventRepository, never()).save(any());
+    }
+
+    @Test
+    void fail_whenCallWasRefusedLocally_defersWithoutCountingAnAttempt() {
+        Event event = event();
+        event.setRetryCount(1);
+        Instant before = Instant.now();
+
+        service.fail(List.of(event), new JiraCallRejectedException("circuit open", Duration.ofSeconds(30)));
+
+        assertEquals(EventConstants.STATUS_PENDING, event.getStatus());
+        assertEquals(1, event.attempts());
+        assertFalse(event.getNextAttemptAt().isBefore(before.plusSeconds(30)));
+        verify(eventRepository).save(event);
+        verifyNoInteractions(deadLetterRepository);
+    }
+
+    @Test
+    void complete_whenIssueWasDeletedDuringCreate_queuesDeleteWithJiraKey() {
+        Event event = event();
+        when(issueRepository.findById(event.getEntityId().getValue())).thenReturn(Optional.empty());
+
+        service.complete(List.of(event), event.getEntityId(), "DEMO-7");
+
+        ArgumentCaptor<Event> delete = ArgumentCaptor.forClass(Event.class);
+        verify(eventRepository).append(delete.capture());
+        assertEquals(EventConstants.ISSUE_DELETED, delete.getValue().getEventType());
+        assertEquals(event.getEntityId(), delete.getValue().getEntityId());
+        assertEquals("DEMO-7", delete.getValue().getPayload().businessKey());
+        assertEquals("MEDIUM", delete.getValue().getPayload().priority());
+        verify(eventRepository).archive(List.of(event));
+        verify(issueRepository, never()).save(any());
+    }
+
+    private static Event event() {
+        return new Event(UUID.randomUUID().toString(), EventConstants.ISSUE_CREATED, IssueId.generate(), "title", "description", "MEDIUM");
+    }
+}
@@ -0,0 +1,56 @@
+package com.acme.middleware.application.service.jira;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SyncRetryPolicyTest {
+
+    private final SyncRetryPolicy policy = new SyncRetryPolicy(5, Duration.ofSeconds(2), Duration.ofSeconds(10));
+
+    @Test
+    void backoffDoublesPerAttemptUpToMaxDelay() {
+        assertEquals(Duration.ofSeconds(2), policy.backoffCeiling(1));
+        assertEquals(Duration.ofSeconds(4), policy.backoffCeiling(2));
+        assertEquals(Duration.ofSeconds(8), policy.backoffCeiling(3));
+        assertEquals(Duration.ofSeconds(10), policy.backoffCeiling(4));
+        assertEquals(Duration.ofSeconds(10), policy.backoffCeiling(200));
+    }
+
+    @Test
+    void nextAttemptIsJitteredWithinUpperHalfOfCeiling() {
+        Instant now = Instant.parse("2025-09-01T00:00:00Z");
+        for (int i = 0; i < 100; i++) {
+            Instant next = policy.nextAttemptAt(3, now).orElseThrow();
+            Duration delay = Duration.between(now, next);
+            assertTrue(delay.compareTo(Duration.ofSeconds(4)) >= 0, "delay too short: " + delay);
+            assertTrue(delay.compareTo(Duration.ofSeconds(8)) <= 0, "delay too long: " + delay);
+        }
+    }
+
+    @Test
+    void stopsRetryingOnceBudgetIsSpent() {
+        Instant now = Instant.now();
+        assertTrue(policy.nextAttemptAt(4, now).isPresent());
+        assertEquals(Optional.empty(), policy.nextAttemptAt(5, now));
+    }
+
+    @Test
+    void deferralWaitsForRetryAfterButAtLeastAJitteredBaseDelay() {
+        Instant now = Instant.parse("2025-09-01T00:00:00Z");
+        Duration shortWait = Duration.between(now, policy.deferredUntil(Duration.ZERO, now));
+        assertTrue(shortWait.compareTo(Duration.ofSeconds(1)) >= 0, "deferral too short: " + shortWait);
+        assertTrue(shortWait.compareTo(Duration.ofSeconds(2)) <= 0, "deferral too long: " + shortWait);
+
+        assertEquals(now.plusSeconds(30), policy.deferredUntil(Duration.ofSeconds(30), now));
+    }
+
+    @Test
+    void rejectsNonPositiveMaxAttempts() {
+        assertThrows(IllegalArgumentException.class, () -> new SyncRetryPolicy(0, Duration.ofSeconds(1), Duration.ofSeconds(1)));
+    }
+}
@@ -14,7 +14,7 @@ import org.springframework.scheduling.annotation.EnableScheduling;
 @EnableJpaRepositories({"com.acme.middleware.infrastructure.persistence.repository", "com.acme.middleware.infrastructure.sync.repository"})
 @EnableAsync
 @EnableScheduling
-@ConfigurationPropertiesScan(basePackages = "com.acme.middleware.infrastructure.jira.config")
+@ConfigurationPropertiesScan(basePackages = {"com.acme.middleware.infrastructure.jira.config", "com.acme.middleware.infrastructure.sync.config"})
 public class MiddlewareApplication {
 
     public static void main(String[] args) {
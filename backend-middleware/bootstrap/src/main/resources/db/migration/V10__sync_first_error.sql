@@ -0,0 +1,10 @@
+-- The first failed attempt is kept next to the latest error, so a dead letter shows whether it
+-- kept failing for the same reason or the cause changed between attempts.
+ALTER TABLE events ADD COLUMN IF NOT EXISTS first_error TEXT;
+ALTER TABLE events ADD COLUMN IF NOT EXISTS first_failed_at TIMESTAMPTZ;
+
+ALTER TABLE dead_letter_events ADD COLUMN IF NOT EXISTS first_error TEXT;
+ALTER TABLE dead_letter_events ADD COLUMN IF NOT EXISTS first_failed_at TIMESTAMPTZ;
+
+-- Dead letters written before this column only know their last error
+UPDATE dead_letter_events SET first_error = last_error, first_failed_at = failed_at WHERE first_failed_at IS NULL;
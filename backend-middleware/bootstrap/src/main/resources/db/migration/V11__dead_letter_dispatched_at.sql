@@ -0,0 +1,3 @@
+-- A dead-lettered create may have reached Jira before it failed. Its replay keeps the dispatch
+-- mark, so the issue is looked up by its idempotency label before it is created again.
+ALTER TABLE dead_letter_events ADD COLUMN IF NOT EXISTS dispatched_at TIMESTAMPTZ;
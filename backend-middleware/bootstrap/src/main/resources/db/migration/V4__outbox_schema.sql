@@ -0,0 +1,80 @@
+-- Flyway owns the schema from this version on. Databases created earlier by Hibernate's
+-- ddl-auto already contain these tables (and are baselined at V3), so every statement is
+-- idempotent and only fills in what is missing.
+
+CREATE TABLE IF NOT EXISTS issues (
+    id UUID PRIMARY KEY,
+    title VARCHAR(255) NOT NULL,
+    description TEXT,
+    status VARCHAR(32) NOT NULL,
+    created_at TIMESTAMPTZ NOT NULL,
+    updated_at TIMESTAMPTZ NOT NULL,
+    due_date TIMESTAMPTZ,
+    priority VARCHAR(20),
+    business_key VARCHAR(20)
+);
+
+ALTER TABLE issues ADD COLUMN IF NOT EXISTS due_date TIMESTAMPTZ;
+ALTER TABLE issues ADD COLUMN IF NOT EXISTS priority VARCHAR(20);
+ALTER TABLE issues ADD COLUMN IF NOT EXISTS business_key VARCHAR(20);
+
+CREATE INDEX IF NOT EXISTS idx_issues_business_key ON issues(business_key);
+
+-- Live outbox: only events still waiting for, or being synced to, Jira
+CREATE TABLE IF NOT EXISTS events (
+    id VARCHAR(255) PRIMARY KEY,
+    event_type VARCHAR(255),
+    entity_id UUID,
+    payload TEXT,
+    status VARCHAR(32),
+    retry_count INTEGER,
+    created_at TIMESTAMPTZ,
+    processed_at TIMESTAMPTZ,
+    error TEXT,
+    locked_until TIMESTAMPTZ,
+    next_attempt_at TIMESTAMPTZ,
+    partition_hash INTEGER
+);
+
+ALTER TABLE events ADD COLUMN IF NOT EXISTS locked_until TIMESTAMPTZ;
+ALTER TABLE events ADD COLUMN IF NOT EXISTS next_attempt_at TIMESTAMPTZ;
+ALTER TABLE events ADD COLUMN IF NOT EXISTS partition_hash INTEGER;
+ALTER TABLE events ALTER COLUMN payload TYPE TEXT;
+ALTER TABLE events ALTER COLUMN error TYPE TEXT;
+
+CREATE INDEX IF NOT EXISTS idx_events_status_created_at ON events(status, created_at);
+CREATE INDEX IF NOT EXISTS idx_events_status_next_attempt_at ON events(status, next_attempt_at);
+
+CREATE TABLE IF NOT EXISTS dead_letter_events (
+    id VARCHAR(255) PRIMARY KEY,
+    event_type VARCHAR(255),
+    entity_id UUID,
+    payload TEXT,
+    error_class VARCHAR(255),
+    last_error TEXT,
+    attempts INTEGER,
+    created_at TIMESTAMPTZ,
+    failed_at TIMESTAMPTZ
+);
+
+CREATE INDEX IF NOT EXISTS idx_dead_letter_events_error_class_failed_at ON dead_letter_events(error_class, failed_at);
+
+-- Events parked as FAILED before the dead-letter table existed
+INSERT INTO dead_letter_events (id, event_type, entity_id, payload, error_class, last_error, attempts, created_at, failed_at)
+SELECT id, event_type, entity_id, payload, split_part(error, ':', 1), error, COALESCE(retry_count, 0), created_at, COALESCE(processed_at, now())
+FROM events
+WHERE status = 'FAILED'
+ON CONFLICT (id) DO NOTHING;
+
+DELETE FROM events WHERE status = 'FAILED';
+
+CREATE TABLE IF NOT EXISTS sync_nodes (
+    node_id VARCHAR(128) PRIMARY KEY,
+    heartbeat_at TIMESTAMPTZ
+);
+
+CREATE TABLE IF NOT EXISTS sync_partition_leases (
+    partition_no INTEGER PRIMARY KEY,
+    owner VARCHAR(128),
+    lease_until TIMESTAMPTZ
+);
@@ -0,0 +1,17 @@
+-- Processed outbox events, partitioned by day of processed_at. EventArchiveRetentionJob creates
+-- the upcoming daily partitions and detaches and drops expired ones, which costs no vacuum work
+-- on the live tables. Rows outside any daily partition land in the default partition.
+CREATE TABLE IF NOT EXISTS events_archive (
+    id VARCHAR(255) NOT NULL,
+    event_type VARCHAR(255),
+    entity_id UUID,
+    payload TEXT,
+    attempts INTEGER,
+    created_at TIMESTAMPTZ,
+    processed_at TIMESTAMPTZ NOT NULL,
+    PRIMARY KEY (id, processed_at)
+) PARTITION BY RANGE (processed_at);
+
+CREATE TABLE IF NOT EXISTS events_archive_default PARTITION OF events_archive DEFAULT;
+
+CREATE INDEX IF NOT EXISTS idx_events_archive_entity_id ON events_archive(entity_id);
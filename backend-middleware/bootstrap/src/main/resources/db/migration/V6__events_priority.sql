@@ -0,0 +1,8 @@
+-- Priority class of the issue behind each outbox event: 0 = HIGH, 1 = MEDIUM, 2 = LOW.
+-- Claims take a weighted share of every class, each in created_at order, off this index.
+ALTER TABLE events ADD COLUMN IF NOT EXISTS priority_rank SMALLINT NOT NULL DEFAULT 1;
+
+UPDATE events SET priority_rank = 0 WHERE payload LIKE '%"priority":"HIGH"%';
+UPDATE events SET priority_rank = 2 WHERE payload LIKE '%"priority":"LOW"%';
+
+CREATE INDEX IF NOT EXISTS idx_events_status_priority_created_at ON events(status, priority_rank, created_at);
@@ -0,0 +1,3 @@
+-- Set just before a create is sent to Jira. A create whose events carry it may already exist in
+-- Jira (the worker can die before the key is recorded), so it is looked up before being re-sent.
+ALTER TABLE events ADD COLUMN IF NOT EXISTS dispatched_at TIMESTAMPTZ;
@@ -0,0 +1,6 @@
+-- Resumable progress of syncs from Jira, one row per sync (e.g. the incremental pull watermark)
+CREATE TABLE IF NOT EXISTS sync_checkpoints (
+    name VARCHAR(64) PRIMARY KEY,
+    watermark TIMESTAMPTZ,
+    updated_at TIMESTAMPTZ NOT NULL
+);
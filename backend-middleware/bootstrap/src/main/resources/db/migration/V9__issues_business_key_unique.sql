@@ -0,0 +1,21 @@
+-- One local issue per Jira key, so imports can upsert with ON CONFLICT (business_key).
+-- Rows that point at the same key (left by earlier bugs) keep the link on the oldest one only.
+UPDATE issues SET business_key = NULL
+WHERE business_key IS NOT NULL
+  AND id NOT IN (
+      SELECT DISTINCT ON (business_key) id
+      FROM issues
+      WHERE business_key IS NOT NULL
+      ORDER BY business_key, created_at, id
+  );
+
+DROP INDEX IF EXISTS idx_issues_business_key;
+CREATE UNIQUE INDEX IF NOT EXISTS uq_issues_business_key ON issues(business_key);
+
+-- Resumable one-shot runs such as the backfill: where the last page ended and how far along it is
+ALTER TABLE sync_checkpoints
+    ADD COLUMN IF NOT EXISTS cursor_value VARCHAR(255),
+    ADD COLUMN IF NOT EXISTS processed BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS total BIGINT,
+    ADD COLUMN IF NOT EXISTS state VARCHAR(16),
+    ADD COLUMN IF NOT EXISTS started_at TIMESTAMPTZ;
@@ -0,0 +1,119 @@
+package com.acme.middleware.domain.model;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Outbox event that used up its retry budget. Parked outside the live outbox so pollers never
+ * scan it, and kept with enough history to decide whether to replay it: the first and the last
+ * error with their times, which tell a steady failure apart from one that changed on the way.
+ */
+public class DeadLetterEvent {
+
+    private final String id;
+    private final String eventType;
+    private final IssueId entityId;
+    private final IssueEventPayload payload;
+    private final String errorClass;
+    private final String firstError;
+    private final Instant firstFailedAt;
+    private final String lastError;
+    private final int attempts;
+    private final Instant createdAt;
+    private final Instant failedAt;
+    private final Instant dispatchedAt;
+
+    private DeadLetterEvent(String id, String eventType, IssueId entityId, IssueEventPayload payload, String errorClass, String firstError, Instant firstFailedAt, String lastError, int attempts, Instant createdAt, Instant failedAt, Instant dispatchedAt) {
+        this.id = Objects.requireNonNull(id, "Event id cannot be null");
+        this.eventType = eventType;
+        this.entityId = Objects.requireNonNull(entityId, "Issue id cannot be null");
+        this.payload = payload;
+        this.errorClass = errorClass;
+        this.firstError = firstError;
+        this.firstFailedAt = firstFailedAt;
+        this.lastError = lastError;
+        this.attempts = attempts;
+        this.createdAt = createdAt;
+        this.failedAt = failedAt;
+        this.dispatchedAt = dispatchedAt;
+    }
+
+    /**
+     * Dead letter for an event whose latest attempt, counted here, was its last. An event that
+     * never failed before keeps that attempt as its first error too.
+     */
+    public static DeadLetterEvent exhausted(Event event, String errorClass, String lastError) {
+        Instant now = Instant.now();
+        String error = Event.truncateError(lastError);
+        boolean failedBefore = event.getFirstFailedAt() != null;
+        return new DeadLetterEvent(event.getId(), event.getEventType(), event.getEntityId(), event.getPayload(), errorClass,
+                failedBefore ? event.getFirstError() : error, failedBefore ? event.getFirstFailedAt() : now,
+                error, event.attempts() + 1, event.getCreatedAt(), now, event.getDispatchedAt());
+    }
+
+    public static DeadLetterEvent restore(String id, String eventType, IssueId entityId, IssueEventPayload payload, String errorClass, String firstError, Instant firstFailedAt, String lastError, int attempts, Instant createdAt, Instant failedAt, Instant dispatchedAt) {
+        return new DeadLetterEvent(id, eventType, entityId, payload, errorClass, firstError, firstFailedAt, lastError, attempts, createdAt, failedAt, dispatchedAt);
+    }
+
+    /**
+     * Puts the event back into the outbox with a fresh retry budget. The original creation time
+     * is kept so it is claimed ahead of newer events for the same issue. A create that was
+     * already sent stays marked as dispatched, so its replay looks for the issue in Jira before
+     * creating it again.
+     */
+    public Event toReplayEvent() {
+        Event event = Event.restore(id, eventType, entityId, payload, EventConstants.STATUS_PENDING, 0, createdAt, null, null, null, Instant.now());
+        if (dispatchedAt != null) {
+            event.markDispatched(dispatchedAt);
+        }
+        return event;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public IssueId getEntityId() {
+        return entityId;
+    }
+
+    public IssueEventPayload getPayload() {
+        return payload;
+    }
+
+    public String getErrorClass() {
+        return errorClass;
+    }
+
+    public String getFirstError() {
+        return firstError;
+    }
+
+    public Instant getFirstFailedAt() {
+        return firstFailedAt;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getFailedAt() {
+        return failedAt;
+    }
+
+    public Instant getDispatchedAt() {
+        return dispatchedAt;
+    }
+}
@@ -8,26 +8,33 @@ public class Event {
     private String id;
     private String eventType;
     private IssueId entityId;
-    private String payload;
+    private IssueEventPayload payload;
     private String status;
     private Integer retryCount;
     private Instant createdAt;
     private Instant processedAt;
     private String error;
+    private Instant lockedUntil;
+    private Instant nextAttemptAt;
+    private Instant dispatchedAt;
+    private String firstError;
+    private Instant firstFailedAt;
     
     public Event(String issueId, String eventType, IssueId entityId, String title, String description, String priority) {
         this.id = issueId;
         this.eventType = eventType;
         this.entityId = Objects.requireNonNull(entityId, "Issue id cannot be null");
-        this.payload = String.format("{\"title\":\"%s\",\"description\":\"%s\",\"priority\":\"%s\"}", title, description, priority);
-        this.status = "PENDING";
+        this.payload = IssueEventPayload.of(title, description, priority);
+        this.status = EventConstants.STATUS_PENDING;
         this.retryCount = 0;
         this.createdAt = Instant.now();
         this.processedAt = null;
         this.error = null;
+        this.lockedUntil = null;
+        this.nextAttemptAt = this.createdAt;
     }
 
-    public Event(String id, String eventType, IssueId entityId, String payload, String status, Integer retryCount, Instant createdAt, Instant processedAt, String error) {
+    public Event(String id, String eventType, IssueId entityId, IssueEventPayload payload, String status, Integer retryCount, Instant createdAt, Instant processedAt, String error, Instant lockedUntil, Instant nextAttemptAt) {
         this.id = id;
         this.eventType = eventType;
         this.entityId = entityId;
@@ -37,10 +44,84 @@ public class Event {
         this.createdAt = createdAt;
         this.processedAt = processedAt;
         this.error = error;
+        this.lockedUntil = lockedUntil;
+        this.nextAttemptAt = nextAttemptAt;
     }
 
-    public static Event restore(String id, String eventType, IssueId entityId, String payload, String status, Integer retryCount, Instant createdAt, Instant processedAt, String error) {
-        return new Event(id, eventType, entityId, payload, status, retryCount, createdAt, processedAt, error);
+    /**
+     * Outbox entry for a deleted issue. The Jira key travels in the payload because the issue row
+     * is gone by the time the event is dispatched. The priority keeps the delete in the issue's
+     * priority class, next to its other events.
+     */
+    public static Event issueDeleted(String id, IssueId entityId, String businessKey, String priority) {
+        Instant now = Instant.now();
+        return new Event(id, EventConstants.ISSUE_DELETED, Objects.requireNonNull(entityId, "Issue id cannot be null"),
+                IssueEventPayload.deleted(businessKey, priority), EventConstants.STATUS_PENDING, 0, now, null, null, null, now);
+    }
+
+    public static Event restore(String id, String eventType, IssueId entityId, IssueEventPayload payload, String status, Integer retryCount, Instant createdAt, Instant processedAt, String error, Instant lockedUntil, Instant nextAttemptAt) {
+        return new Event(id, eventType, entityId, payload, status, retryCount, createdAt, processedAt, error, lockedUntil, nextAttemptAt);
+    }
+
+    /**
+     * Gives the claim back so the event becomes eligible for the next poll.
+     */
+    public void release() {
+        this.status = EventConstants.STATUS_PENDING;
+        this.lockedUntil = null;
+    }
+
+    /**
+     * Records a failed attempt and hides the event from pollers until {@code nextAttemptAt}.
+     */
+    public void scheduleRetry(String error, Instant nextAttemptAt) {
+        this.retryCount = attempts() + 1;
+        this.error = truncateError(error);
+        if (firstFailedAt == null) {
+            restoreFirstFailure(this.error, Instant.now());
+        }
+        this.nextAttemptAt = Objects.requireNonNull(nextAttemptAt, "Next attempt cannot be null");
+        release();
+    }
+
+    /**
+     * Hides the event from pollers until {@code nextAttemptAt} without counting an attempt, for
+     * a call that never reached Jira.
+     */
+    public void defer(Instant nextAttemptAt) {
+        this.nextAttemptAt = Objects.requireNonNull(nextAttemptAt, "Next attempt cannot be null");
+        release();
+    }
+
+    /**
+     * Records that the effect of this event is about to be sent to Jira. From then on a retry
+     * cannot assume Jira has not seen it.
+     */
+    public void markDispatched(Instant dispatchedAt) {
+        this.dispatchedAt = Objects.requireNonNull(dispatchedAt, "Dispatch time cannot be null");
+    }
+
+    /**
+     * Keeps the error of the first failed attempt; later attempts only replace {@code error}.
+     */
+    public void restoreFirstFailure(String firstError, Instant firstFailedAt) {
+        this.firstError = firstError;
+        this.firstFailedAt = firstFailedAt;
+    }
+
+    public boolean wasDispatched() {
+        return dispatchedAt != null;
+    }
+
+    public int attempts() {
+        return retryCount != null ? retryCount : 0;
+    }
+
+    static String truncateError(String error) {
+        if (error != null && error.length() > EventConstants.MAX_ERROR_LENGTH) {
+            return error.substring(0, EventConstants.MAX_ERROR_LENGTH);
+        }
+        return error;
     }
 
     public String getId() {
@@ -67,11 +148,11 @@ public class Event {
         this.entityId = entityId;
     }
 
-    public String getPayload() {
+    public IssueEventPayload getPayload() {
         return payload;
     }
 
-    public void setPayload(String payload) {
+    public void setPayload(IssueEventPayload payload) {
         this.payload = payload;
     }
 
@@ -115,4 +196,32 @@ public class Event {
     public void setError(String error) {
         this.error = error;
     }
+
+    public Instant getLockedUntil() {
+        return lockedUntil;
+    }
+
+    public void setLockedUntil(Instant lockedUntil) {
+        this.lockedUntil = lockedUntil;
+    }
+
+    public Instant getDispatchedAt() {
+        return dispatchedAt;
+    }
+
+    public Instant getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public void setNextAttemptAt(Instant nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public String getFirstError() {
+        return firstError;
+    }
+
+    public Instant getFirstFailedAt() {
+        return firstFailedAt;
+    }
 }
@@ -0,0 +1,24 @@
+package com.acme.middleware.domain.model;
+
+/**
+ * Domain constants for outbox events to avoid hardcoded values throughout the codebase.
+ */
+public final class EventConstants {
+
+    // Event status constants
+    public static final String STATUS_PENDING = "PENDING";
+    public static final String STATUS_PROCESSING = "PROCESSING";
+
+    // Longest error text kept on an event
+    public static final int MAX_ERROR_LENGTH = 2000;
+
+    // Event type constants
+    public static final String ISSUE_CREATED = "IssueCreated";
+    public static final String ISSUE_UPDATED = "IssueUpdated";
+    public static final String ISSUE_DELETED = "IssueDeleted";
+
+    private EventConstants() {
+        // Utility class - prevent instantiation
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+}
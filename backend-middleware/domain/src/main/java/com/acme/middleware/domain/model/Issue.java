@@ -77,6 +77,20 @@ public class Issue {
         this.updatedAt = Instant.now();
     }
 
+    /**
+     * Takes over the state of the issue in Jira. {@code updatedAt} becomes Jira's time of the
+     * change, so later comparisons tell local edits apart from what came from Jira.
+     */
+    public void applyJiraState(String businessKey, String title, String description, IssueStatus status, Instant dueDate, String priority, Instant updatedAt) {
+        this.businessKey = businessKey;
+        this.title = validateTitle(title);
+        this.description = validateDescription(description);
+        this.status = Objects.requireNonNull(status, "Issue status cannot be null");
+        this.dueDate = dueDate;
+        this.priority = validatePriority(priority);
+        this.updatedAt = Objects.requireNonNull(updatedAt, "Updated at cannot be null");
+    }
+
     // Fixed: linkToBusinessKey now consistently updates updatedAt
     public void linkToBusinessKey(String businessKey) {
         this.businessKey = businessKey;
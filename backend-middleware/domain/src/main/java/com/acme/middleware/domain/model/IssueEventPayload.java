@@ -0,0 +1,27 @@
+package com.acme.middleware.domain.model;
+
+/**
+ * Issue data carried by an outbox event. Stored with a schema version so the format can change
+ * without breaking events already sitting in the outbox.
+ *
+ * @param businessKey Jira key, set on {@code IssueDeleted} events because the issue row is gone
+ *                    by the time they are dispatched
+ */
+public record IssueEventPayload(
+    String title,
+    String description,
+    String priority,
+    String businessKey
+) {
+    public static final int SCHEMA_VERSION = 1;
+
+    public static final IssueEventPayload EMPTY = new IssueEventPayload(null, null, null, null);
+
+    public static IssueEventPayload of(String title, String description, String priority) {
+        return new IssueEventPayload(title, description, priority, null);
+    }
+
+    public static IssueEventPayload deleted(String businessKey, String priority) {
+        return new IssueEventPayload(null, null, priority, businessKey);
+    }
+}
@@ -0,0 +1,135 @@
+package com.acme.middleware.domain.model;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Progress of a long-running sync from Jira, stored so that a restart resumes where the last
+ * run stopped instead of starting over. Incremental syncs keep a {@code watermark}; one-shot
+ * runs such as the backfill keep a {@code cursor} into Jira plus a count of issues processed.
+ */
+public class SyncCheckpoint {
+
+    public enum State {
+        REQUESTED,
+        RUNNING,
+        COMPLETED
+    }
+
+    private final String name;
+    private Instant watermark;
+    private String cursor;
+    private long processed;
+    // Jira's approximate count when the run began
+    private Long total;
+    private State state;
+    private Instant startedAt;
+    private Instant updatedAt;
+
+    private SyncCheckpoint(String name, Instant watermark, String cursor, long processed, Long total,
+                           State state, Instant startedAt, Instant updatedAt) {
+        this.name = Objects.requireNonNull(name, "Checkpoint name cannot be null");
+        this.watermark = watermark;
+        this.cursor = cursor;
+        this.processed = processed;
+        this.total = total;
+        this.state = state;
+        this.startedAt = startedAt;
+        this.updatedAt = updatedAt;
+    }
+
+    public static SyncCheckpoint start(String name) {
+        return new SyncCheckpoint(name, null, null, 0, null, null, null, Instant.now());
+    }
+
+    public static SyncCheckpoint restore(String name, Instant watermark, String cursor, long processed, Long total,
+                                         State state, Instant startedAt, Instant updatedAt) {
+        return new SyncCheckpoint(name, watermark, cursor, processed, total, state, startedAt, updatedAt);
+    }
+
+    /**
+     * Moves the watermark forward; everything changed before it has been synced.
+     */
+    public void advanceTo(Instant watermark) {
+        Objects.requireNonNull(watermark, "Watermark cannot be null");
+        if (this.watermark == null || watermark.isAfter(this.watermark)) {
+            this.watermark = watermark;
+        }
+        this.updatedAt = Instant.now();
+    }
+
+    /**
+     * Asks for a fresh run from the beginning; a worker picks it up with {@link #begin(Long)}.
+     */
+    public void request() {
+        if (isActive()) {
+            throw new IllegalStateException("Sync " + name + " is already " + state);
+        }
+        this.state = State.REQUESTED;
+        this.cursor = null;
+        this.processed = 0;
+        this.total = null;
+        this.startedAt = null;
+        this.updatedAt = Instant.now();
+    }
+
+    public void begin(Long total) {
+        if (state != State.REQUESTED) {
+            throw new IllegalStateException("Sync " + name + " was not requested");
+        }
+        this.state = State.RUNNING;
+        this.total = total;
+        this.startedAt = Instant.now();
+        this.updatedAt = this.startedAt;
+    }
+
+    /**
+     * Records a processed page; the next one starts after {@code cursor}.
+     */
+    public void recordPage(String cursor, int count) {
+        this.cursor = Objects.requireNonNull(cursor, "Cursor cannot be null");
+        this.processed += count;
+        this.updatedAt = Instant.now();
+    }
+
+    public void complete() {
+        this.state = State.COMPLETED;
+        this.updatedAt = Instant.now();
+    }
+
+    public boolean isActive() {
+        return state == State.REQUESTED || state == State.RUNNING;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Instant getWatermark() {
+        return watermark;
+    }
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    public long getProcessed() {
+        return processed;
+    }
+
+    public Long getTotal() {
+        return total;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+}
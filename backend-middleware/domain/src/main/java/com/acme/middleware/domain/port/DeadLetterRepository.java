@@ -0,0 +1,23 @@
+package com.acme.middleware.domain.port;
+
+import com.acme.middleware.domain.model.DeadLetterEvent;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface DeadLetterRepository {
+    DeadLetterEvent save(DeadLetterEvent deadLetter);
+
+    /**
+     * One page of dead letters, oldest failure first.
+     *
+     * @param errorClass only dead letters failed with this exception class; null for all
+     */
+    List<DeadLetterEvent> findPage(String errorClass, int page, int size);
+
+    long count(String errorClass);
+
+    List<DeadLetterEvent> findAllById(Collection<String> ids);
+
+    void deleteAllById(Collection<String> ids);
+}
@@ -1,5 +1,7 @@
 package com.acme.middleware.domain.port;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 
 import com.acme.middleware.domain.model.Event;
@@ -7,10 +9,36 @@ import com.acme.middleware.domain.model.Event;
 
 public interface EventRepository {
 
-    List<Event> findPendingEvents();
+    /**
+     * Claims up to {@code batchSize} pending events, oldest first, and marks them as
+     * processing so that concurrent pollers skip them. The claim is a lease: events whose
+     * lease expired (e.g. the worker crashed mid-sync) become claimable again.
+     */
+    List<Event> claimPendingEvents(int batchSize, Duration leaseDuration);
+
+    /**
+     * Pushes the lease of events still being processed to {@code lockedUntil}, so that a batch
+     * outlasting its lease is not claimed a second time. Events no longer processing are left alone.
+     */
+    void extendLease(List<Event> events, Instant lockedUntil);
+
+    /**
+     * Stores a newly created event and signals pollers that work is available.
+     */
+    Event append(Event event);
 
     Event save(Event event);
 
     void deleteById(String id);
-    
+
+    /**
+     * Records on the events that their effect is being sent to Jira, see
+     * {@link Event#markDispatched(Instant)}.
+     */
+    void markDispatched(List<Event> events, Instant dispatchedAt);
+
+    /**
+     * Moves processed events out of the outbox into the archive.
+     */
+    void archive(List<Event> events);
 }
@@ -2,6 +2,8 @@ package com.acme.middleware.domain.port;
 
 import com.acme.middleware.domain.model.Issue;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -9,6 +11,37 @@ import java.util.UUID;
 public interface IssueRepository {
     Issue save(Issue issue);
     Optional<Issue> findById(UUID issueId);
+    /**
+     * Loads several issues in one round trip. Ids with no issue are left out of the result.
+     */
+    List<Issue> findAllById(Collection<UUID> issueIds);
+    /**
+     * Loads the issues linked to the given Jira keys in one round trip.
+     */
+    List<Issue> findAllByBusinessKey(Collection<String> businessKeys);
+    /**
+     * Inserts or updates several issues, written in JDBC batches.
+     */
+    void saveAll(Collection<Issue> issues);
+    /**
+     * Writes issues linked to Jira keys without loading them first. Unknown keys are inserted;
+     * known ones are overwritten unless the stored issue was updated later. The id of an issue
+     * whose key is already stored is ignored.
+     */
+    void upsertAllByBusinessKey(Collection<Issue> issues);
+    /**
+     * Issues linked to Jira in business key order, starting after {@code afterBusinessKey}
+     * (null for the first page); for walking the table in bounded pages.
+     */
+    List<Issue> findLinkedAfter(String afterBusinessKey, int limit);
+    /**
+     * Number of issues linked to Jira.
+     */
+    long countLinked();
+    /**
+     * Latest {@code updatedAt} among the issues linked to Jira; empty when there are none.
+     */
+    Optional<Instant> findLatestLinkedUpdate();
     List<Issue> findAll();
     void deleteById(UUID issueId);
     boolean existsById(UUID issueId);
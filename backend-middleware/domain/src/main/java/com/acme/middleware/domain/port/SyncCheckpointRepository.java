@@ -0,0 +1,12 @@
+package com.acme.middleware.domain.port;
+
+import java.util.Optional;
+
+import com.acme.middleware.domain.model.SyncCheckpoint;
+
+public interface SyncCheckpointRepository {
+
+    Optional<SyncCheckpoint> findByName(String name);
+
+    SyncCheckpoint save(SyncCheckpoint checkpoint);
+}
@@ -1,6 +1,7 @@
 package com.acme.middleware.infrastructure.config;
 
 import com.acme.middleware.application.mapper.IssueApplicationMapper;
+import com.acme.middleware.application.port.SyncAdmissionPort;
 import com.acme.middleware.application.service.*;
 import com.acme.middleware.application.usecase.*;
 import com.acme.middleware.domain.port.DomainEventPublisher;
@@ -21,8 +22,9 @@ public class ApplicationConfig {
     public CreateIssueUseCase createIssueUseCase(IssueRepository issueRepository, 
                                              EventRepository eventRepository,
                                              DomainEventPublisher eventPublisher,
-                                             IssueApplicationMapper mapper) {
-        return new CreateIssueService(issueRepository, eventRepository, eventPublisher, mapper);
+                                             IssueApplicationMapper mapper,
+                                             SyncAdmissionPort syncAdmission) {
+        return new CreateIssueService(issueRepository, eventRepository, eventPublisher, mapper, syncAdmission);
     }
 
     @Bean
@@ -39,14 +41,16 @@ public class ApplicationConfig {
 
     @Bean
     public UpdateIssueUseCase updateIssueUseCase(IssueRepository issueRepository,
+                                             EventRepository eventRepository,
                                              DomainEventPublisher eventPublisher,
                                              IssueApplicationMapper mapper) {
-        return new UpdateIssueService(issueRepository, eventPublisher, mapper);
+        return new UpdateIssueService(issueRepository, eventRepository, eventPublisher, mapper);
     }
 
     @Bean
     public DeleteIssueUseCase deleteIssueUseCase(IssueRepository issueRepository,
+                                            EventRepository eventRepository,
                                             DomainEventPublisher eventPublisher) {
-        return new DeleteIssueService(issueRepository, eventPublisher);
+        return new DeleteIssueService(issueRepository, eventRepository, eventPublisher);
     }
 }
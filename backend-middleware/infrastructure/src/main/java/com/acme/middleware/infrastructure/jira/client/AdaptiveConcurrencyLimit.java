@@ -0,0 +1,177 @@
+package com.acme.middleware.infrastructure.jira.client;
+
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.acme.middleware.infrastructure.jira.config.JiraProperties;
+
+/**
+ * Limit on concurrent Jira calls that finds its own level, like TCP congestion control. While
+ * calls succeed at normal latency and the limit is actually used, it grows by about one per
+ * limit's worth of responses (additive increase). A dropped call (timeout, 5xx, 429) or a
+ * recent latency well above the long-run average cuts it by {@code backoffRatio}
+ * (multiplicative decrease), at most once per round of calls: calls started before the last
+ * cut do not cut again.
+ * <p>
+ * Bulk creates are averaged apart from single-issue calls and per issue, so a run of large
+ * bulk requests neither looks like a latency spike nor hides one. Calls refused before they
+ * were sent (circuit open, bulkhead full) say nothing about Jira and leave no sample.
+ */
+public class AdaptiveConcurrencyLimit {
+
+    private static final Logger log = LoggerFactory.getLogger(AdaptiveConcurrencyLimit.class);
+
+    // Smoothing of the recent and the long-run latency averages
+    private static final double SHORT_WEIGHT = 0.2;
+    private static final double LONG_WEIGHT = 0.02;
+
+    private final JiraProperties.Concurrency config;
+    private final LongSupplier nanoClock;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition slotFreed = lock.newCondition();
+
+    private final Latency singleLatency = new Latency();
+    private final Latency bulkLatency = new Latency();
+
+    private double limit;
+    private int inFlight;
+    private boolean decreased;
+    private long lastDecreaseAt;
+
+    public AdaptiveConcurrencyLimit(JiraProperties.Concurrency config, LongSupplier nanoClock) {
+        this.config = config;
+        this.nanoClock = nanoClock;
+        this.limit = config.initialLimit();
+    }
+
+    /**
+     * Waits for a free slot.
+     *
+     * @return the start time to pass to {@link #release(long, boolean)}
+     */
+    public long acquire() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (inFlight >= (int) limit) {
+                slotFreed.await();
+            }
+            inFlight++;
+            return nanoClock.getAsLong();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Frees the slot of a finished single-issue call and adjusts the limit to its outcome.
+     *
+     * @param dropped whether the call failed in a way that signals overload
+     */
+    public void release(long startedAt, boolean dropped) {
+        release(startedAt, dropped, singleLatency, 1);
+    }
+
+    /**
+     * Frees the slot of a finished bulk call; its latency is counted per issue.
+     *
+     * @param issues number of issues the request carried
+     */
+    public void releaseBulk(long startedAt, boolean dropped, int issues) {
+        release(startedAt, dropped, bulkLatency, Math.max(issues, 1));
+    }
+
+    /**
+     * Frees the slot of a call that never reached Jira, leaving the limit as it is.
+     */
+    public void releaseUnsampled() {
+        lock.lock();
+        try {
+            inFlight--;
+            slotFreed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release(long startedAt, boolean dropped, Latency latency, int issues) {
+        lock.lock();
+        try {
+            long now = nanoClock.getAsLong();
+            int concurrent = inFlight;
+            inFlight--;
+            if (dropped) {
+                decrease(startedAt, now);
+            } else {
+                latency.record((double) (now - startedAt) / issues);
+                if (latency.isSpiking(config.latencyTolerance())) {
+                    decrease(startedAt, now);
+                } else if (concurrent * 2 >= limit) {
+                    // Only grow a limit that is being used
+                    limit = Math.min(config.maxLimit(), limit + 1 / limit);
+                }
+            }
+            slotFreed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int limit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int inFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+
+    private void decrease(long startedAt, long now) {
+        if (decreased && startedAt - lastDecreaseAt < 0) {
+            return;
+        }
+        double previous = limit;
+        limit = Math.max(config.minLimit(), limit * config.backoffRatio());
+        decreased = true;
+        lastDecreaseAt = now;
+        if ((int) limit < (int) previous) {
+            log.info("Jira looks congested, lowering concurrent calls from {} to {}", (int) previous, (int) limit);
+        }
+    }
+
+    /**
+     * Recent and long-run latency averages of one kind of call; guarded by the limit's lock.
+     */
+    private static final class Latency {
+
+        private double shortAverage;
+        private double longAverage;
+
+        void record(double latency) {
+            if (longAverage == 0) {
+                shortAverage = latency;
+                longAverage = latency;
+                return;
+            }
+            shortAverage += SHORT_WEIGHT * (latency - shortAverage);
+            longAverage += LONG_WEIGHT * (latency - longAverage);
+        }
+
+        boolean isSpiking(double tolerance) {
+            return shortAverage > longAverage * tolerance;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.acme.middleware.infrastructure.jira.client;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import com.acme.middleware.application.dto.BulkCreateResult;
+import com.acme.middleware.application.dto.JiraIssueDraft;
+import com.acme.middleware.application.exceptions.JiraCallRejectedException;
+import com.acme.middleware.application.port.AsyncJiraIssuePort;
+import com.acme.middleware.application.port.JiraIssuePort;
+import com.acme.middleware.infrastructure.jira.config.JiraProperties;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Runs the blocking Jira client on virtual threads. A call waiting on Jira parks its virtual
+ * thread and releases the carrier, so hundreds of requests can be in flight on a handful of
+ * platform threads. How many actually are is decided by an {@link AdaptiveConcurrencyLimit}
+ * (never above the connection pool's per-route limit); further calls wait here, cheaply.
+ * Exposed as {@code jira.concurrency.limit} and {@code jira.concurrency.inflight}.
+ */
+@Component
+public class AsyncJiraIssueAdapter implements AsyncJiraIssuePort, DisposableBean {
+
+    private final JiraIssuePort jiraIssuePort;
+    private final AdaptiveConcurrencyLimit concurrencyLimit;
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("jira-call-", 0).factory());
+
+    public AsyncJiraIssueAdapter(JiraIssuePort jiraIssuePort, JiraProperties props, MeterRegistry meterRegistry) {
+        this.jiraIssuePort = jiraIssuePort;
+        this.concurrencyLimit = new AdaptiveConcurrencyLimit(props.concurrency(), System::nanoTime);
+        Gauge.builder("jira.concurrency.limit", concurrencyLimit, AdaptiveConcurrencyLimit::limit)
+                .description("Jira calls allowed in flight")
+                .register(meterRegistry);
+        Gauge.builder("jira.concurrency.inflight", concurrencyLimit, AdaptiveConcurrencyLimit::inFlight)
+                .description("Jira calls in flight")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public CompletableFuture<String> createIssueWithAdf(String summary, String description, String issueType, String duedate, String priority) {
+        return submit(() -> jiraIssuePort.createIssueWithAdf(summary, description, issueType, duedate, priority));
+    }
+
+    @Override
+    public CompletableFuture<List<BulkCreateResult>> createIssuesBulk(List<JiraIssueDraft> drafts) {
+        return submit(() -> jiraIssuePort.createIssuesBulk(drafts), drafts.size());
+    }
+
+    @Override
+    public CompletableFuture<Map<String, String>> findIssueKeysByLabels(Collection<String> labels) {
+        return submit(() -> jiraIssuePort.findIssueKeysByLabels(labels));
+    }
+
+    @Override
+    public CompletableFuture<Void> updateIssueWithAdf(String issueKey, JiraIssueDraft draft) {
+        return submit(() -> {
+            jiraIssuePort.updateIssueWithAdf(issueKey, draft);
+            return null;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> updateIssue(String issueKey, Map<String, Object> fields) {
+        return submit(() -> {
+            jiraIssuePort.updateIssue(issueKey, fields);
+            return null;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteIssue(String issueKey) {
+        return submit(() -> {
+            jiraIssuePort.deleteIssue(issueKey);
+            return null;
+        });
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> call) {
+        return submit(call, 0);
+    }
+
+    /**
+     * @param bulkIssues issues carried by a bulk request, or 0 for a single-issue call
+     */
+    private <T> CompletableFuture<T> submit(Supplier<T> call, int bulkIssues) {
+        return CompletableFuture.supplyAsync(() -> {
+            long startedAt;
+            try {
+                startedAt = concurrencyLimit.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CancellationException("Interrupted while waiting for a Jira slot");
+            }
+            RuntimeException failure = null;
+            try {
+                return call.get();
+            } catch (RuntimeException e) {
+                failure = e;
+                throw e;
+            } finally {
+                release(startedAt, bulkIssues, failure);
+            }
+        }, executor);
+    }
+
+    private void release(long startedAt, int bulkIssues, RuntimeException failure) {
+        if (failure instanceof JiraCallRejectedException) {
+            // Refused on this side before reaching Jira; tells nothing about its latency
+            concurrencyLimit.releaseUnsampled();
+        } else if (bulkIssues > 0) {
+            concurrencyLimit.releaseBulk(startedAt, failure != null && isOverload(failure), bulkIssues);
+        } else {
+            concurrencyLimit.release(startedAt, failure != null && isOverload(failure));
+        }
+    }
+
+    /**
+     * Failures that say Jira (or the way to it) is overloaded, as opposed to a rejected request.
+     */
+    static boolean isOverload(RuntimeException e) {
+        return e instanceof ResourceAccessException
+                || e instanceof HttpServerErrorException
+                || e instanceof HttpClientErrorException.TooManyRequests;
+    }
+
+    @Override
+    public void destroy() {
+        executor.close();
+    }
+}
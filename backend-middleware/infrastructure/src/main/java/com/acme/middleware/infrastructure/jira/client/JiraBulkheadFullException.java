@@ -0,0 +1,15 @@
+package com.acme.middleware.infrastructure.jira.client;
+
+import java.time.Duration;
+
+import com.acme.middleware.application.exceptions.JiraCallRejectedException;
+
+/**
+ * A Jira call refused because its bulkhead stayed full for longer than the allowed wait.
+ */
+public class JiraBulkheadFullException extends JiraCallRejectedException {
+
+    public JiraBulkheadFullException(JiraBulkheads.Kind kind) {
+        super("Too many concurrent Jira " + kind.name().toLowerCase() + " calls", Duration.ZERO);
+    }
+}
@@ -0,0 +1,89 @@
+package com.acme.middleware.infrastructure.jira.client;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+
+import com.acme.middleware.infrastructure.jira.config.JiraProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * One semaphore per kind of Jira call, so a flood of creates cannot starve deletes, and a slow
+ * search behind a REST request cannot hold up the outbox. Free slots are exposed as
+ * {@code jira.bulkhead.available} and refusals counted in {@code jira.bulkhead.rejected}, both
+ * tagged by kind.
+ */
+@Component
+public class JiraBulkheads {
+
+    public enum Kind {
+        CREATE,
+        UPDATE,
+        DELETE,
+        READ
+    }
+
+    private final long maxWaitNanos;
+    private final Map<Kind, Semaphore> permits = new EnumMap<>(Kind.class);
+    private final Map<Kind, Counter> rejected = new EnumMap<>(Kind.class);
+
+    public JiraBulkheads(JiraProperties props, MeterRegistry meterRegistry) {
+        JiraProperties.Bulkheads config = props.bulkheads();
+        this.maxWaitNanos = config.maxWait().toNanos();
+        permits.put(Kind.CREATE, new Semaphore(config.creates()));
+        permits.put(Kind.UPDATE, new Semaphore(config.updates()));
+        permits.put(Kind.DELETE, new Semaphore(config.deletes()));
+        permits.put(Kind.READ, new Semaphore(config.reads()));
+        for (Kind kind : Kind.values()) {
+            Gauge.builder("jira.bulkhead.available", permits.get(kind), Semaphore::availablePermits)
+                    .description("Free slots for concurrent Jira calls")
+                    .tag("kind", kind.name())
+                    .register(meterRegistry);
+            rejected.put(kind, Counter.builder("jira.bulkhead.rejected")
+                    .description("Jira calls refused because their bulkhead stayed full")
+                    .tag("kind", kind.name())
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Takes a slot, waiting at most the configured time for one.
+     *
+     * @throws JiraBulkheadFullException if no slot freed up in time
+     */
+    public void acquire(Kind kind) throws InterruptedException {
+        if (!permits.get(kind).tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS)) {
+            rejected.get(kind).increment();
+            throw new JiraBulkheadFullException(kind);
+        }
+    }
+
+    public void release(Kind kind) {
+        permits.get(kind).release();
+    }
+
+    /**
+     * Kind of a Jira REST call. Searches and bulk fetches are POSTs but only read.
+     */
+    public static Kind classify(HttpMethod method, String path) {
+        if (HttpMethod.GET.equals(method) || HttpMethod.HEAD.equals(method)
+                || path.contains("/search") || path.endsWith("/bulkfetch")) {
+            return Kind.READ;
+        }
+        if (HttpMethod.DELETE.equals(method)) {
+            return Kind.DELETE;
+        }
+        if (HttpMethod.POST.equals(method) && (path.endsWith("/issue") || path.endsWith("/issue/bulk"))) {
+            return Kind.CREATE;
+        }
+        // PUT on an issue, POST on its transitions or comments
+        return Kind.UPDATE;
+    }
+}
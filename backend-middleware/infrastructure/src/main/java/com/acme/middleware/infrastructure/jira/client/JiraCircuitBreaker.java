@@ -0,0 +1,221 @@
+package com.acme.middleware.infrastructure.jira.client;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import com.acme.middleware.infrastructure.jira.config.JiraProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Circuit breaker over all Jira calls of this node, on a count-based sliding window of call
+ * outcomes. Every state change is logged, published as a {@link JiraCircuitStateChangedEvent},
+ * counted in {@code jira.circuit.transitions} (tagged {@code to}) and reflected in the
+ * {@code jira.circuit.state} gauge (0 closed, 1 open, 2 half-open).
+ * <p>
+ * Permissions carry the generation they were granted in, so the late outcome of a call started
+ * before a state change cannot count against the new state.
+ */
+@Component
+public class JiraCircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    // Returned instead of a permission while calls are refused
+    static final long DENIED = -1;
+
+    private static final Logger log = LoggerFactory.getLogger(JiraCircuitBreaker.class);
+
+    private final JiraProperties.CircuitBreaker config;
+    private final LongSupplier nanoClock;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Map<State, Counter> transitions = new EnumMap<>(State.class);
+
+    // Ring buffer of the last outcomes, true = failed
+    private final boolean[] window;
+    private int windowNext;
+    private int windowCount;
+    private int windowFailures;
+
+    private State state = State.CLOSED;
+    private long generation;
+    private long openedAt;
+    private int probesStarted;
+    private int probesSucceeded;
+    // Set on a state change, cleared once it has been published outside the lock
+    private boolean pendingTransition;
+
+    @Autowired
+    public JiraCircuitBreaker(JiraProperties props, ApplicationEventPublisher eventPublisher, MeterRegistry meterRegistry) {
+        this(props.circuitBreaker(), System::nanoTime, eventPublisher, meterRegistry);
+    }
+
+    JiraCircuitBreaker(JiraProperties.CircuitBreaker config, LongSupplier nanoClock, ApplicationEventPublisher eventPublisher, MeterRegistry meterRegistry) {
+        this.config = config;
+        this.nanoClock = nanoClock;
+        this.eventPublisher = eventPublisher;
+        this.window = new boolean[config.slidingWindowSize()];
+        Gauge.builder("jira.circuit.state", this, breaker -> breaker.state().ordinal())
+                .description("Jira circuit breaker state: 0 closed, 1 open, 2 half-open")
+                .register(meterRegistry);
+        for (State to : State.values()) {
+            transitions.put(to, Counter.builder("jira.circuit.transitions")
+                    .description("Jira circuit breaker state changes")
+                    .tag("to", to.name())
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Asks to send one call.
+     *
+     * @return a permission to hand to {@link #onResult(long, boolean)} or {@link #release(long)},
+     *         or {@link #DENIED}
+     */
+    public long tryAcquire() {
+        State from;
+        long permission;
+        synchronized (this) {
+            from = state;
+            if (state == State.OPEN && nanoClock.getAsLong() - openedAt >= config.openDuration().toNanos()) {
+                moveTo(State.HALF_OPEN);
+            }
+            permission = switch (state) {
+                case CLOSED -> generation;
+                case OPEN -> DENIED;
+                case HALF_OPEN -> probesStarted < config.halfOpenProbes() ? startProbe() : DENIED;
+            };
+        }
+        publish(from);
+        return permission;
+    }
+
+    /**
+     * Records the outcome of a permitted call.
+     *
+     * @param failed whether the call failed in a way that signals Jira is unwell
+     */
+    public void onResult(long permission, boolean failed) {
+        State from;
+        synchronized (this) {
+            from = state;
+            if (permission != generation) {
+                return;
+            }
+            if (state == State.HALF_OPEN) {
+                if (failed) {
+                    open();
+                } else if (++probesSucceeded >= config.halfOpenProbes()) {
+                    moveTo(State.CLOSED);
+                }
+            } else if (state == State.CLOSED) {
+                record(failed);
+                if (windowCount >= config.minimumCalls()
+                        && windowFailures * 100 >= config.failureRateThreshold() * windowCount) {
+                    open();
+                }
+            }
+        }
+        publish(from);
+    }
+
+    /**
+     * Returns a permission whose call never reached Jira, for instance because its bulkhead was
+     * full. No outcome is recorded, and a half-open probe slot goes back to the next caller.
+     */
+    public synchronized void release(long permission) {
+        if (permission != generation) {
+            return;
+        }
+        if (state == State.HALF_OPEN && probesStarted > probesSucceeded) {
+            probesStarted--;
+        }
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+
+    /**
+     * Time until an open breaker lets probes through; zero unless open.
+     */
+    public synchronized Duration remainingOpen() {
+        if (state != State.OPEN) {
+            return Duration.ZERO;
+        }
+        long left = config.openDuration().toNanos() - (nanoClock.getAsLong() - openedAt);
+        return left > 0 ? Duration.ofNanos(left) : Duration.ZERO;
+    }
+
+    private long startProbe() {
+        probesStarted++;
+        return generation;
+    }
+
+    private void record(boolean failed) {
+        if (windowCount == window.length) {
+            if (window[windowNext]) {
+                windowFailures--;
+            }
+        } else {
+            windowCount++;
+        }
+        window[windowNext] = failed;
+        if (failed) {
+            windowFailures++;
+        }
+        windowNext = (windowNext + 1) % window.length;
+    }
+
+    private void open() {
+        moveTo(State.OPEN);
+        openedAt = nanoClock.getAsLong();
+    }
+
+    private void moveTo(State to) {
+        state = to;
+        generation++;
+        probesStarted = 0;
+        probesSucceeded = 0;
+        windowNext = 0;
+        windowCount = 0;
+        windowFailures = 0;
+        pendingTransition = true;
+    }
+
+    private void publish(State from) {
+        State to;
+        synchronized (this) {
+            if (!pendingTransition) {
+                return;
+            }
+            pendingTransition = false;
+            to = state;
+        }
+        if (to == from) {
+            return;
+        }
+        transitions.get(to).increment();
+        if (to == State.OPEN) {
+            log.warn("Jira circuit breaker {} -> {}: failing calls fast for {}", from, to, config.openDuration());
+        } else {
+            log.info("Jira circuit breaker {} -> {}", from, to);
+        }
+        eventPublisher.publishEvent(new JiraCircuitStateChangedEvent(from, to, Instant.now()));
+    }
+}
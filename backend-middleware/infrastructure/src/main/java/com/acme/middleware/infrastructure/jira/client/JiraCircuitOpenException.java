@@ -0,0 +1,15 @@
+package com.acme.middleware.infrastructure.jira.client;
+
+import java.time.Duration;
+
+import com.acme.middleware.application.exceptions.JiraCallRejectedException;
+
+/**
+ * A Jira call refused without being sent because the circuit breaker is open.
+ */
+public class JiraCircuitOpenException extends JiraCallRejectedException {
+
+    public JiraCircuitOpenException(Duration retryAfter) {
+        super("Jira is unavailable, calls are suspended for " + retryAfter.toSeconds() + "s", retryAfter);
+    }
+}
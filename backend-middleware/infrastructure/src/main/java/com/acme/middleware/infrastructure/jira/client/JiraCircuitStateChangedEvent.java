@@ -0,0 +1,9 @@
+package com.acme.middleware.infrastructure.jira.client;
+
+import java.time.Instant;
+
+/**
+ * Published as a Spring application event whenever the Jira circuit breaker changes state.
+ */
+public record JiraCircuitStateChangedEvent(JiraCircuitBreaker.State from, JiraCircuitBreaker.State to, Instant at) {
+}
@@ -0,0 +1,66 @@
+package com.acme.middleware.infrastructure.jira.client;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import com.acme.middleware.infrastructure.jira.config.JiraProperties;
+
+/**
+ * Fills the Jira connection pool once the application is up. The requests run concurrently so
+ * each opens its own connection, and the first outbox batch finds them already handshaken.
+ * Failures are only logged: Jira being unreachable must not hold up startup.
+ */
+@Component
+public class JiraConnectionWarmup {
+
+    private static final Logger log = LoggerFactory.getLogger(JiraConnectionWarmup.class);
+
+    // Cheap, read-only endpoint available to every account
+    private static final String WARMUP_PATH = "/rest/api/3/serverInfo";
+
+    private final RestTemplate jiraRestTemplate;
+    private final JiraProperties props;
+
+    public JiraConnectionWarmup(RestTemplate jiraRestTemplate, JiraProperties props) {
+        this.jiraRestTemplate = jiraRestTemplate;
+        this.props = props;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        int connections = props.http().warmupConnections();
+        if (connections <= 0 || props.baseUrl() == null || props.baseUrl().isBlank()) {
+            return;
+        }
+        Thread.ofVirtual().name("jira-warmup").start(() -> openConnections(connections));
+    }
+
+    void openConnections(int connections) {
+        AtomicInteger opened = new AtomicInteger();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            CompletableFuture<?>[] requests = new CompletableFuture<?>[connections];
+            for (int i = 0; i < connections; i++) {
+                requests[i] = CompletableFuture.runAsync(() -> {
+                    try {
+                        jiraRestTemplate.getForEntity(WARMUP_PATH, String.class);
+                        opened.incrementAndGet();
+                    } catch (RestClientException e) {
+                        log.debug("Jira warm-up request failed: {}", e.getMessage());
+                    }
+                }, executor);
+            }
+            CompletableFuture.allOf(requests).join();
+        }
+        log.info("Jira connection pool warmed up: {}/{} connections", opened.get(), connections);
+    }
+}
@@ -0,0 +1,128 @@
+package com.acme.middleware.infrastructure.jira.client;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import com.acme.middleware.infrastructure.jira.config.JiraProperties;
+
+/**
+ * Puts every Jira request through the {@link JiraRateLimiter} and feeds Jira's rate-limit headers
+ * back into it. A throttled request was not processed by Jira, so it is re-sent here once the
+ * pause is over instead of failing its sync attempt; only after {@code maxRetries} is the 429
+ * handed to the caller.
+ * <p>
+ * Must be the last interceptor: re-sending goes straight to the underlying request.
+ */
+public class JiraRateLimitInterceptor implements ClientHttpRequestInterceptor {
+
+    static final String RATE_LIMIT_REMAINING = "X-RateLimit-Remaining";
+    static final String RATE_LIMIT_RESET = "X-RateLimit-Reset";
+    static final String RATE_LIMIT_NEAR_LIMIT = "X-RateLimit-NearLimit";
+
+    private final JiraRateLimiter rateLimiter;
+    private final JiraProperties.RateLimit config;
+
+    public JiraRateLimitInterceptor(JiraRateLimiter rateLimiter, JiraProperties.RateLimit config) {
+        this.rateLimiter = rateLimiter;
+        this.config = config;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        for (int attempt = 0; ; attempt++) {
+            try {
+                rateLimiter.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for the Jira rate limit");
+            }
+
+            ClientHttpResponse response = execution.execute(request, body);
+            HttpHeaders headers = response.getHeaders();
+            if (response.getStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value()) {
+                rateLimiter.onThrottled(retryAfter(headers, Instant.now()).orElse(config.defaultRetryAfter()));
+                if (attempt < config.maxRetries()) {
+                    response.close();
+                    continue;
+                }
+                return response;
+            }
+            learn(headers);
+            return response;
+        }
+    }
+
+    private void learn(HttpHeaders headers) {
+        Optional<Long> remaining = longHeader(headers, RATE_LIMIT_REMAINING);
+        if (remaining.isPresent() && remaining.get() <= 0) {
+            Optional<Instant> reset = instantHeader(headers, RATE_LIMIT_RESET);
+            Duration resetIn = reset.map(at -> Duration.between(Instant.now(), at)).orElse(config.defaultRetryAfter());
+            if (!resetIn.isNegative()) {
+                rateLimiter.onExhausted(resetIn);
+            }
+            return;
+        }
+        if ("true".equalsIgnoreCase(headers.getFirst(RATE_LIMIT_NEAR_LIMIT))) {
+            rateLimiter.onNearLimit();
+        } else {
+            rateLimiter.onSuccess();
+        }
+    }
+
+    /**
+     * {@code Retry-After} as delay seconds or as an HTTP date.
+     */
+    static Optional<Duration> retryAfter(HttpHeaders headers, Instant now) {
+        String value = headers.getFirst(HttpHeaders.RETRY_AFTER);
+        if (value == null || value.isBlank()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Duration.ofSeconds(Math.max(0, Long.parseLong(value.trim()))));
+        } catch (NumberFormatException e) {
+            try {
+                Duration delay = Duration.between(now, ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant());
+                return Optional.of(delay.isNegative() ? Duration.ZERO : delay);
+            } catch (DateTimeParseException ignored) {
+                return Optional.empty();
+            }
+        }
+    }
+
+    private static Optional<Long> longHeader(HttpHeaders headers, String name) {
+        String value = headers.getFirst(name);
+        if (value == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Long.parseLong(value.trim()));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static Optional<Instant> instantHeader(HttpHeaders headers, String name) {
+        String value = headers.getFirst(name);
+        if (value == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Instant.parse(value.trim()));
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+}
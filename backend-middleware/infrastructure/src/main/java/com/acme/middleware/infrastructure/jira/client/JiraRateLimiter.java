@@ -0,0 +1,174 @@
+package com.acme.middleware.infrastructure.jira.client;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.acme.middleware.infrastructure.jira.config.JiraProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Adaptive token bucket shared by every Jira call of this node. The refill rate follows Jira's
+ * feedback: a 429 halves it and pauses all callers until {@code Retry-After} has passed, a
+ * near-limit warning trims it, and clean responses raise it again towards the configured
+ * maximum. Callers block in {@link #acquire()}; on virtual threads that costs nothing.
+ * <p>
+ * Metrics: {@code jira.ratelimit.rate}, {@code jira.ratelimit.tokens},
+ * {@code jira.ratelimit.paused} (seconds left) and the {@code jira.ratelimit.throttled} counter.
+ */
+@Component
+public class JiraRateLimiter {
+
+    private static final Logger log = LoggerFactory.getLogger(JiraRateLimiter.class);
+
+    // Share of the rate kept after a 429, and after a near-limit warning
+    private static final double THROTTLED_FACTOR = 0.5;
+    private static final double NEAR_LIMIT_FACTOR = 0.9;
+    // Clean responses needed to grow the rate by one request per second
+    private static final double RESPONSES_PER_STEP = 20;
+
+    private final JiraProperties.RateLimit config;
+    private final LongSupplier nanoClock;
+    private final Counter throttled;
+
+    private double rate;
+    private double tokens;
+    private long refilledAt;
+    private long pausedUntil;
+
+    @Autowired
+    public JiraRateLimiter(JiraProperties props, MeterRegistry meterRegistry) {
+        this(props.rateLimit(), System::nanoTime, meterRegistry);
+    }
+
+    JiraRateLimiter(JiraProperties.RateLimit config, LongSupplier nanoClock, MeterRegistry meterRegistry) {
+        this.config = config;
+        this.nanoClock = nanoClock;
+        this.rate = config.maxPerSecond();
+        this.tokens = config.burst();
+        this.refilledAt = nanoClock.getAsLong();
+        this.pausedUntil = refilledAt;
+        Gauge.builder("jira.ratelimit.rate", this, JiraRateLimiter::currentRate)
+                .description("Jira requests per second currently allowed")
+                .register(meterRegistry);
+        Gauge.builder("jira.ratelimit.tokens", this, JiraRateLimiter::availableTokens)
+                .description("Jira requests that may start right away")
+                .register(meterRegistry);
+        Gauge.builder("jira.ratelimit.paused", this, limiter -> limiter.pausedFor().toMillis() / 1000.0)
+                .description("Time left before Jira calls resume after a 429")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        this.throttled = Counter.builder("jira.ratelimit.throttled")
+                .description("Jira responses with status 429")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Blocks until a request may be sent.
+     */
+    public void acquire() throws InterruptedException {
+        long waitNanos;
+        while ((waitNanos = reserve()) > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    /**
+     * Takes a token if one is available.
+     *
+     * @return 0 when a token was taken, otherwise the nanoseconds to wait before asking again
+     */
+    synchronized long reserve() {
+        long now = nanoClock.getAsLong();
+        if (now - pausedUntil < 0) {
+            return pausedUntil - now;
+        }
+        refill(now);
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+        return Math.max(1, (long) ((1 - tokens) / rate * TimeUnit.SECONDS.toNanos(1)));
+    }
+
+    /**
+     * Jira answered 429: stop everyone for {@code retryAfter} and halve the rate.
+     */
+    public synchronized void onThrottled(Duration retryAfter) {
+        throttled.increment();
+        long now = nanoClock.getAsLong();
+        refill(now);
+        pauseUntil(now + retryAfter.toNanos());
+        rate = Math.max(config.minPerSecond(), rate * THROTTLED_FACTOR);
+        tokens = 0;
+        log.warn("Jira rate limit hit, pausing calls for {} and slowing down to {} req/s", retryAfter, String.format("%.2f", rate));
+    }
+
+    /**
+     * Jira reports the quota is nearly used up.
+     */
+    public synchronized void onNearLimit() {
+        refill(nanoClock.getAsLong());
+        rate = Math.max(config.minPerSecond(), rate * NEAR_LIMIT_FACTOR);
+    }
+
+    /**
+     * Jira reports the quota is used up until {@code resetIn} from now.
+     */
+    public synchronized void onExhausted(Duration resetIn) {
+        long now = nanoClock.getAsLong();
+        refill(now);
+        pauseUntil(now + resetIn.toNanos());
+        tokens = 0;
+    }
+
+    /**
+     * A response without any throttling signal.
+     */
+    public synchronized void onSuccess() {
+        refill(nanoClock.getAsLong());
+        rate = Math.min(config.maxPerSecond(), rate + 1 / RESPONSES_PER_STEP);
+    }
+
+    public synchronized double currentRate() {
+        return rate;
+    }
+
+    public synchronized double availableTokens() {
+        long now = nanoClock.getAsLong();
+        if (now - pausedUntil < 0) {
+            return 0;
+        }
+        refill(now);
+        return tokens;
+    }
+
+    public synchronized Duration pausedFor() {
+        long left = pausedUntil - nanoClock.getAsLong();
+        return left > 0 ? Duration.ofNanos(left) : Duration.ZERO;
+    }
+
+    private void pauseUntil(long until) {
+        if (until - pausedUntil > 0) {
+            pausedUntil = until;
+        }
+    }
+
+    private void refill(long now) {
+        // Nothing accrues while paused
+        long from = now - pausedUntil < 0 ? now : Math.max(refilledAt, pausedUntil);
+        long elapsed = now - from;
+        if (elapsed > 0) {
+            tokens = Math.min(config.burst(), tokens + rate * elapsed / TimeUnit.SECONDS.toNanos(1));
+        }
+        refilledAt = now;
+    }
+}
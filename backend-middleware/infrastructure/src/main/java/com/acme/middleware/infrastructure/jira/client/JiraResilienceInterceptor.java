@@ -0,0 +1,59 @@
+package com.acme.middleware.infrastructure.jira.client;
+
+import java.io.IOException;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * Puts every Jira call through its bulkhead and the circuit breaker. While the breaker is open
+ * calls fail at once with {@link JiraCircuitOpenException} instead of waiting out the connect and
+ * response timeouts. Connection errors, 5xx and a 429 that survived the rate limiter's retries
+ * count as failures; any other answer shows Jira is up.
+ * <p>
+ * Sits in front of {@link JiraRateLimitInterceptor}, so a throttled call holds its slot while it
+ * waits for its retries and the breaker sees only the final outcome.
+ */
+public class JiraResilienceInterceptor implements ClientHttpRequestInterceptor {
+
+    private final JiraCircuitBreaker circuitBreaker;
+    private final JiraBulkheads bulkheads;
+
+    public JiraResilienceInterceptor(JiraCircuitBreaker circuitBreaker, JiraBulkheads bulkheads) {
+        this.circuitBreaker = circuitBreaker;
+        this.bulkheads = bulkheads;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        long permission = circuitBreaker.tryAcquire();
+        if (permission == JiraCircuitBreaker.DENIED) {
+            throw new JiraCircuitOpenException(circuitBreaker.remainingOpen());
+        }
+
+        JiraBulkheads.Kind kind = JiraBulkheads.classify(request.getMethod(), request.getURI().getPath());
+        boolean failed = true;
+        try {
+            bulkheads.acquire(kind);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            circuitBreaker.release(permission);
+            throw new IOException("Interrupted while waiting for a Jira " + kind + " slot", e);
+        } catch (JiraBulkheadFullException e) {
+            // Local congestion says nothing about Jira's health
+            circuitBreaker.release(permission);
+            throw e;
+        }
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            int status = response.getStatusCode().value();
+            failed = status >= 500 || status == 429;
+            return response;
+        } finally {
+            bulkheads.release(kind);
+            circuitBreaker.onResult(permission, failed);
+        }
+    }
+}
@@ -1,11 +1,25 @@
 package com.acme.middleware.infrastructure.jira.client;
 
+import com.acme.middleware.application.dto.BulkCreateResult;
+import com.acme.middleware.application.dto.JiraIssueDraft;
+import com.acme.middleware.application.dto.JiraIssuePage;
+import com.acme.middleware.application.dto.JiraIssueSnapshot;
+import com.acme.middleware.application.exceptions.InvalidJiraPayloadException;
 import com.acme.middleware.application.port.JiraIssuePort;
+import com.acme.middleware.application.port.JiraIssueSearchPort;
 import com.acme.middleware.application.usecase.IssueUseCase;
+import com.acme.middleware.domain.model.IssueConstants;
+import com.acme.middleware.domain.model.IssueStatus;
 import com.acme.middleware.infrastructure.jira.config.JiraProperties;
+import com.acme.middleware.infrastructure.jira.dto.JiraBulkCreateRequest;
+import com.acme.middleware.infrastructure.jira.dto.JiraBulkCreateResponse;
 import com.acme.middleware.infrastructure.jira.dto.JiraCreateIssueRequest;
 import com.acme.middleware.infrastructure.jira.dto.JiraCreateIssueResponse;
-import com.acme.middleware.infrastructure.jira.dto.JiraIssueFields;
+import com.acme.middleware.infrastructure.jira.dto.JiraPriority;
+import com.acme.middleware.infrastructure.jira.dto.JiraSearchRequest;
+import com.acme.middleware.infrastructure.jira.dto.JiraSearchResponse;
+import com.acme.middleware.infrastructure.jira.dto.adf.AdfDocument;
+import com.acme.middleware.infrastructure.jira.metadata.JiraMetadataCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpEntity;
@@ -14,28 +28,58 @@ import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
 import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Component
-public class JiraRestClientAdapter implements IssueUseCase, JiraIssuePort {
+public class JiraRestClientAdapter implements IssueUseCase, JiraIssuePort, JiraIssueSearchPort {
 
     private static final Logger log = LoggerFactory.getLogger(JiraRestClientAdapter.class);
 
+    // Everything mapped onto a local issue, and nothing else
+    static final List<String> SNAPSHOT_FIELDS = List.of("summary", "description", "status", "priority", "duedate", "created", "updated", "labels");
+    // What the reconciliation compares; descriptions are left out as the bulk of a page
+    static final List<String> LISTING_FIELDS = List.of("summary", "status", "priority", "duedate");
+    private static final DateTimeFormatter JQL_DATE = DateTimeFormatter.ofPattern("yyyy/MM/dd HH:mm");
+    private static final DateTimeFormatter JIRA_TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSZ");
+
     private final RestTemplate jiraRestTemplate;
     private final JiraProperties props;
+    private final JiraMetadataCache metadataCache;
 
-    public JiraRestClientAdapter(RestTemplate jiraRestTemplate, JiraProperties props) {
+    public JiraRestClientAdapter(RestTemplate jiraRestTemplate, JiraProperties props, JiraMetadataCache metadataCache) {
         this.jiraRestTemplate = jiraRestTemplate;
         this.props = props;
+        this.metadataCache = metadataCache;
     }
 
     @Override
     public String createIssue(String summary, String description, String issueType, Instant dueDate, String priority) {
-        return createIssueWithAdf(summary, description, issueType, dueDate.toString(), priority);
+        return createIssueWithAdf(summary, description, issueType, toJiraDate(dueDate), priority);
+    }
+
+    /**
+     * Jira date fields take a plain YYYY-MM-DD date
+     */
+    static String toJiraDate(Instant instant) {
+        return instant != null ? LocalDate.ofInstant(instant, ZoneOffset.UTC).toString() : null;
     }
 
     /**
@@ -44,20 +88,9 @@ public class JiraRestClientAdapter implements IssueUseCase, JiraIssuePort {
     public String createIssueWithAdf(String summary, String description, String issueType, String duedate, String priority) {
         String url = "/rest/api/3/issue";
         
-        JiraIssueFields fields = JiraIssueFields.of(
-            props.projectKey(),
-            summary,
-            description != null ? description : "",
-            issueType,
-            duedate,
-            priority
-        );
-        
-        JiraCreateIssueRequest request = JiraCreateIssueRequest.of(fields);
+        JiraCreateIssueRequest request = toCreateRequest(new JiraIssueDraft(summary, description, issueType, duedate, priority));
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.setAccept(MediaType.parseMediaTypes("application/json"));
+        HttpHeaders headers = jsonHeaders();
 
         try {
             ResponseEntity<JiraCreateIssueResponse> response = jiraRestTemplate.exchange(
@@ -79,6 +112,336 @@ public class JiraRestClientAdapter implements IssueUseCase, JiraIssuePort {
         }
     }
 
+    /**
+     * Creates issues through {@code /rest/api/3/issue/bulk}, {@value JiraIssuePort#MAX_BULK_CREATE}
+     * per request. Jira answers 201 when every element was created and 400 when none was; a
+     * partial failure also comes back as 201, with the rejected elements listed in {@code errors}.
+     * A transport or server failure is rethrown and fails the whole chunk. Drafts the project's
+     * metadata rules out are rejected without being sent.
+     */
+    @Override
+    public List<BulkCreateResult> createIssuesBulk(List<JiraIssueDraft> drafts) {
+        List<BulkCreateResult> results = new ArrayList<>(Collections.nCopies(drafts.size(), null));
+        List<Integer> positions = new ArrayList<>(drafts.size());
+        List<JiraCreateIssueRequest> requests = new ArrayList<>(drafts.size());
+        for (int i = 0; i < drafts.size(); i++) {
+            try {
+                requests.add(toCreateRequest(drafts.get(i)));
+                positions.add(i);
+            } catch (InvalidJiraPayloadException e) {
+                results.set(i, BulkCreateResult.rejected(e.getMessage()));
+            }
+        }
+        for (int from = 0; from < requests.size(); from += MAX_BULK_CREATE) {
+            int to = Math.min(from + MAX_BULK_CREATE, requests.size());
+            List<BulkCreateResult> chunkResults = postBulkCreate(requests.subList(from, to));
+            for (int i = 0; i < chunkResults.size(); i++) {
+                results.set(positions.get(from + i), chunkResults.get(i));
+            }
+        }
+        return results;
+    }
+
+    private List<BulkCreateResult> postBulkCreate(List<JiraCreateIssueRequest> chunk) {
+        String url = "/rest/api/3/issue/bulk";
+
+        JiraBulkCreateRequest request = JiraBulkCreateRequest.of(chunk);
+
+        JiraBulkCreateResponse responseBody;
+        try {
+            ResponseEntity<JiraBulkCreateResponse> response = jiraRestTemplate.exchange(
+                    url,
+                    HttpMethod.POST,
+                    new HttpEntity<>(request, jsonHeaders()),
+                    JiraBulkCreateResponse.class
+            );
+            responseBody = response.getBody();
+        } catch (HttpClientErrorException.BadRequest e) {
+            // Every element was rejected; the body still carries the per-element errors
+            responseBody = e.getResponseBodyAs(JiraBulkCreateResponse.class);
+            if (responseBody == null || responseBody.errors() == null) {
+                log.error("Error bulk creating Jira issues in project {}: {}", props.projectKey(), e.getMessage());
+                throw e;
+            }
+        } catch (RestClientException e) {
+            log.error("Error bulk creating Jira issues in project {}: {}", props.projectKey(), e.getMessage());
+            throw e;
+        }
+
+        if (responseBody == null) {
+            throw new IllegalStateException("Jira bulk create response missing body");
+        }
+        List<BulkCreateResult> results = toBulkResults(chunk.size(), responseBody);
+        long created = results.stream().filter(BulkCreateResult::succeeded).count();
+        log.info("Bulk created {}/{} Jira issues in project {}", created, chunk.size(), props.projectKey());
+        return results;
+    }
+
+    /**
+     * Lines the created issues and the element errors back up with the request positions
+     */
+    static List<BulkCreateResult> toBulkResults(int requested, JiraBulkCreateResponse response) {
+        Map<Integer, String> failures = new HashMap<>();
+        if (response.errors() != null) {
+            for (JiraBulkCreateResponse.BulkOperationError error : response.errors()) {
+                String message = error.elementErrors() != null ? error.elementErrors().describe() : "";
+                failures.put(error.failedElementNumber(), "HTTP " + error.status() + (message.isEmpty() ? "" : " " + message));
+            }
+        }
+
+        Iterator<JiraCreateIssueResponse> created = (response.issues() != null ? response.issues() : Collections.<JiraCreateIssueResponse>emptyList()).iterator();
+        List<BulkCreateResult> results = new ArrayList<>(requested);
+        for (int i = 0; i < requested; i++) {
+            String failure = failures.get(i);
+            if (failure != null) {
+                results.add(BulkCreateResult.failed(failure));
+            } else if (created.hasNext()) {
+                results.add(BulkCreateResult.created(created.next().key()));
+            } else {
+                results.add(BulkCreateResult.failed("Jira bulk create response has no result for element " + i));
+            }
+        }
+        return results;
+    }
+
+    private JiraCreateIssueRequest toCreateRequest(JiraIssueDraft draft) {
+        return JiraCreateIssueRequest.of(metadataCache.current()
+                .toCreateFields(props.projectKey(), draft, props.metadata().defaultIssueType()));
+    }
+
+    /**
+     * One JQL search per {@value JiraIssuePort#MAX_BULK_CREATE} labels, fetching nothing but the
+     * labels. Labels are matched exactly, so an issue found here was created by us for that label.
+     */
+    @Override
+    public Map<String, String> findIssueKeysByLabels(Collection<String> labels) {
+        List<String> wanted = List.copyOf(labels);
+        Map<String, String> keys = new HashMap<>();
+        for (int from = 0; from < wanted.size(); from += MAX_BULK_CREATE) {
+            List<String> chunk = wanted.subList(from, Math.min(from + MAX_BULK_CREATE, wanted.size()));
+            String jql = "project = \"" + props.projectKey() + "\" AND labels in ("
+                    + chunk.stream().map(label -> "\"" + label + "\"").collect(Collectors.joining(", ")) + ")";
+            JiraSearchRequest request = JiraSearchRequest.firstPage(jql, List.of("labels"), MAX_BULK_CREATE * 2);
+            while (request != null) {
+                JiraSearchResponse page = search(request);
+                if (page.issues() != null) {
+                    for (JiraSearchResponse.SearchIssue issue : page.issues()) {
+                        if (issue.fields() != null && issue.fields().labels() != null) {
+                            issue.fields().labels().stream()
+                                    .filter(chunk::contains)
+                                    // Oldest duplicate wins if an earlier bug left several
+                                    .forEach(label -> keys.merge(label, issue.key(), JiraRestClientAdapter::olderKey));
+                        }
+                    }
+                }
+                request = page.isLast() ? null : request.next(page.nextPageToken());
+            }
+        }
+        return keys;
+    }
+
+    @Override
+    public JiraIssuePage searchUpdated(Instant from, Instant to, String pageToken, int pageSize) {
+        ZoneId zone = ZoneId.of(props.timeZone());
+        String jql = "project = \"" + props.projectKey() + "\""
+                + " AND updated >= \"" + JQL_DATE.format(from.atZone(zone)) + "\""
+                + " AND updated < \"" + JQL_DATE.format(to.atZone(zone)) + "\""
+                + " ORDER BY updated ASC, key ASC";
+        JiraSearchRequest request = JiraSearchRequest.firstPage(jql, SNAPSHOT_FIELDS, pageSize);
+        return toPage(search(pageToken != null ? request.next(pageToken) : request));
+    }
+
+    /**
+     * Uses the bulk fetch endpoint rather than a {@code key in (...)} search, which fails as a
+     * whole when one of the keys no longer exists. The endpoint has no paging of its own, so the
+     * keys are sent {@code pageSize} (at most {@value JiraIssueSearchPort#MAX_PAGE_SIZE}) at a
+     * time and the page token is the position of the next key.
+     */
+    @Override
+    public JiraIssuePage searchByKeys(Collection<String> keys, String pageToken, int pageSize) {
+        List<String> all = List.copyOf(keys);
+        int from = pageToken != null ? Integer.parseInt(pageToken) : 0;
+        if (from >= all.size()) {
+            return new JiraIssuePage(List.of(), null);
+        }
+        int to = Math.min(from + Math.min(Math.max(pageSize, 1), JiraIssueSearchPort.MAX_PAGE_SIZE), all.size());
+        List<String> page = all.subList(from, to);
+        Map<String, Object> request = Map.of("issueIdsOrKeys", page, "fields", SNAPSHOT_FIELDS);
+        try {
+            JiraSearchResponse response = jiraRestTemplate.postForObject(
+                    "/rest/api/3/issue/bulkfetch", new HttpEntity<>(request, jsonHeaders()), JiraSearchResponse.class);
+            if (response == null) {
+                throw new IllegalStateException("Jira bulk fetch response missing body");
+            }
+            return new JiraIssuePage(toPage(response).issues(), to < all.size() ? String.valueOf(to) : null);
+        } catch (RestClientException e) {
+            log.error("Error fetching {} Jira issues: {}", page.size(), e.getMessage());
+            throw e;
+        }
+    }
+
+    /**
+     * Keyset pagination on the issue key: Jira orders keys of a project by issue number, and
+     * unlike a page token a key stays valid across restarts.
+     */
+    @Override
+    public JiraIssuePage searchProject(String afterKey, int pageSize) {
+        return projectPage(afterKey, pageSize, SNAPSHOT_FIELDS);
+    }
+
+    @Override
+    public JiraIssuePage listProject(String afterKey, int pageSize) {
+        return projectPage(afterKey, pageSize, LISTING_FIELDS);
+    }
+
+    private JiraIssuePage projectPage(String afterKey, int pageSize, List<String> fields) {
+        String jql = "project = \"" + props.projectKey() + "\""
+                + (afterKey != null ? " AND key > \"" + afterKey + "\"" : "")
+                + " ORDER BY key ASC";
+        return toPage(search(JiraSearchRequest.firstPage(jql, fields, pageSize)));
+    }
+
+    @Override
+    public long countProjectIssues() {
+        Map<String, Object> request = Map.of("jql", "project = \"" + props.projectKey() + "\"");
+        try {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> response = jiraRestTemplate.postForObject(
+                    "/rest/api/3/search/approximate-count", new HttpEntity<>(request, jsonHeaders()), Map.class);
+            if (response == null || !(response.get("count") instanceof Number count)) {
+                throw new IllegalStateException("Jira count response missing count");
+            }
+            return count.longValue();
+        } catch (RestClientException e) {
+            log.error("Error counting Jira issues: {}", e.getMessage());
+            throw e;
+        }
+    }
+
+    @Override
+    public Optional<Instant> latestUpdate() {
+        String jql = "project = \"" + props.projectKey() + "\" ORDER BY updated DESC";
+        JiraSearchResponse response = search(JiraSearchRequest.firstPage(jql, List.of("updated"), 1));
+        if (response.issues() == null || response.issues().isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(toInstant(response.issues().getFirst().fields().updated()));
+    }
+
+    private static JiraIssuePage toPage(JiraSearchResponse response) {
+        List<JiraIssueSnapshot> issues = response.issues() != null
+                ? response.issues().stream().map(JiraRestClientAdapter::toSnapshot).toList()
+                : List.of();
+        return new JiraIssuePage(issues, response.isLast() ? null : response.nextPageToken());
+    }
+
+    static JiraIssueSnapshot toSnapshot(JiraSearchResponse.SearchIssue issue) {
+        JiraSearchResponse.SearchFields fields = issue.fields();
+        return new JiraIssueSnapshot(
+                issue.key(),
+                fields.summary(),
+                AdfDocument.toPlainText(fields.description()),
+                toStatus(fields.status()),
+                toPriority(fields.priority() != null ? fields.priority().name() : null),
+                fields.duedate() != null ? LocalDate.parse(fields.duedate()).atStartOfDay(ZoneOffset.UTC).toInstant() : null,
+                toInstant(fields.created()),
+                toInstant(fields.updated()),
+                fields.labels() != null ? fields.labels() : List.of()
+        );
+    }
+
+    /**
+     * Workflows differ per project, but every status belongs to one of three categories
+     */
+    static IssueStatus toStatus(JiraSearchResponse.Status status) {
+        if (status == null || status.statusCategory() == null) {
+            return IssueStatus.PENDING;
+        }
+        return switch (status.statusCategory().key()) {
+            case "indeterminate" -> IssueStatus.IN_PROGRESS;
+            case "done" -> isCancelled(status.name()) ? IssueStatus.CANCELLED : IssueStatus.DONE;
+            default -> IssueStatus.PENDING;
+        };
+    }
+
+    private static boolean isCancelled(String statusName) {
+        String name = statusName != null ? statusName.toLowerCase() : "";
+        return name.contains("cancel") || name.contains("won't") || name.contains("rejected");
+    }
+
+    /**
+     * Jira's five default priorities folded onto the three local ones
+     */
+    static String toPriority(String jiraPriority) {
+        if (jiraPriority == null) {
+            return null;
+        }
+        return switch (jiraPriority.toLowerCase()) {
+            case "highest", "high", "critical", "blocker" -> IssueConstants.HIGH_PRIORITY;
+            case "low", "lowest", "minor", "trivial" -> IssueConstants.LOW_PRIORITY;
+            default -> IssueConstants.DEFAULT_PRIORITY;
+        };
+    }
+
+    private static Instant toInstant(String jiraTimestamp) {
+        return jiraTimestamp != null ? OffsetDateTime.parse(jiraTimestamp, JIRA_TIMESTAMP).toInstant() : null;
+    }
+
+    JiraSearchResponse search(JiraSearchRequest request) {
+        try {
+            JiraSearchResponse response = jiraRestTemplate.postForObject(
+                    "/rest/api/3/search/jql", new HttpEntity<>(request, jsonHeaders()), JiraSearchResponse.class);
+            if (response == null) {
+                throw new IllegalStateException("Jira search response missing body");
+            }
+            return response;
+        } catch (RestClientException e) {
+            log.error("Error searching Jira issues with '{}': {}", request.jql(), e.getMessage());
+            throw e;
+        }
+    }
+
+    /**
+     * Of two keys of the same project, the one with the lower number was created first
+     */
+    static String olderKey(String a, String b) {
+        return issueNumber(a) <= issueNumber(b) ? a : b;
+    }
+
+    private static long issueNumber(String key) {
+        int dash = key.lastIndexOf('-');
+        try {
+            return Long.parseLong(key.substring(dash + 1));
+        } catch (NumberFormatException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    private static HttpHeaders jsonHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setAccept(MediaType.parseMediaTypes("application/json"));
+        return headers;
+    }
+
+    @Override
+    public void updateIssueWithAdf(String issueKey, JiraIssueDraft draft) {
+        // Edits must not carry project or issuetype, so the create field set is not reused
+        Map<String, Object> fields = new HashMap<>();
+        fields.put("summary", draft.summary());
+        fields.put("description", AdfDocument.of(draft.description() != null ? draft.description() : ""));
+        fields.put("duedate", draft.duedate());
+        if (draft.priority() != null) {
+            // Jira's priority, or none to keep the current one
+            JiraPriority priority = metadataCache.current().toPriority(draft.priority());
+            if (priority != null) {
+                fields.put("priority", priority);
+            }
+        }
+        updateIssue(issueKey, fields);
+        log.info("Updated Jira issue {}", issueKey);
+    }
+
     @Override
     public void updateIssue(String issueKey, Map<String, Object> fields) {
         String url = "/rest/api/3/issue/" + issueKey;
@@ -100,6 +463,8 @@ public class JiraRestClientAdapter implements IssueUseCase, JiraIssuePort {
         String url = "/rest/api/3/issue/" + issueKey;
         try {
             jiraRestTemplate.exchange(url, HttpMethod.DELETE, HttpEntity.EMPTY, Void.class);
+        } catch (HttpClientErrorException.NotFound e) {
+            log.info("Jira issue {} was already deleted", issueKey);
         } catch (RestClientException e) {
             log.error("Error deleting Jira issue {}: {}", issueKey, e.getMessage());
             throw e;
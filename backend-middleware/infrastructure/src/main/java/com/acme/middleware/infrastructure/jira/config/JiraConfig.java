@@ -1,22 +1,95 @@
 package com.acme.middleware.infrastructure.jira.config;
 
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import com.acme.middleware.infrastructure.jira.client.JiraBulkheads;
+import com.acme.middleware.infrastructure.jira.client.JiraCircuitBreaker;
+import com.acme.middleware.infrastructure.jira.client.JiraRateLimitInterceptor;
+import com.acme.middleware.infrastructure.jira.client.JiraResilienceInterceptor;
+import com.acme.middleware.infrastructure.jira.client.JiraRateLimiter;
+
 import java.time.Duration;
 
 @Configuration
 public class JiraConfig {
 
+    // Path whose calls get the bulk response budget
+    static final String BULK_PATH_SUFFIX = "/issue/bulk";
+
+    /**
+     * Pooled keep-alive client, so consecutive Jira calls reuse open TLS connections instead of
+     * paying a handshake each. Idle and expired connections are evicted in the background.
+     */
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient jiraHttpClient(JiraProperties props) {
+        JiraProperties.Http http = props.http();
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(http.maxConnections())
+                .setMaxConnPerRoute(http.maxConnectionsPerRoute())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(timeout(http.connectTimeout()))
+                        .setSocketTimeout(timeout(http.responseTimeout()))
+                        .setTimeToLive(TimeValue.ofMilliseconds(http.connectionTtl().toMillis()))
+                        // Cheap staleness check for connections that sat in the pool for a while
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                        .build())
+                .build();
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig(http, http.responseTimeout()))
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(http.idleTimeout().toMillis()))
+                .build();
+    }
+
     @Bean
-    public RestTemplate jiraRestTemplate(RestTemplateBuilder builder, JiraProperties props) {
+    public RestTemplate jiraRestTemplate(RestTemplateBuilder builder, JiraProperties props, CloseableHttpClient jiraHttpClient,
+                                         JiraRateLimiter jiraRateLimiter, JiraCircuitBreaker jiraCircuitBreaker,
+                                         JiraBulkheads jiraBulkheads) {
+        JiraProperties.Http http = props.http();
+        RequestConfig single = requestConfig(http, http.responseTimeout());
+        RequestConfig bulk = requestConfig(http, http.bulkResponseTimeout());
+
+        HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(jiraHttpClient);
+        // Timeout budget per request, picked by endpoint
+        requestFactory.setHttpContextFactory((method, uri) -> {
+            HttpClientContext context = HttpClientContext.create();
+            context.setRequestConfig(uri.getPath().endsWith(BULK_PATH_SUFFIX) ? bulk : single);
+            return context;
+        });
+
         return builder
                 .rootUri(props.baseUrl())
                 .basicAuthentication(props.email(), props.apiToken())
-                .setConnectTimeout(Duration.ofSeconds(10))
-                .setReadTimeout(Duration.ofSeconds(20))
+                .requestFactory(() -> requestFactory)
+                // Every call, the warm-up included, passes the breaker and its bulkhead, then the
+                // throttle; the throttle stays last because it re-sends 429s down the chain
+                .interceptors(new JiraResilienceInterceptor(jiraCircuitBreaker, jiraBulkheads),
+                        new JiraRateLimitInterceptor(jiraRateLimiter, props.rateLimit()))
+                .build();
+    }
+
+    private static RequestConfig requestConfig(JiraProperties.Http http, Duration responseTimeout) {
+        return RequestConfig.custom()
+                .setConnectionRequestTimeout(timeout(http.connectionRequestTimeout()))
+                .setResponseTimeout(timeout(responseTimeout))
                 .build();
     }
+
+    private static Timeout timeout(Duration duration) {
+        return Timeout.ofMilliseconds(duration.toMillis());
+    }
 }
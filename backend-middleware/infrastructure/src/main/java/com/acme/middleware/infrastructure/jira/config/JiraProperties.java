@@ -1,5 +1,8 @@
 package com.acme.middleware.infrastructure.jira.config;
 
+import java.time.Duration;
+import java.time.ZoneId;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 @ConfigurationProperties(prefix = "jira")
@@ -8,5 +11,233 @@ public record JiraProperties(
         String email,
         String apiToken,
         String projectKey,
-        String webhookSecret
-) { }
+        String webhookSecret,
+        Http http,
+        RateLimit rateLimit,
+        Concurrency concurrency,
+        CircuitBreaker circuitBreaker,
+        Bulkheads bulkheads,
+        // Time zone of the API user's Jira profile, in which JQL date literals are read
+        String timeZone,
+        Metadata metadata
+) {
+    public JiraProperties {
+        if (http == null) {
+            http = new Http(0, 0, null, null, null, null, null, null, -1);
+        }
+        if (rateLimit == null) {
+            rateLimit = new RateLimit(0, 0, 0, -1, null);
+        }
+        if (concurrency == null) {
+            concurrency = new Concurrency(0, 0, 0, 0, 0);
+        }
+        if (circuitBreaker == null) {
+            circuitBreaker = new CircuitBreaker(0, 0, 0, null, 0);
+        }
+        if (bulkheads == null) {
+            bulkheads = new Bulkheads(0, 0, 0, 0, null);
+        }
+        if (timeZone == null || timeZone.isBlank()) {
+            timeZone = "UTC";
+        }
+        // Fails at startup on an unknown zone rather than on the first search
+        ZoneId.of(timeZone);
+        if (metadata == null) {
+            metadata = new Metadata(null, null);
+        }
+        // More calls in flight than pooled connections would only queue for a lease
+        if (concurrency.maxLimit() > http.maxConnectionsPerRoute()) {
+            concurrency = new Concurrency(concurrency.initialLimit(), concurrency.minLimit(), http.maxConnectionsPerRoute(),
+                    concurrency.latencyTolerance(), concurrency.backoffRatio());
+        }
+    }
+
+    /**
+     * Connection pool and timeouts of the Jira HTTP client.
+     */
+    public record Http(
+            int maxConnections,
+            int maxConnectionsPerRoute,
+            Duration connectTimeout,
+            // Longest wait for a free pooled connection
+            Duration connectionRequestTimeout,
+            Duration responseTimeout,
+            // Bulk creates carry up to 50 issues and get a larger budget than single calls
+            Duration bulkResponseTimeout,
+            // Pooled connections idle for longer are closed before Jira's side drops them
+            Duration idleTimeout,
+            // Connections are recycled after this age so DNS changes are picked up
+            Duration connectionTtl,
+            // Connections opened at startup so the first syncs skip the TLS handshake
+            int warmupConnections
+    ) {
+        public Http {
+            if (maxConnectionsPerRoute <= 0) {
+                maxConnectionsPerRoute = 20;
+            }
+            if (maxConnections < maxConnectionsPerRoute) {
+                maxConnections = Math.max(maxConnectionsPerRoute, 50);
+            }
+            connectTimeout = positiveOr(connectTimeout, Duration.ofSeconds(5));
+            connectionRequestTimeout = positiveOr(connectionRequestTimeout, Duration.ofSeconds(5));
+            responseTimeout = positiveOr(responseTimeout, Duration.ofSeconds(20));
+            bulkResponseTimeout = positiveOr(bulkResponseTimeout, Duration.ofSeconds(60));
+            idleTimeout = positiveOr(idleTimeout, Duration.ofSeconds(30));
+            connectionTtl = positiveOr(connectionTtl, Duration.ofMinutes(5));
+            if (warmupConnections < 0) {
+                warmupConnections = 4;
+            }
+            warmupConnections = Math.min(warmupConnections, maxConnectionsPerRoute);
+        }
+
+        private static Duration positiveOr(Duration value, Duration fallback) {
+            return value == null || value.isZero() || value.isNegative() ? fallback : value;
+        }
+    }
+
+    /**
+     * Client-side throttle in front of every Jira call. The rate starts at {@code maxPerSecond},
+     * halves on each 429, eases off when Jira reports being near its limit, and creeps back up
+     * while responses are clean.
+     */
+    public record RateLimit(
+            double maxPerSecond,
+            double minPerSecond,
+            // Requests that may go out back to back after an idle period
+            int burst,
+            // Times a throttled request is re-sent after the pause before the 429 is returned
+            int maxRetries,
+            // Pause after a 429 that carries no Retry-After
+            Duration defaultRetryAfter
+    ) {
+        public RateLimit {
+            if (maxPerSecond <= 0) {
+                maxPerSecond = 10;
+            }
+            if (minPerSecond <= 0 || minPerSecond > maxPerSecond) {
+                minPerSecond = Math.min(0.5, maxPerSecond);
+            }
+            if (burst <= 0) {
+                burst = 10;
+            }
+            if (maxRetries < 0) {
+                maxRetries = 3;
+            }
+            if (defaultRetryAfter == null || defaultRetryAfter.isZero() || defaultRetryAfter.isNegative()) {
+                defaultRetryAfter = Duration.ofSeconds(10);
+            }
+        }
+    }
+
+    /**
+     * Adaptive limit on Jira calls in flight (additive increase, multiplicative decrease).
+     */
+    public record Concurrency(
+            int initialLimit,
+            int minLimit,
+            int maxLimit,
+            // Recent latency above this multiple of the long-run latency counts as congestion
+            double latencyTolerance,
+            // Share of the limit kept after congestion
+            double backoffRatio
+    ) {
+        public Concurrency {
+            if (minLimit <= 0) {
+                minLimit = 1;
+            }
+            if (maxLimit < minLimit) {
+                maxLimit = Math.max(minLimit, 20);
+            }
+            if (initialLimit < minLimit || initialLimit > maxLimit) {
+                initialLimit = Math.min(maxLimit, Math.max(minLimit, 4));
+            }
+            if (latencyTolerance <= 1) {
+                latencyTolerance = 2.0;
+            }
+            if (backoffRatio <= 0 || backoffRatio >= 1) {
+                backoffRatio = 0.75;
+            }
+        }
+    }
+
+    /**
+     * Fails Jira calls fast while Jira is down. Opens when at least {@code failureRateThreshold}
+     * percent of the last {@code slidingWindowSize} calls failed (timeouts, 5xx, 429), stays open
+     * for {@code openDuration}, then lets {@code halfOpenProbes} calls through; it closes if all of
+     * them succeed and opens again on the first failure.
+     */
+    public record CircuitBreaker(
+            int failureRateThreshold,
+            int slidingWindowSize,
+            int minimumCalls,
+            Duration openDuration,
+            int halfOpenProbes
+    ) {
+        public CircuitBreaker {
+            if (failureRateThreshold <= 0 || failureRateThreshold > 100) {
+                failureRateThreshold = 50;
+            }
+            if (slidingWindowSize <= 0) {
+                slidingWindowSize = 20;
+            }
+            if (minimumCalls <= 0 || minimumCalls > slidingWindowSize) {
+                minimumCalls = Math.min(10, slidingWindowSize);
+            }
+            if (openDuration == null || openDuration.isZero() || openDuration.isNegative()) {
+                openDuration = Duration.ofSeconds(30);
+            }
+            if (halfOpenProbes <= 0) {
+                halfOpenProbes = 3;
+            }
+        }
+    }
+
+    /**
+     * Concurrent Jira calls per kind of operation, so one kind cannot use up the capacity of the
+     * others; a call waits at most {@code maxWait} for a slot.
+     */
+    public record Bulkheads(
+            int creates,
+            int updates,
+            int deletes,
+            int reads,
+            Duration maxWait
+    ) {
+        public Bulkheads {
+            if (creates <= 0) {
+                creates = 10;
+            }
+            if (updates <= 0) {
+                updates = 10;
+            }
+            if (deletes <= 0) {
+                deletes = 5;
+            }
+            if (reads <= 0) {
+                reads = 5;
+            }
+            if (maxWait == null || maxWait.isNegative()) {
+                maxWait = Duration.ofSeconds(5);
+            }
+        }
+    }
+
+    /**
+     * Cached project configuration (issue types, create fields, priorities) that payloads are
+     * checked and mapped against before they are sent.
+     */
+    public record Metadata(
+            // Issue type of creates that name none, or one the project does not have
+            String defaultIssueType,
+            Duration refreshInterval
+    ) {
+        public Metadata {
+            if (defaultIssueType == null || defaultIssueType.isBlank()) {
+                defaultIssueType = "Task";
+            }
+            if (refreshInterval == null || refreshInterval.isZero() || refreshInterval.isNegative()) {
+                refreshInterval = Duration.ofHours(1);
+            }
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.acme.middleware.infrastructure.jira.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * Request DTO for Jira bulk issue creation via REST API v3
+ */
+public record JiraBulkCreateRequest(
+        @JsonProperty("issueUpdates") List<JiraCreateIssueRequest> issueUpdates
+) {
+    public static JiraBulkCreateRequest of(List<JiraCreateIssueRequest> issueUpdates) {
+        return new JiraBulkCreateRequest(issueUpdates);
+    }
+}
@@ -0,0 +1,53 @@
+package com.acme.middleware.infrastructure.jira.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Response DTO for Jira bulk issue creation. {@code issues} lists the created issues in request
+ * order with failed elements left out; each failure is reported in {@code errors} together with
+ * its zero-based position in the request.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record JiraBulkCreateResponse(
+        @JsonProperty("issues") List<JiraCreateIssueResponse> issues,
+        @JsonProperty("errors") List<BulkOperationError> errors
+) {
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record BulkOperationError(
+            @JsonProperty("status") int status,
+            @JsonProperty("elementErrors") ElementErrors elementErrors,
+            @JsonProperty("failedElementNumber") int failedElementNumber
+    ) {}
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record ElementErrors(
+            @JsonProperty("errorMessages") List<String> errorMessages,
+            @JsonProperty("errors") Map<String, String> errors
+    ) {
+        /**
+         * Flattens Jira's general and per-field messages into one line
+         */
+        public String describe() {
+            StringBuilder sb = new StringBuilder();
+            if (errorMessages != null) {
+                errorMessages.forEach(message -> append(sb, message));
+            }
+            if (errors != null) {
+                errors.forEach((field, message) -> append(sb, field + ": " + message));
+            }
+            return sb.toString();
+        }
+
+        private static void append(StringBuilder sb, String message) {
+            if (!sb.isEmpty()) {
+                sb.append("; ");
+            }
+            sb.append(message);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.acme.middleware.infrastructure.jira.dto;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * Response DTO for {@code GET /rest/api/3/issue/createmeta/{project}/issuetypes}, which fills
+ * {@code issueTypes}, and for {@code .../issuetypes/{id}}, which fills {@code fields}. Both are
+ * paged by {@code startAt}.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record JiraCreateMetaResponse(
+        @JsonProperty("issueTypes") List<IssueType> issueTypes,
+        @JsonProperty("fields") @JsonAlias("results") List<Field> fields,
+        @JsonProperty("startAt") int startAt,
+        @JsonProperty("total") int total
+) {
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record IssueType(
+            @JsonProperty("id") String id,
+            @JsonProperty("name") String name,
+            @JsonProperty("subtask") boolean subtask
+    ) {}
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Field(
+            @JsonProperty("fieldId") String fieldId,
+            @JsonProperty("required") boolean required,
+            @JsonProperty("hasDefaultValue") boolean hasDefaultValue,
+            @JsonProperty("allowedValues") List<Value> allowedValues
+    ) {}
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Value(
+            @JsonProperty("id") String id,
+            @JsonProperty("name") String name
+    ) {}
+}
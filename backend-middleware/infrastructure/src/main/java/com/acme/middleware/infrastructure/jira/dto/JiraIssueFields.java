@@ -4,6 +4,8 @@ import com.acme.middleware.infrastructure.jira.dto.adf.AdfDocument;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import java.util.List;
+
 /**
  * Fields for Jira issue creation request
  */
@@ -14,30 +16,63 @@ public record JiraIssueFields(
         @JsonProperty("description") AdfDocument description,
         @JsonProperty("issuetype") JiraIssueType issuetype,
         @JsonProperty("duedate") String duedate,
-        @JsonProperty("priority") JiraPriority priority
+        @JsonProperty("priority") JiraPriority priority,
+        @JsonProperty("labels") List<String> labels
 ) {
     public static JiraIssueFields of(String projectKey, String summary, String descriptionText, String issueTypeName) {
         return new JiraIssueFields(
                 new JiraProject(projectKey),
                 summary,
                 AdfDocument.of(descriptionText),
-                new JiraIssueType(issueTypeName),
+                JiraIssueType.of(issueTypeName),
+                null,
                 null,
                 null
         );
     }
     
     public static JiraIssueFields of(String projectKey, String summary, String descriptionText, String issueTypeName, String duedate, String priorityName) {
+        return of(projectKey, summary, descriptionText, issueTypeName, duedate, priorityName, null);
+    }
+
+    public static JiraIssueFields of(String projectKey, String summary, String descriptionText, String issueTypeName, String duedate, String priorityName, String label) {
         return new JiraIssueFields(
                 new JiraProject(projectKey),
                 summary,
                 AdfDocument.of(descriptionText),
-                new JiraIssueType(issueTypeName),
+                JiraIssueType.of(issueTypeName),
+                duedate,
+                priorityName != null ? JiraPriority.of(priorityName) : null,
+                label != null ? List.of(label) : null
+        );
+    }
+
+    /**
+     * Fields already checked against the project's create metadata; unset ones are left out
+     */
+    public static JiraIssueFields resolved(String projectKey, String summary, String descriptionText, String issueTypeId,
+                                           String duedate, String priorityId, String label) {
+        return new JiraIssueFields(
+                new JiraProject(projectKey),
+                summary,
+                descriptionText != null ? AdfDocument.of(descriptionText) : null,
+                JiraIssueType.ofId(issueTypeId),
                 duedate,
-                priorityName != null ? JiraPriority.of(priorityName) : null
+                priorityId != null ? JiraPriority.ofId(priorityId) : null,
+                label != null ? List.of(label) : null
         );
     }
 }
 
 record JiraProject(@JsonProperty("key") String key) {}
-record JiraIssueType(@JsonProperty("name") String name) {}
\ No newline at end of file
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+record JiraIssueType(@JsonProperty("id") String id, @JsonProperty("name") String name) {
+    static JiraIssueType of(String name) {
+        return new JiraIssueType(null, name);
+    }
+
+    static JiraIssueType ofId(String id) {
+        return new JiraIssueType(id, null);
+    }
+}
\ No newline at end of file
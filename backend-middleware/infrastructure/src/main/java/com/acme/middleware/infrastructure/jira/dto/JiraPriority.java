@@ -1,14 +1,21 @@
 package com.acme.middleware.infrastructure.jira.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 /**
- * Represents a Jira priority field
+ * Represents a Jira priority field, referenced by id when known and by name otherwise
  */
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public record JiraPriority(
+        @JsonProperty("id") String id,
         @JsonProperty("name") String name
 ) {
     public static JiraPriority of(String name) {
-        return new JiraPriority(name);
+        return new JiraPriority(null, name);
     }
-}
\ No newline at end of file
+
+    public static JiraPriority ofId(String id) {
+        return new JiraPriority(id, null);
+    }
+}
@@ -0,0 +1,15 @@
+package com.acme.middleware.infrastructure.jira.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * Response DTO for {@code GET /rest/api/3/priority/search}
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record JiraPriorityPage(
+        @JsonProperty("values") List<JiraCreateMetaResponse.Value> values,
+        @JsonProperty("isLast") boolean isLast
+) {}
@@ -0,0 +1,26 @@
+package com.acme.middleware.infrastructure.jira.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * Request DTO for {@code POST /rest/api/3/search/jql}. Pages are chained through the token of
+ * the previous response; {@code fields} limits what Jira loads and sends per issue.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record JiraSearchRequest(
+        @JsonProperty("jql") String jql,
+        @JsonProperty("fields") List<String> fields,
+        @JsonProperty("maxResults") int maxResults,
+        @JsonProperty("nextPageToken") String nextPageToken
+) {
+    public static JiraSearchRequest firstPage(String jql, List<String> fields, int maxResults) {
+        return new JiraSearchRequest(jql, fields, maxResults, null);
+    }
+
+    public JiraSearchRequest next(String pageToken) {
+        return new JiraSearchRequest(jql, fields, maxResults, pageToken);
+    }
+}
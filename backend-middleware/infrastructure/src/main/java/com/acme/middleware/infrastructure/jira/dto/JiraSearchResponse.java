@@ -0,0 +1,65 @@
+package com.acme.middleware.infrastructure.jira.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.List;
+
+/**
+ * Response DTO for {@code POST /rest/api/3/search/jql}, also read from
+ * {@code POST /rest/api/3/issue/bulkfetch}. Only the requested fields are filled in;
+ * {@code nextPageToken} is absent on the last page. Dates come as {@code 2025-09-01T12:00:00.000+0000}.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record JiraSearchResponse(
+        @JsonProperty("issues") List<SearchIssue> issues,
+        @JsonProperty("nextPageToken") String nextPageToken
+) {
+
+    public boolean isLast() {
+        return nextPageToken == null || nextPageToken.isEmpty();
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record SearchIssue(
+            @JsonProperty("id") String id,
+            @JsonProperty("key") String key,
+            @JsonProperty("fields") SearchFields fields
+    ) {}
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record SearchFields(
+            @JsonProperty("labels") List<String> labels,
+            @JsonProperty("summary") String summary,
+            @JsonProperty("description") JsonNode description,
+            @JsonProperty("status") Status status,
+            @JsonProperty("priority") Named priority,
+            @JsonProperty("duedate") String duedate,
+            @JsonProperty("created") String created,
+            @JsonProperty("updated") String updated
+    ) {
+        public static SearchFields labels(List<String> labels) {
+            return new SearchFields(labels, null, null, null, null, null, null, null);
+        }
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Status(
+            @JsonProperty("name") String name,
+            @JsonProperty("statusCategory") StatusCategory statusCategory
+    ) {}
+
+    /**
+     * @param key {@code new}, {@code indeterminate} or {@code done}
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record StatusCategory(
+            @JsonProperty("key") String key
+    ) {}
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Named(
+            @JsonProperty("name") String name
+    ) {}
+}
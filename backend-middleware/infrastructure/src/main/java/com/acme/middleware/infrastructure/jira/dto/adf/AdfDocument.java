@@ -1,6 +1,7 @@
 package com.acme.middleware.infrastructure.jira.dto.adf;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonNode;
 
 import java.util.List;
 
@@ -19,4 +20,33 @@ public record AdfDocument(
     public static AdfDocument of(String text) {
         return new AdfDocument("doc", 1, List.of(AdfParagraph.of(text)));
     }
-}
\ No newline at end of file
+
+    /**
+     * Text of an ADF document as read from Jira, one line per block node. Marks and non-text
+     * nodes (mentions, media) are dropped.
+     */
+    public static String toPlainText(JsonNode document) {
+        if (document == null || document.isNull()) {
+            return null;
+        }
+        StringBuilder text = new StringBuilder();
+        for (JsonNode block : document.path("content")) {
+            if (!text.isEmpty()) {
+                text.append('\n');
+            }
+            appendText(block, text);
+        }
+        return text.toString();
+    }
+
+    private static void appendText(JsonNode node, StringBuilder text) {
+        if ("text".equals(node.path("type").asText())) {
+            text.append(node.path("text").asText());
+        } else if ("hardBreak".equals(node.path("type").asText())) {
+            text.append('\n');
+        }
+        for (JsonNode child : node.path("content")) {
+            appendText(child, text);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.acme.middleware.infrastructure.jira.metadata;
+
+import com.acme.middleware.application.dto.JiraIssueDraft;
+import com.acme.middleware.application.exceptions.InvalidJiraPayloadException;
+import com.acme.middleware.domain.model.IssueConstants;
+import com.acme.middleware.infrastructure.jira.dto.JiraIssueFields;
+import com.acme.middleware.infrastructure.jira.dto.JiraPriority;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * What the project accepts on create: its issue types, the fields on each one's create screen
+ * with their allowed values, and the site's priorities. Drafts are mapped onto it before they
+ * are sent, so a payload Jira would reject fails here, once, instead of on every retry. Until
+ * the first load succeeds the snapshot is {@link #EMPTY} and drafts go out as they are.
+ *
+ * @param issueTypes creatable issue types by lower-case name
+ */
+public record JiraMetadata(
+        Map<String, IssueType> issueTypes,
+        List<Value> priorities,
+        Instant loadedAt
+) {
+
+    public static final JiraMetadata EMPTY = new JiraMetadata(Map.of(), List.of(), null);
+
+    // Jira names tried for each local priority, in order; the inverse of the adapter's toPriority
+    private static final Map<String, List<String>> PRIORITY_NAMES = Map.of(
+            IssueConstants.HIGH_PRIORITY, List.of("high", "highest", "critical", "blocker"),
+            IssueConstants.DEFAULT_PRIORITY, List.of("medium", "major", "normal"),
+            IssueConstants.LOW_PRIORITY, List.of("low", "lowest", "minor", "trivial")
+    );
+
+    // Always part of a create request
+    private static final Set<String> BASE_FIELDS = Set.of("project", "issuetype", "summary");
+
+    public record Value(String id, String name) {}
+
+    public record Field(String fieldId, boolean required, boolean hasDefaultValue, List<Value> allowedValues) {}
+
+    /**
+     * @param fields fields on the create screen by field id
+     */
+    public record IssueType(String id, String name, Map<String, Field> fields) {
+
+        boolean accepts(String fieldId) {
+            return fields.containsKey(fieldId);
+        }
+    }
+
+    public boolean isLoaded() {
+        return loadedAt != null;
+    }
+
+    /**
+     * Resolves the draft's issue type, falling back to {@code defaultIssueType}, and leaves out
+     * what its create screen does not show. Priorities are matched by name or a common synonym
+     * and sent by id; one Jira does not offer is left to the project's default.
+     *
+     * @throws InvalidJiraPayloadException when neither type exists or the screen requires a
+     *                                     field without a default that the middleware never sets
+     */
+    public JiraIssueFields toCreateFields(String projectKey, JiraIssueDraft draft, String defaultIssueType) {
+        String typeName = draft.issueType() != null ? draft.issueType() : defaultIssueType;
+        String description = draft.description() != null ? draft.description() : "";
+        if (!isLoaded()) {
+            return JiraIssueFields.of(projectKey, draft.summary(), description, typeName,
+                    draft.duedate(), draft.priority(), draft.idempotencyLabel());
+        }
+
+        IssueType type = issueTypes.get(key(typeName));
+        if (type == null && draft.issueType() != null) {
+            type = issueTypes.get(key(defaultIssueType));
+        }
+        if (type == null) {
+            throw new InvalidJiraPayloadException("Issue type " + typeName + " cannot be created in project " + projectKey);
+        }
+
+        Set<String> sent = new HashSet<>(BASE_FIELDS);
+        String acceptedDescription = accept(type, "description", description, sent);
+        String duedate = accept(type, "duedate", draft.duedate(), sent);
+        String label = accept(type, "labels", draft.idempotencyLabel(), sent);
+        String priorityId = null;
+        if (draft.priority() != null && type.accepts("priority")) {
+            List<Value> allowed = type.fields().get("priority").allowedValues();
+            priorityId = matchPriority(draft.priority(), allowed != null && !allowed.isEmpty() ? allowed : priorities)
+                    .map(Value::id)
+                    .orElse(null);
+            if (priorityId != null) {
+                sent.add("priority");
+            }
+        }
+
+        List<String> missing = type.fields().values().stream()
+                .filter(field -> field.required() && !field.hasDefaultValue() && !sent.contains(field.fieldId()))
+                .map(Field::fieldId)
+                .sorted()
+                .toList();
+        if (!missing.isEmpty()) {
+            throw new InvalidJiraPayloadException("Issue type " + type.name() + " in project " + projectKey
+                    + " requires fields the middleware does not set: " + String.join(", ", missing));
+        }
+        return JiraIssueFields.resolved(projectKey, draft.summary(), acceptedDescription, type.id(), duedate, priorityId, label);
+    }
+
+    /**
+     * Priority for an edit; null when Jira has none that matches, which leaves the current one.
+     */
+    public JiraPriority toPriority(String priority) {
+        if (priority == null) {
+            return null;
+        }
+        if (!isLoaded()) {
+            return JiraPriority.of(priority);
+        }
+        return matchPriority(priority, priorities).map(value -> JiraPriority.ofId(value.id())).orElse(null);
+    }
+
+    static Optional<Value> matchPriority(String priority, List<Value> candidates) {
+        List<String> names = new ArrayList<>();
+        names.add(key(priority));
+        names.addAll(PRIORITY_NAMES.getOrDefault(priority.toUpperCase(Locale.ROOT), List.of()));
+        for (String name : names) {
+            for (Value candidate : candidates) {
+                if (candidate.name() != null && key(candidate.name()).equals(name)) {
+                    return Optional.of(candidate);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static String accept(IssueType type, String fieldId, String value, Set<String> sent) {
+        if (value == null || !type.accepts(fieldId)) {
+            return null;
+        }
+        sent.add(fieldId);
+        return value;
+    }
+
+    static String key(String name) {
+        return name != null ? name.trim().toLowerCase(Locale.ROOT) : "";
+    }
+}
@@ -0,0 +1,124 @@
+package com.acme.middleware.infrastructure.jira.metadata;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import com.acme.middleware.infrastructure.jira.config.JiraProperties;
+import com.acme.middleware.infrastructure.jira.dto.JiraCreateMetaResponse;
+import com.acme.middleware.infrastructure.jira.dto.JiraPriorityPage;
+
+/**
+ * Keeps the project's {@link JiraMetadata} in memory, loaded at startup and then every
+ * {@code jira.metadata.refreshInterval}; every node loads its own copy. A failed refresh keeps
+ * the previous snapshot, since the configuration rarely changes between two loads.
+ */
+@Component
+public class JiraMetadataCache {
+
+    private static final Logger log = LoggerFactory.getLogger(JiraMetadataCache.class);
+
+    private static final int PAGE_SIZE = 50;
+
+    private final RestTemplate jiraRestTemplate;
+    private final JiraProperties props;
+    private volatile JiraMetadata current = JiraMetadata.EMPTY;
+
+    public JiraMetadataCache(RestTemplate jiraRestTemplate, JiraProperties props) {
+        this.jiraRestTemplate = jiraRestTemplate;
+        this.props = props;
+    }
+
+    public JiraMetadata current() {
+        return current;
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${jira.metadata.refreshInterval:1h}")
+    public void refresh() {
+        if (props.baseUrl() == null || props.baseUrl().isBlank()) {
+            return;
+        }
+        try {
+            current = load();
+            log.info("Loaded Jira metadata for project {}: {} issue types, {} priorities",
+                    props.projectKey(), current.issueTypes().size(), current.priorities().size());
+        } catch (RestClientException | IllegalStateException e) {
+            log.warn("Jira metadata refresh failed, keeping the metadata loaded at {}: {}", current.loadedAt(), e.getMessage());
+        }
+    }
+
+    JiraMetadata load() {
+        String base = "/rest/api/3/issue/createmeta/" + props.projectKey() + "/issuetypes";
+        Map<String, JiraMetadata.IssueType> issueTypes = new HashMap<>();
+        for (JiraCreateMetaResponse.IssueType type : fetchAll(base, JiraCreateMetaResponse::issueTypes)) {
+            // Sub-tasks need a parent, which the middleware never has
+            if (type.subtask()) {
+                continue;
+            }
+            Map<String, JiraMetadata.Field> fields = new LinkedHashMap<>();
+            for (JiraCreateMetaResponse.Field field : fetchAll(base + "/" + type.id(), JiraCreateMetaResponse::fields)) {
+                fields.put(field.fieldId(), new JiraMetadata.Field(field.fieldId(), field.required(), field.hasDefaultValue(),
+                        toValues(field.allowedValues())));
+            }
+            issueTypes.put(JiraMetadata.key(type.name()), new JiraMetadata.IssueType(type.id(), type.name(), fields));
+        }
+        return new JiraMetadata(Map.copyOf(issueTypes), loadPriorities(), Instant.now());
+    }
+
+    private <T> List<T> fetchAll(String url, Function<JiraCreateMetaResponse, List<T>> items) {
+        List<T> all = new ArrayList<>();
+        int startAt = 0;
+        while (true) {
+            JiraCreateMetaResponse page = jiraRestTemplate.getForObject(
+                    url + "?startAt=" + startAt + "&maxResults=" + PAGE_SIZE, JiraCreateMetaResponse.class);
+            if (page == null) {
+                throw new IllegalStateException("Jira create metadata response missing body for " + url);
+            }
+            List<T> values = items.apply(page);
+            if (values == null) {
+                return all;
+            }
+            all.addAll(values);
+            startAt += values.size();
+            if (values.isEmpty() || startAt >= page.total()) {
+                return all;
+            }
+        }
+    }
+
+    private List<JiraMetadata.Value> loadPriorities() {
+        List<JiraMetadata.Value> priorities = new ArrayList<>();
+        int startAt = 0;
+        while (true) {
+            JiraPriorityPage page = jiraRestTemplate.getForObject(
+                    "/rest/api/3/priority/search?startAt=" + startAt + "&maxResults=" + PAGE_SIZE, JiraPriorityPage.class);
+            if (page == null) {
+                throw new IllegalStateException("Jira priority response missing body");
+            }
+            List<JiraMetadata.Value> values = toValues(page.values());
+            priorities.addAll(values);
+            startAt += values.size();
+            if (page.isLast() || values.isEmpty()) {
+                return List.copyOf(priorities);
+            }
+        }
+    }
+
+    private static List<JiraMetadata.Value> toValues(List<JiraCreateMetaResponse.Value> values) {
+        if (values == null) {
+            return List.of();
+        }
+        return values.stream().map(value -> new JiraMetadata.Value(value.id(), value.name())).toList();
+    }
+}
@@ -5,21 +5,52 @@ import com.acme.middleware.domain.port.IssueRepository;
 import com.acme.middleware.infrastructure.persistence.entity.IssueEntity;
 import com.acme.middleware.infrastructure.persistence.mapper.IssuePersistenceMapper;
 import com.acme.middleware.infrastructure.persistence.repository.SpringDataIssueJpaRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Component
 public class IssueRepositoryAdapter implements IssueRepository {
 
+    // Existing rows are only overwritten by a state that is not older than theirs
+    private static final String UPSERT_BY_BUSINESS_KEY = """
+            INSERT INTO issues (id, title, description, status, created_at, updated_at, due_date, priority, business_key)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (business_key) DO UPDATE SET
+                title = EXCLUDED.title,
+                description = EXCLUDED.description,
+                status = EXCLUDED.status,
+                updated_at = EXCLUDED.updated_at,
+                due_date = EXCLUDED.due_date,
+                priority = EXCLUDED.priority
+            WHERE issues.updated_at <= EXCLUDED.updated_at
+            """;
+
     private final SpringDataIssueJpaRepository jpaRepository;
     private final IssuePersistenceMapper mapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean postgres;
 
-    public IssueRepositoryAdapter(SpringDataIssueJpaRepository jpaRepository, IssuePersistenceMapper mapper) {
+    public IssueRepositoryAdapter(SpringDataIssueJpaRepository jpaRepository, IssuePersistenceMapper mapper, JdbcTemplate jdbcTemplate) {
         this.jpaRepository = jpaRepository;
         this.mapper = mapper;
+        this.jdbcTemplate = jdbcTemplate;
+        this.postgres = Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName())));
     }
 
     @Override
@@ -35,6 +66,101 @@ public class IssueRepositoryAdapter implements IssueRepository {
                 .map(mapper::toDomain);
     }
 
+    @Override
+    public List<Issue> findAllById(Collection<UUID> issueIds) {
+        if (issueIds.isEmpty()) {
+            return List.of();
+        }
+        return mapper.toDomain(jpaRepository.findAllById(issueIds));
+    }
+
+    @Override
+    public List<Issue> findAllByBusinessKey(Collection<String> businessKeys) {
+        if (businessKeys.isEmpty()) {
+            return List.of();
+        }
+        return mapper.toDomain(jpaRepository.findAllByBusinessKeyIn(businessKeys));
+    }
+
+    /**
+     * One query tells new issues from existing ones; new ones are persisted directly, so with
+     * {@code hibernate.jdbc.batch_size} set both kinds go out as batched statements.
+     */
+    @Override
+    public void saveAll(Collection<Issue> issues) {
+        if (issues.isEmpty()) {
+            return;
+        }
+        Set<UUID> existing = new HashSet<>(jpaRepository.findExistingIds(
+                issues.stream().map(issue -> issue.getId().getValue()).toList()));
+        List<IssueEntity> entities = issues.stream()
+                .map(issue -> {
+                    IssueEntity entity = mapper.toEntity(issue);
+                    if (!existing.contains(entity.getId())) {
+                        entity.markNew();
+                    }
+                    return entity;
+                })
+                .toList();
+        jpaRepository.saveAll(entities);
+    }
+
+    /**
+     * One batched {@code INSERT ... ON CONFLICT} round trip on Postgres; nothing is loaded into
+     * the persistence context, so memory stays flat however many pages are imported. Other
+     * databases (the H2 test profile) go through a lookup by key and {@link #saveAll}.
+     */
+    @Override
+    @Transactional
+    public void upsertAllByBusinessKey(Collection<Issue> issues) {
+        if (issues.isEmpty()) {
+            return;
+        }
+        if (!postgres) {
+            Map<String, Issue> stored = findAllByBusinessKey(issues.stream().map(Issue::getBusinessKey).toList()).stream()
+                    .collect(Collectors.toMap(Issue::getBusinessKey, Function.identity()));
+            saveAll(issues.stream()
+                    .filter(issue -> !stored.containsKey(issue.getBusinessKey())
+                            || !stored.get(issue.getBusinessKey()).getUpdatedAt().isAfter(issue.getUpdatedAt()))
+                    .map(issue -> {
+                        Issue existing = stored.get(issue.getBusinessKey());
+                        return existing == null ? issue : Issue.restore(existing.getId(), issue.getTitle(), issue.getDescription(),
+                                issue.getStatus(), existing.getCreatedAt(), issue.getUpdatedAt(), issue.getDueDate(),
+                                issue.getPriority(), issue.getBusinessKey());
+                    })
+                    .toList());
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPSERT_BY_BUSINESS_KEY, List.copyOf(issues), issues.size(), (statement, issue) -> {
+            statement.setObject(1, issue.getId().getValue());
+            statement.setString(2, issue.getTitle());
+            statement.setString(3, issue.getDescription());
+            statement.setString(4, issue.getStatus().name());
+            statement.setTimestamp(5, Timestamp.from(issue.getCreatedAt()));
+            statement.setTimestamp(6, Timestamp.from(issue.getUpdatedAt()));
+            statement.setTimestamp(7, issue.getDueDate() != null ? Timestamp.from(issue.getDueDate()) : null);
+            statement.setString(8, issue.getPriority());
+            statement.setString(9, issue.getBusinessKey());
+        });
+    }
+
+    @Override
+    public List<Issue> findLinkedAfter(String afterBusinessKey, int limit) {
+        return mapper.toDomain(afterBusinessKey == null
+                ? jpaRepository.findByBusinessKeyNotNullOrderByBusinessKeyAsc(Limit.of(limit))
+                : jpaRepository.findByBusinessKeyGreaterThanOrderByBusinessKeyAsc(afterBusinessKey, Limit.of(limit)));
+    }
+
+    @Override
+    public long countLinked() {
+        return jpaRepository.countByBusinessKeyNotNull();
+    }
+
+    @Override
+    public Optional<Instant> findLatestLinkedUpdate() {
+        return Optional.ofNullable(jpaRepository.findLatestLinkedUpdatedAt());
+    }
+
     @Override
     public List<Issue> findAll() {
         List<IssueEntity> entities = jpaRepository.findAll();
@@ -2,13 +2,14 @@ package com.acme.middleware.infrastructure.persistence.entity;
 
 import com.acme.middleware.domain.model.IssueStatus;
 import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
 
 import java.time.Instant;
 import java.util.UUID;
 
 @Entity
 @Table(name = "issues")
-public class IssueEntity {
+public class IssueEntity implements Persistable<UUID> {
 
     @Id
     private UUID id;
@@ -35,9 +36,14 @@ public class IssueEntity {
     @Column(length = 20)
     private String priority;
 
-    @Column(length = 20)
+    @Column(length = 20, unique = true)
     private String businessKey;
 
+    // Ids are assigned by the application; set for rows known to be new so they are inserted
+    // without the select a merge would do first
+    @Transient
+    private boolean newEntity;
+
     public IssueEntity() {}
 
     public IssueEntity(UUID id, String title, String description, IssueStatus status, Instant createdAt, Instant updatedAt, String businessKey) {
@@ -50,10 +56,20 @@ public class IssueEntity {
         this.businessKey = businessKey;
     }
 
+    @Override
     public UUID getId() {
         return id;
     }
 
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    public void markNew() {
+        this.newEntity = true;
+    }
+
     public void setId(UUID id) {
         this.id = id;
     }
@@ -1,11 +1,31 @@
 package com.acme.middleware.infrastructure.persistence.repository;
 
 import com.acme.middleware.infrastructure.persistence.entity.IssueEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface SpringDataIssueJpaRepository extends JpaRepository<IssueEntity, UUID> {
-}
\ No newline at end of file
+
+    List<IssueEntity> findAllByBusinessKeyIn(Collection<String> businessKeys);
+
+    List<IssueEntity> findByBusinessKeyNotNullOrderByBusinessKeyAsc(Limit limit);
+
+    List<IssueEntity> findByBusinessKeyGreaterThanOrderByBusinessKeyAsc(String businessKey, Limit limit);
+
+    long countByBusinessKeyNotNull();
+
+    @Query("SELECT MAX(i.updatedAt) FROM IssueEntity i WHERE i.businessKey IS NOT NULL")
+    Instant findLatestLinkedUpdatedAt();
+
+    @Query("SELECT i.id FROM IssueEntity i WHERE i.id IN :ids")
+    List<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
+}
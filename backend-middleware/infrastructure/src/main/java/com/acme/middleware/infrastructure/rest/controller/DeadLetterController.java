@@ -0,0 +1,78 @@
+package com.acme.middleware.infrastructure.rest.controller;
+
+import com.acme.middleware.application.dto.DeadLetterPage;
+import com.acme.middleware.application.usecase.ListDeadLettersUseCase;
+import com.acme.middleware.application.usecase.ReplayDeadLettersUseCase;
+import com.acme.middleware.domain.model.DeadLetterEvent;
+import com.acme.middleware.infrastructure.rest.dto.DeadLetterPageResponse;
+import com.acme.middleware.infrastructure.rest.dto.DeadLetterResponse;
+import com.acme.middleware.infrastructure.rest.dto.ReplayDeadLettersRequest;
+import com.acme.middleware.infrastructure.rest.dto.ReplayDeadLettersResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/sync/dead-letters")
+@Tag(name = "Sync dead letters", description = "Inspection and replay of events that exhausted their Jira sync retries")
+public class DeadLetterController {
+
+    private static final int DEFAULT_REPLAY_LIMIT = 100;
+
+    private final ListDeadLettersUseCase listDeadLettersUseCase;
+    private final ReplayDeadLettersUseCase replayDeadLettersUseCase;
+
+    public DeadLetterController(ListDeadLettersUseCase listDeadLettersUseCase,
+                                ReplayDeadLettersUseCase replayDeadLettersUseCase) {
+        this.listDeadLettersUseCase = listDeadLettersUseCase;
+        this.replayDeadLettersUseCase = replayDeadLettersUseCase;
+    }
+
+    @GetMapping
+    @Operation(summary = "List dead-lettered events, oldest failure first")
+    public ResponseEntity<DeadLetterPageResponse> listDeadLetters(@RequestParam(required = false) String errorClass,
+                                                                  @RequestParam(defaultValue = "0") int page,
+                                                                  @RequestParam(defaultValue = "50") int size) {
+        DeadLetterPage result = listDeadLettersUseCase.execute(errorClass, page, size);
+        return ResponseEntity.ok(new DeadLetterPageResponse(
+                result.items().stream().map(this::mapToResponse).toList(),
+                result.page(),
+                result.size(),
+                result.totalItems()
+        ));
+    }
+
+    @PostMapping("/replay")
+    @Operation(summary = "Move dead-lettered events back into the outbox")
+    public ResponseEntity<ReplayDeadLettersResponse> replayDeadLetters(@Valid @RequestBody ReplayDeadLettersRequest request) {
+        boolean byIds = request.ids() != null && !request.ids().isEmpty();
+        boolean byErrorClass = request.errorClass() != null && !request.errorClass().isBlank();
+        if (byIds == byErrorClass) {
+            throw new IllegalArgumentException("Provide either ids or errorClass");
+        }
+
+        int replayed = byIds
+                ? replayDeadLettersUseCase.replay(request.ids())
+                : replayDeadLettersUseCase.replayByErrorClass(request.errorClass(),
+                        request.limit() != null ? request.limit() : DEFAULT_REPLAY_LIMIT);
+        return ResponseEntity.ok(new ReplayDeadLettersResponse(replayed));
+    }
+
+    private DeadLetterResponse mapToResponse(DeadLetterEvent deadLetter) {
+        return new DeadLetterResponse(
+                deadLetter.getId(),
+                deadLetter.getEventType(),
+                deadLetter.getEntityId().getValue(),
+                deadLetter.getPayload(),
+                deadLetter.getErrorClass(),
+                deadLetter.getFirstError(),
+                deadLetter.getFirstFailedAt(),
+                deadLetter.getLastError(),
+                deadLetter.getAttempts(),
+                deadLetter.getCreatedAt(),
+                deadLetter.getFailedAt()
+        );
+    }
+}
@@ -0,0 +1,47 @@
+package com.acme.middleware.infrastructure.rest.controller;
+
+import com.acme.middleware.application.dto.BackfillProgress;
+import com.acme.middleware.application.usecase.BackfillJiraProjectUseCase;
+import com.acme.middleware.infrastructure.rest.dto.BackfillProgressResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/sync/backfill")
+@Tag(name = "Jira backfill", description = "One-shot import of every issue of the Jira project")
+public class JiraBackfillController {
+
+    private final BackfillJiraProjectUseCase backfillUseCase;
+
+    public JiraBackfillController(BackfillJiraProjectUseCase backfillUseCase) {
+        this.backfillUseCase = backfillUseCase;
+    }
+
+    @PostMapping
+    @Operation(summary = "Start a backfill; it runs in the background and resumes after restarts")
+    public ResponseEntity<BackfillProgressResponse> startBackfill() {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(mapToResponse(backfillUseCase.start()));
+    }
+
+    @GetMapping
+    @Operation(summary = "Progress of the current or last backfill")
+    public ResponseEntity<BackfillProgressResponse> getProgress() {
+        return backfillUseCase.progress()
+                .map(progress -> ResponseEntity.ok(mapToResponse(progress)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    private BackfillProgressResponse mapToResponse(BackfillProgress progress) {
+        return new BackfillProgressResponse(
+                progress.state().name(),
+                progress.processed(),
+                progress.total(),
+                progress.lastKey(),
+                progress.startedAt(),
+                progress.updatedAt()
+        );
+    }
+}
@@ -0,0 +1,12 @@
+package com.acme.middleware.infrastructure.rest.dto;
+
+import java.time.Instant;
+
+public record BackfillProgressResponse(
+    String state,
+    long processed,
+    Long total,
+    String lastKey,
+    Instant startedAt,
+    Instant updatedAt
+) {}
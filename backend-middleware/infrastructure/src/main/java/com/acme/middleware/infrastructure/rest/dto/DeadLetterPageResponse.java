@@ -0,0 +1,10 @@
+package com.acme.middleware.infrastructure.rest.dto;
+
+import java.util.List;
+
+public record DeadLetterPageResponse(
+    List<DeadLetterResponse> items,
+    int page,
+    int size,
+    long totalItems
+) {}
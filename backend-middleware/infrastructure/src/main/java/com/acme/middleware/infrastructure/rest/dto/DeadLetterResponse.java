@@ -0,0 +1,20 @@
+package com.acme.middleware.infrastructure.rest.dto;
+
+import com.acme.middleware.domain.model.IssueEventPayload;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record DeadLetterResponse(
+    String id,
+    String eventType,
+    UUID issueId,
+    IssueEventPayload payload,
+    String errorClass,
+    String firstError,
+    Instant firstFailedAt,
+    String lastError,
+    int attempts,
+    Instant createdAt,
+    Instant failedAt
+) {}
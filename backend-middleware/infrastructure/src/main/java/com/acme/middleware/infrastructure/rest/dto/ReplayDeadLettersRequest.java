@@ -0,0 +1,21 @@
+package com.acme.middleware.infrastructure.rest.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Either explicit ids, or an error class whose oldest dead letters (up to {@code limit}) are replayed.
+ */
+public record ReplayDeadLettersRequest(
+    @Size(max = 500, message = "At most 500 ids can be replayed at once")
+    List<String> ids,
+
+    String errorClass,
+
+    @Min(value = 1, message = "Limit must be at least 1")
+    @Max(value = 500, message = "Limit must not exceed 500")
+    Integer limit
+) {}
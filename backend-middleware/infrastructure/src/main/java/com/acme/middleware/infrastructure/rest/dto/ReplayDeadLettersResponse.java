@@ -0,0 +1,5 @@
+package com.acme.middleware.infrastructure.rest.dto;
+
+public record ReplayDeadLettersResponse(
+    int replayed
+) {}
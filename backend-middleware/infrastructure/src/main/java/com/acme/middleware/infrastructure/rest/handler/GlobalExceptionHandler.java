@@ -1,8 +1,13 @@
 package com.acme.middleware.infrastructure.rest.handler;
 
+import com.acme.middleware.application.exceptions.BackfillInProgressException;
 import com.acme.middleware.application.exceptions.IssueNotFoundException;
+import com.acme.middleware.application.exceptions.SyncBacklogSaturatedException;
+import com.acme.middleware.infrastructure.jira.client.JiraBulkheadFullException;
+import com.acme.middleware.infrastructure.jira.client.JiraCircuitOpenException;
 import com.acme.middleware.infrastructure.rest.dto.ErrorResponse;
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -29,6 +34,60 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
     }
 
+    @ExceptionHandler(BackfillInProgressException.class)
+    public ResponseEntity<ErrorResponse> handleBackfillInProgress(BackfillInProgressException ex, HttpServletRequest request) {
+        ErrorResponse error = new ErrorResponse(
+                ex.getMessage(),
+                "Conflict",
+                HttpStatus.CONFLICT.value(),
+                Instant.now(),
+                request.getRequestURI()
+        );
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+
+    @ExceptionHandler(SyncBacklogSaturatedException.class)
+    public ResponseEntity<ErrorResponse> handleSyncBacklogSaturated(SyncBacklogSaturatedException ex, HttpServletRequest request) {
+        ErrorResponse error = new ErrorResponse(
+                ex.getMessage(),
+                "Service Unavailable",
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                Instant.now(),
+                request.getRequestURI()
+        );
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, ex.getRetryAfter().toSeconds())))
+                .body(error);
+    }
+
+    @ExceptionHandler(JiraCircuitOpenException.class)
+    public ResponseEntity<ErrorResponse> handleJiraCircuitOpen(JiraCircuitOpenException ex, HttpServletRequest request) {
+        ErrorResponse error = new ErrorResponse(
+                ex.getMessage(),
+                "Service Unavailable",
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                Instant.now(),
+                request.getRequestURI()
+        );
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, ex.getRetryAfter().toSeconds())))
+                .body(error);
+    }
+
+    @ExceptionHandler(JiraBulkheadFullException.class)
+    public ResponseEntity<ErrorResponse> handleJiraBulkheadFull(JiraBulkheadFullException ex, HttpServletRequest request) {
+        ErrorResponse error = new ErrorResponse(
+                ex.getMessage(),
+                "Service Unavailable",
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                Instant.now(),
+                request.getRequestURI()
+        );
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(error);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Map<String, Object>> handleValidationExceptions(
             MethodArgumentNotValidException ex, HttpServletRequest request) {
@@ -1,47 +1,296 @@
 package com.acme.middleware.infrastructure.sync;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.context.SmartLifecycle;
 import org.springframework.stereotype.Component;
 
+import com.acme.middleware.application.dto.SyncOperation;
+import com.acme.middleware.application.port.JiraIssuePort;
+import com.acme.middleware.application.service.jira.OutboxCoalescer;
 import com.acme.middleware.application.service.jira.ProcessJiraSyncEventService;
 import com.acme.middleware.domain.model.Event;
+import com.acme.middleware.domain.model.EventConstants;
 import com.acme.middleware.domain.port.EventRepository;
-   
+import com.acme.middleware.infrastructure.jira.client.JiraCircuitBreaker;
+import com.acme.middleware.infrastructure.sync.config.SyncProperties;
+import com.acme.middleware.infrastructure.sync.metrics.OutboxMetrics;
+import com.acme.middleware.infrastructure.sync.notify.OutboxNotificationListener;
+import com.acme.middleware.infrastructure.sync.notify.OutboxWakeup;
+
+/**
+ * Outbox dispatcher. Runs on its own thread and sleeps on {@link OutboxWakeup} between batches,
+ * so new events are picked up as soon as they are committed. While Postgres notifications are
+ * flowing the idle wait is the long safety-net interval; without them the wait backs off
+ * exponentially from {@code pollMinInterval} to {@code pollMaxInterval}. While the Jira circuit
+ * breaker is open nothing is claimed, so events keep their attempts until Jira can be probed;
+ * calls refused past the half-open probes go back to the outbox without using up an attempt.
+ * At most {@code sync.workers} operations of a batch are in flight at a time.
+ */
 @Component
-public class SyncEventProcessor {
+public class SyncEventProcessor implements SmartLifecycle {
 
     private final EventRepository eventRepository;
     private final ProcessJiraSyncEventService processJiraSyncEventService;
+    private final OutboxCoalescer coalescer;
+    private final SyncProperties syncProperties;
+    private final OutboxWakeup wakeup;
+    private final OutboxNotificationListener notificationListener;
+    private final OutboxMetrics outboxMetrics;
+    private final JiraCircuitBreaker circuitBreaker;
     private final Logger log = LoggerFactory.getLogger(SyncEventProcessor.class);
 
-    public SyncEventProcessor(EventRepository eventRepository, ProcessJiraSyncEventService processJiraSyncEventService) {
+    private volatile boolean running;
+    private Thread dispatcherThread;
+    // Earliest retry scheduled by this node, so backing-off events are not left to the idle poll
+    private Instant nextRetryAt;
+
+    public SyncEventProcessor(EventRepository eventRepository,
+                              ProcessJiraSyncEventService processJiraSyncEventService,
+                              OutboxCoalescer coalescer,
+                              SyncProperties syncProperties,
+                              OutboxWakeup wakeup,
+                              OutboxNotificationListener notificationListener,
+                              OutboxMetrics outboxMetrics,
+                              JiraCircuitBreaker circuitBreaker) {
         this.eventRepository = eventRepository;
         this.processJiraSyncEventService = processJiraSyncEventService;
+        this.coalescer = coalescer;
+        this.syncProperties = syncProperties;
+        this.wakeup = wakeup;
+        this.notificationListener = notificationListener;
+        this.outboxMetrics = outboxMetrics;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        dispatcherThread = Thread.ofPlatform().name("sync-dispatcher").daemon(true).start(this::dispatchLoop);
     }
 
-    @Scheduled(fixedRate = 5000)
-    public void syncEvents() {
+    @Override
+    public void stop() {
+        running = false;
+        if (dispatcherThread != null) {
+            dispatcherThread.interrupt();
+        }
+    }
 
-        log.info(" --- Procesando eventos pendientes ---");
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
 
-        List<Event> events = eventRepository.findPendingEvents();
+    private void dispatchLoop() {
+        Duration idleDelay = syncProperties.pollMinInterval();
+        while (running) {
+            try {
+                Duration open = circuitBreaker.remainingOpen();
+                if (!open.isZero()) {
+                    log.debug("Jira circuit is open, pausing the outbox for {}", open);
+                    if (!sleep(open)) {
+                        return;
+                    }
+                    continue;
+                }
 
-        log.info(" --- Eventos pendientes: {} ---", events.size());
+                int claimed = syncEvents();
+                if (claimed >= syncProperties.batchSize()) {
+                    // Backlog: keep draining without waiting
+                    continue;
+                }
+                if (claimed > 0) {
+                    idleDelay = syncProperties.pollMinInterval();
+                }
 
-        if(!events.isEmpty()) {
-            events.forEach(event -> {
-                try {
-                    processJiraSyncEventService.execute(event);
-                } catch (Exception e) {
-                    log.error("Error processing event: {}", e.getMessage(), e);
-                }  
-            });
+                Duration wait = untilNextRetry(notificationListener.isListening() ? syncProperties.pollMaxInterval() : idleDelay);
+                if (wakeup.await(wait)) {
+                    idleDelay = syncProperties.pollMinInterval();
+                } else {
+                    idleDelay = backOff(idleDelay);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("Error dispatching outbox events: {}", e.getMessage(), e);
+                idleDelay = backOff(idleDelay);
+                if (!sleep(idleDelay)) {
+                    return;
+                }
+            }
         }
     }
 
-    
+    /**
+     * Claims and processes one batch.
+     *
+     * @return number of events claimed
+     */
+    int syncEvents() throws InterruptedException {
+
+        log.debug(" --- Procesando eventos pendientes ---");
+
+        // Bounded claim: each batch costs the same no matter how large the outbox grows, and is
+        // shared between priority classes by weight
+        List<Event> events = eventRepository.claimPendingEvents(syncProperties.batchSize(), syncProperties.leaseDuration());
+
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        log.info(" --- Eventos reclamados: {} ---", events.size());
+        outboxMetrics.recordClaimed(events);
 
+        // One net operation per issue
+        List<SyncOperation> operations = coalescer.coalesce(events);
+        if (operations.size() < events.size()) {
+            log.info(" --- {} eventos combinados en {} operaciones ---", events.size(), operations.size());
+        }
+        operations = processJiraSyncEventService.loadIssues(operations);
+
+        // A batch holds at most one operation per issue, so its operations can run concurrently
+        // without reordering any issue's changes; creates go to Jira in bulk requests
+        Semaphore workers = new Semaphore(syncProperties.workers());
+        List<SyncOperation> creates = new ArrayList<>();
+        List<CompletableFuture<Void>> inFlight = new ArrayList<>();
+        for (SyncOperation operation : operations) {
+            if (operation.kind() == SyncOperation.Kind.CREATE) {
+                creates.add(operation);
+            } else {
+                acquireWorker(events, workers);
+                inFlight.add(process(operation).whenComplete((ignored, error) -> workers.release()));
+            }
+        }
+        for (int from = 0; from < creates.size(); from += JiraIssuePort.MAX_BULK_CREATE) {
+            List<SyncOperation> chunk = creates.subList(from, Math.min(from + JiraIssuePort.MAX_BULK_CREATE, creates.size()));
+            acquireWorker(events, workers);
+            inFlight.add(processCreates(chunk).whenComplete((ignored, error) -> workers.release()));
+        }
+
+        // Wait for the whole batch so the next claim never overtakes an event still running
+        awaitBatch(events, CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new)));
+        rememberRetries(events);
+        return events.size();
+    }
+
+    /**
+     * Waits for the batch, renewing the lease of its events every third of the lease duration.
+     * Throttling, a low concurrency limit and queueing at the bulkheads can make a batch outlast
+     * the lease it was claimed with; its events would then be claimed again, here or by the node
+     * that took over the partition, and sent to Jira twice.
+     */
+    private void awaitBatch(List<Event> events, CompletableFuture<Void> batch) throws InterruptedException {
+        Duration lease = syncProperties.leaseDuration();
+        long renewEvery = Math.max(lease.toMillis() / 3, 1);
+        while (true) {
+            try {
+                batch.get(renewEvery, TimeUnit.MILLISECONDS);
+                return;
+            } catch (TimeoutException e) {
+                renewLease(events, lease);
+            } catch (ExecutionException e) {
+                // Every operation handles its own failure
+                return;
+            }
+        }
+    }
+
+    /**
+     * Waits for one of the batch's worker slots. The lease is renewed while waiting, since the
+     * operations holding the slots can take as long as a whole batch.
+     */
+    private void acquireWorker(List<Event> events, Semaphore workers) throws InterruptedException {
+        Duration lease = syncProperties.leaseDuration();
+        long renewEvery = Math.max(lease.toMillis() / 3, 1);
+        while (!workers.tryAcquire(renewEvery, TimeUnit.MILLISECONDS)) {
+            renewLease(events, lease);
+        }
+    }
+
+    private void renewLease(List<Event> events, Duration lease) {
+        try {
+            eventRepository.extendLease(events, Instant.now().plus(lease));
+            log.debug("Batch of {} events still running, lease renewed for {}", events.size(), lease);
+        } catch (RuntimeException e) {
+            // Leaving now would start the next claim while this batch is still running
+            log.warn("Could not renew the lease of {} in-flight events: {}", events.size(), e.getMessage());
+        }
+    }
+
+    private void rememberRetries(List<Event> events) {
+        events.stream()
+                .filter(event -> EventConstants.STATUS_PENDING.equals(event.getStatus()))
+                .map(Event::getNextAttemptAt)
+                .filter(Objects::nonNull)
+                .min(Instant::compareTo)
+                .ifPresent(earliest -> {
+                    if (nextRetryAt == null || earliest.isBefore(nextRetryAt)) {
+                        nextRetryAt = earliest;
+                    }
+                });
+    }
+
+    private Duration untilNextRetry(Duration wait) {
+        if (nextRetryAt == null) {
+            return wait;
+        }
+        Duration untilRetry = Duration.between(Instant.now(), nextRetryAt);
+        if (untilRetry.compareTo(wait) >= 0) {
+            return wait;
+        }
+        nextRetryAt = null;
+        return untilRetry.isNegative() ? Duration.ZERO : untilRetry;
+    }
+
+    private CompletableFuture<Void> process(SyncOperation operation) {
+        return start(() -> processJiraSyncEventService.executeAsync(operation))
+                .exceptionally(e -> {
+                    log.error("Error processing {} for issue {}: {}", operation.kind(), operation.issueId(), e.getMessage(), e);
+                    return null;
+                });
+    }
+
+    private CompletableFuture<Void> processCreates(List<SyncOperation> creates) {
+        return start(() -> processJiraSyncEventService.executeCreatesAsync(creates))
+                .exceptionally(e -> {
+                    log.error("Error processing bulk create of {} issues: {}", creates.size(), e.getMessage(), e);
+                    return null;
+                });
+    }
+
+    private static CompletableFuture<Void> start(Supplier<CompletableFuture<Void>> operation) {
+        try {
+            return operation.get();
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private Duration backOff(Duration current) {
+        Duration doubled = current.multipliedBy(2);
+        return doubled.compareTo(syncProperties.pollMaxInterval()) > 0 ? syncProperties.pollMaxInterval() : doubled;
+    }
+
+    private boolean sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
 }
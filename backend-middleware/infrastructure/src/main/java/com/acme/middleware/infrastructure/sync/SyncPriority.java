@@ -0,0 +1,36 @@
+package com.acme.middleware.infrastructure.sync;
+
+import com.acme.middleware.domain.model.IssueConstants;
+
+/**
+ * Priority classes of the outbox, in dispatch order. The rank is what the events table stores.
+ */
+public enum SyncPriority {
+    HIGH,
+    MEDIUM,
+    LOW;
+
+    public int rank() {
+        return ordinal();
+    }
+
+    /**
+     * Class of an issue priority; unknown or missing priorities (delete events) count as MEDIUM.
+     */
+    public static SyncPriority of(String priority) {
+        if (IssueConstants.HIGH_PRIORITY.equals(priority)) {
+            return HIGH;
+        }
+        if (IssueConstants.LOW_PRIORITY.equals(priority)) {
+            return LOW;
+        }
+        return MEDIUM;
+    }
+
+    public static SyncPriority ofRank(Integer rank) {
+        if (rank == null || rank < 0 || rank >= values().length) {
+            return MEDIUM;
+        }
+        return values()[rank];
+    }
+}
@@ -0,0 +1,55 @@
+package com.acme.middleware.infrastructure.sync.adapter;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import com.acme.middleware.domain.model.DeadLetterEvent;
+import com.acme.middleware.domain.port.DeadLetterRepository;
+import com.acme.middleware.infrastructure.sync.entity.DeadLetterEventEntity;
+import com.acme.middleware.infrastructure.sync.mapper.DeadLetterPersistenceMapper;
+import com.acme.middleware.infrastructure.sync.repository.SpringDataDeadLetterJpaRepository;
+
+@Component
+public class DeadLetterRepositoryAdapter implements DeadLetterRepository {
+
+    private final SpringDataDeadLetterJpaRepository jpaRepository;
+    private final DeadLetterPersistenceMapper mapper;
+
+    public DeadLetterRepositoryAdapter(SpringDataDeadLetterJpaRepository jpaRepository, DeadLetterPersistenceMapper mapper) {
+        this.jpaRepository = jpaRepository;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public DeadLetterEvent save(DeadLetterEvent deadLetter) {
+        return mapper.toDomain(jpaRepository.save(mapper.toEntity(deadLetter)));
+    }
+
+    @Override
+    public List<DeadLetterEvent> findPage(String errorClass, int page, int size) {
+        Pageable pageable = PageRequest.of(page, size);
+        List<DeadLetterEventEntity> entities = errorClass != null
+                ? jpaRepository.findByErrorClassOrderByFailedAtAsc(errorClass, pageable)
+                : jpaRepository.findAllByOrderByFailedAtAsc(pageable);
+        return entities.stream().map(mapper::toDomain).toList();
+    }
+
+    @Override
+    public long count(String errorClass) {
+        return errorClass != null ? jpaRepository.countByErrorClass(errorClass) : jpaRepository.count();
+    }
+
+    @Override
+    public List<DeadLetterEvent> findAllById(Collection<String> ids) {
+        return jpaRepository.findAllById(ids).stream().map(mapper::toDomain).toList();
+    }
+
+    @Override
+    public void deleteAllById(Collection<String> ids) {
+        jpaRepository.deleteAllByIdInBatch(ids);
+    }
+}
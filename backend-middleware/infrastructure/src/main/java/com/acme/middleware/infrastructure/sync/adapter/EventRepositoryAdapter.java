@@ -1,34 +1,112 @@
 package com.acme.middleware.infrastructure.sync.adapter;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.acme.middleware.domain.model.Event;
+import com.acme.middleware.domain.model.EventConstants;
 import com.acme.middleware.domain.port.EventRepository;
+import com.acme.middleware.infrastructure.sync.SyncPriority;
+import com.acme.middleware.infrastructure.sync.cluster.SyncPartitionManager;
+import com.acme.middleware.infrastructure.sync.config.SyncProperties;
 import com.acme.middleware.infrastructure.sync.entity.EventEntity;
 import com.acme.middleware.infrastructure.sync.mapper.EventPersistenceMapper;
+import com.acme.middleware.infrastructure.sync.notify.OutboxNotifier;
+import com.acme.middleware.infrastructure.sync.repository.SpringDataArchivedEventJpaRepository;
 import com.acme.middleware.infrastructure.sync.repository.SpringDataEventJpaRepository;
 
 @Component
 public class EventRepositoryAdapter implements EventRepository {
     
     private final SpringDataEventJpaRepository jpaRepository;
+    private final SpringDataArchivedEventJpaRepository archiveRepository;
     private final EventPersistenceMapper eventPersistenceMapper;
+    private final OutboxNotifier outboxNotifier;
+    private final SyncPartitionManager partitionManager;
+    private final SyncProperties.Priorities priorities;
     
-    public EventRepositoryAdapter(SpringDataEventJpaRepository jpaRepository, EventPersistenceMapper eventPersistenceMapper) {
+    public EventRepositoryAdapter(SpringDataEventJpaRepository jpaRepository, SpringDataArchivedEventJpaRepository archiveRepository, EventPersistenceMapper eventPersistenceMapper, OutboxNotifier outboxNotifier, SyncPartitionManager partitionManager, SyncProperties syncProperties) {
         this.jpaRepository = jpaRepository;
+        this.archiveRepository = archiveRepository;
         this.eventPersistenceMapper = eventPersistenceMapper;
+        this.outboxNotifier = outboxNotifier;
+        this.partitionManager = partitionManager;
+        this.priorities = syncProperties.priorities();
     }
     
+    /**
+     * Claims only from the partitions this node currently leases, so replicas never compete
+     * for the same issue. The batch is shared between priority classes by weight, each class
+     * oldest first, and whatever a class does not use is filled highest class first. Claimed
+     * rows are marked before the next query, whose auto-flush takes them out of the candidates.
+     * <p>
+     * Events of one issue may be claimed in different batches when its priority changed in
+     * between; operations always send the issue as it is now, so that only affects timing.
+     */
     @Override
-    public List<Event> findPendingEvents() {
-        return jpaRepository.findAll().stream()
+    @Transactional
+    public List<Event> claimPendingEvents(int batchSize, Duration leaseDuration) {
+        Set<Integer> partitions = partitionManager.ownedPartitions();
+        if (partitions.isEmpty()) {
+            return List.of();
+        }
+        Instant now = Instant.now();
+        Instant lockedUntil = now.plus(leaseDuration);
+        List<EventEntity> claimed = new ArrayList<>(batchSize);
+        for (SyncPriority priority : SyncPriority.values()) {
+            int quota = Math.min(priorities.quota(priority, batchSize), batchSize - claimed.size());
+            if (quota > 0) {
+                claimed.addAll(lock(partitions, now, lockedUntil, false, priority.rank(), quota));
+            }
+        }
+        if (claimed.size() < batchSize) {
+            claimed.addAll(lock(partitions, now, lockedUntil, true, 0, batchSize - claimed.size()));
+        }
+        return claimed.stream()
                 .map(eventPersistenceMapper::toDomain)
                 .collect(Collectors.toList());
     }
 
+    private List<EventEntity> lock(Set<Integer> partitions, Instant now, Instant lockedUntil, boolean anyPriority, int priorityRank, int limit) {
+        List<EventEntity> locked = jpaRepository.lockClaimable(
+                EventConstants.STATUS_PENDING, EventConstants.STATUS_PROCESSING, now,
+                partitionManager.partitionCount(), partitions, partitions.contains(0),
+                anyPriority, priorityRank, PageRequest.of(0, limit));
+        locked.forEach(entity -> {
+            entity.setStatus(EventConstants.STATUS_PROCESSING);
+            entity.setLockedUntil(lockedUntil);
+        });
+        return locked;
+    }
+
+    /**
+     * One bulk update for the whole list, without loading the rows.
+     */
+    @Override
+    @Transactional
+    public void extendLease(List<Event> events, Instant lockedUntil) {
+        if (events.isEmpty()) {
+            return;
+        }
+        jpaRepository.extendLease(events.stream().map(Event::getId).toList(), EventConstants.STATUS_PROCESSING, lockedUntil);
+    }
+
+    @Override
+    @Transactional
+    public Event append(Event event) {
+        Event saved = save(event);
+        outboxNotifier.eventEnqueued();
+        return saved;
+    }
+
     @Override
     public Event save(Event event) {
         EventEntity entity = eventPersistenceMapper.toEntity(event);
@@ -40,4 +118,34 @@ public class EventRepositoryAdapter implements EventRepository {
     public void deleteById(String id) {
         jpaRepository.deleteById(id);
     }
+
+    /**
+     * One bulk update for the whole list, without loading the rows.
+     */
+    @Override
+    @Transactional
+    public void markDispatched(List<Event> events, Instant dispatchedAt) {
+        if (events.isEmpty()) {
+            return;
+        }
+        jpaRepository.markDispatched(events.stream().map(Event::getId).toList(), dispatchedAt);
+        events.forEach(event -> event.markDispatched(dispatchedAt));
+    }
+
+    /**
+     * Copies the events into the archive and removes them from the live table with one batched
+     * delete, keeping the outbox down to the rows that still have work to do.
+     */
+    @Override
+    @Transactional
+    public void archive(List<Event> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        Instant processedAt = Instant.now();
+        archiveRepository.saveAll(events.stream()
+                .map(event -> eventPersistenceMapper.toArchive(event, processedAt))
+                .toList());
+        jpaRepository.deleteAllByIdInBatch(events.stream().map(Event::getId).toList());
+    }
 }
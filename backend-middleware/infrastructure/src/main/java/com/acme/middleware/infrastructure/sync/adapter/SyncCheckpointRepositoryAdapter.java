@@ -0,0 +1,37 @@
+package com.acme.middleware.infrastructure.sync.adapter;
+
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+
+import com.acme.middleware.domain.model.SyncCheckpoint;
+import com.acme.middleware.domain.port.SyncCheckpointRepository;
+import com.acme.middleware.infrastructure.sync.entity.SyncCheckpointEntity;
+import com.acme.middleware.infrastructure.sync.repository.SpringDataSyncCheckpointJpaRepository;
+
+@Component
+public class SyncCheckpointRepositoryAdapter implements SyncCheckpointRepository {
+
+    private final SpringDataSyncCheckpointJpaRepository jpaRepository;
+
+    public SyncCheckpointRepositoryAdapter(SpringDataSyncCheckpointJpaRepository jpaRepository) {
+        this.jpaRepository = jpaRepository;
+    }
+
+    @Override
+    public Optional<SyncCheckpoint> findByName(String name) {
+        return jpaRepository.findById(name).map(SyncCheckpointRepositoryAdapter::toDomain);
+    }
+
+    @Override
+    public SyncCheckpoint save(SyncCheckpoint checkpoint) {
+        return toDomain(jpaRepository.save(new SyncCheckpointEntity(
+                checkpoint.getName(), checkpoint.getWatermark(), checkpoint.getCursor(), checkpoint.getProcessed(),
+                checkpoint.getTotal(), checkpoint.getState(), checkpoint.getStartedAt(), checkpoint.getUpdatedAt())));
+    }
+
+    private static SyncCheckpoint toDomain(SyncCheckpointEntity entity) {
+        return SyncCheckpoint.restore(entity.getName(), entity.getWatermark(), entity.getCursor(), entity.getProcessed(),
+                entity.getTotal(), entity.getState(), entity.getStartedAt(), entity.getUpdatedAt());
+    }
+}
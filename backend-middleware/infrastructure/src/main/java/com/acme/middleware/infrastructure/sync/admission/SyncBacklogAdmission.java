@@ -0,0 +1,64 @@
+package com.acme.middleware.infrastructure.sync.admission;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import com.acme.middleware.application.exceptions.SyncBacklogSaturatedException;
+import com.acme.middleware.application.port.SyncAdmissionPort;
+import com.acme.middleware.infrastructure.sync.config.SyncProperties;
+import com.acme.middleware.infrastructure.sync.metrics.OutboxMetrics;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Refuses new issues while the outbox is saturated, typically during a Jira outage. The backlog
+ * is estimated in memory from the periodic {@link OutboxMetrics} snapshot plus the issues this
+ * node admitted since, so the check adds no query to the create path. Saturation starts at the
+ * high-water mark and ends below the low-water mark; exposed as {@code sync.admission.saturated}.
+ */
+@Component
+public class SyncBacklogAdmission implements SyncAdmissionPort {
+
+    private static final Logger log = LoggerFactory.getLogger(SyncBacklogAdmission.class);
+
+    private final OutboxMetrics outboxMetrics;
+    private final SyncProperties.Admission admission;
+
+    private long seenSnapshot = -1;
+    private long admittedSinceSnapshot;
+    private volatile boolean saturated;
+
+    public SyncBacklogAdmission(OutboxMetrics outboxMetrics, SyncProperties syncProperties, MeterRegistry meterRegistry) {
+        this.outboxMetrics = outboxMetrics;
+        this.admission = syncProperties.admission();
+        Gauge.builder("sync.admission.saturated", this, gate -> gate.saturated ? 1 : 0)
+                .description("1 while issue creation is refused because the sync backlog is full")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public synchronized void admit() {
+        long snapshot = outboxMetrics.snapshotVersion();
+        if (snapshot != seenSnapshot) {
+            seenSnapshot = snapshot;
+            admittedSinceSnapshot = 0;
+        }
+        long backlog = outboxMetrics.pendingEvents() + admittedSinceSnapshot;
+
+        if (!saturated && backlog >= admission.highWaterMark()) {
+            saturated = true;
+            log.warn("Sync backlog at {} events (limit {}), refusing new issues", backlog, admission.highWaterMark());
+        } else if (saturated && backlog <= admission.lowWaterMark()) {
+            saturated = false;
+            log.info("Sync backlog down to {} events, accepting new issues again", backlog);
+        }
+
+        if (saturated) {
+            throw new SyncBacklogSaturatedException(
+                    "Jira sync backlog is full, try again later", admission.retryAfter());
+        }
+        admittedSinceSnapshot++;
+    }
+}
@@ -0,0 +1,163 @@
+package com.acme.middleware.infrastructure.sync.archive;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.acme.middleware.infrastructure.sync.config.SyncProperties;
+
+/**
+ * Maintains the daily partitions of {@code events_archive} on Postgres: creates the partitions
+ * for the coming days and detaches and drops the ones past retention. Dropping a partition
+ * frees a whole day of rows without a bulk DELETE, so the archive never needs vacuuming for
+ * expired data. Replicas run this concurrently; a transaction-scoped advisory lock lets one of
+ * them do the work and the others skip the round.
+ * <p>
+ * Rows processed on a day that had no partition yet (the job was down, or the clock ran ahead)
+ * sit in the default partition. They are moved into the day partition when it is created,
+ * since Postgres refuses a partition whose range the default partition already holds rows for,
+ * and the ones past retention are deleted from the default partition directly.
+ * <p>
+ * Other databases (H2 in tests) keep the archive as a plain table and are left alone.
+ */
+@Component
+public class EventArchiveRetentionJob {
+
+    private static final Logger log = LoggerFactory.getLogger(EventArchiveRetentionJob.class);
+
+    // Arbitrary key shared by all replicas
+    private static final long ADVISORY_LOCK_KEY = 7_260_311_013L;
+    private static final String TABLE = "events_archive";
+    private static final String PARTITION_PREFIX = TABLE + "_";
+    private static final String DEFAULT_PARTITION = TABLE + "_default";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final SyncProperties.Archive archive;
+    private final boolean postgres;
+
+    public EventArchiveRetentionJob(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager, SyncProperties syncProperties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.archive = syncProperties.archive();
+        this.postgres = Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName())));
+    }
+
+    /**
+     * Runs at startup and then hourly; every step is idempotent, so running more often than
+     * once a day only keeps the pre-created partitions topped up.
+     */
+    @Scheduled(initialDelay = 0, fixedDelay = 1, timeUnit = TimeUnit.HOURS)
+    public void maintainPartitions() {
+        if (!postgres) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Boolean locked = jdbcTemplate.queryForObject("SELECT pg_try_advisory_xact_lock(?)", Boolean.class, ADVISORY_LOCK_KEY);
+                if (!Boolean.TRUE.equals(locked)) {
+                    log.debug("Archive partitions are being maintained by another node");
+                    return;
+                }
+                LocalDate today = LocalDate.now(ZoneOffset.UTC);
+                createPartitions(today);
+                LocalDate cutoff = today.minusDays(archive.retention().toDays());
+                dropExpiredPartitions(cutoff);
+                pruneDefaultPartition(cutoff);
+            });
+        } catch (DataAccessException e) {
+            log.warn("Could not maintain {} partitions: {}", TABLE, e.getMessage());
+        }
+    }
+
+    private void createPartitions(LocalDate today) {
+        for (int day = 0; day <= archive.precreateDays(); day++) {
+            createPartition(today.plusDays(day));
+        }
+    }
+
+    /**
+     * Builds the partition detached, moves the day's rows out of the default partition into it
+     * and only then attaches it, all inside the caller's transaction.
+     */
+    private void createPartition(LocalDate from) {
+        String partition = partitionName(from);
+        if (Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, partition))) {
+            return;
+        }
+        // Bounds are UTC instants, independent of the session time zone
+        String lower = "'" + from + " 00:00:00+00'";
+        String upper = "'" + from.plusDays(1) + " 00:00:00+00'";
+        jdbcTemplate.execute("CREATE TABLE " + partition + " (LIKE " + TABLE + " INCLUDING DEFAULTS INCLUDING CONSTRAINTS)");
+        int moved = jdbcTemplate.update("WITH moved AS (DELETE FROM " + DEFAULT_PARTITION
+                + " WHERE processed_at >= " + lower + " AND processed_at < " + upper + " RETURNING *)"
+                + " INSERT INTO " + partition + " SELECT * FROM moved");
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " ATTACH PARTITION " + partition
+                + " FOR VALUES FROM (" + lower + ") TO (" + upper + ")");
+        if (moved > 0) {
+            log.info("Created archive partition {} with {} row(s) moved from {}", partition, moved, DEFAULT_PARTITION);
+        }
+    }
+
+    private void dropExpiredPartitions(LocalDate cutoff) {
+        List<String> partitions = jdbcTemplate.queryForList(
+                "SELECT child.relname FROM pg_inherits "
+                        + "JOIN pg_class parent ON parent.oid = pg_inherits.inhparent "
+                        + "JOIN pg_class child ON child.oid = pg_inherits.inhrelid "
+                        + "WHERE parent.relname = ?", String.class, TABLE);
+        for (String partition : partitions) {
+            Optional<LocalDate> day = partitionDay(partition);
+            // A partition is expired once its whole day lies before the cutoff
+            if (day.isPresent() && day.get().isBefore(cutoff)) {
+                jdbcTemplate.execute("ALTER TABLE " + TABLE + " DETACH PARTITION " + partition);
+                jdbcTemplate.execute("DROP TABLE " + partition);
+                log.info("Dropped archive partition {}", partition);
+            }
+        }
+    }
+
+    /**
+     * The default partition is never dropped, so its expired rows are deleted by processed_at.
+     */
+    private void pruneDefaultPartition(LocalDate cutoff) {
+        int deleted = jdbcTemplate.update("DELETE FROM " + DEFAULT_PARTITION + " WHERE processed_at < '" + cutoff + " 00:00:00+00'");
+        if (deleted > 0) {
+            log.info("Deleted {} expired row(s) from {}", deleted, DEFAULT_PARTITION);
+        }
+    }
+
+    static String partitionName(LocalDate day) {
+        return PARTITION_PREFIX + PARTITION_SUFFIX.format(day);
+    }
+
+    /**
+     * Day covered by a partition created by this job; empty for the default partition and
+     * anything else not named by {@link #partitionName(LocalDate)}.
+     */
+    static Optional<LocalDate> partitionDay(String partition) {
+        if (!partition.startsWith(PARTITION_PREFIX)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(LocalDate.parse(partition.substring(PARTITION_PREFIX.length()), PARTITION_SUFFIX));
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package com.acme.middleware.infrastructure.sync.cluster;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.acme.middleware.infrastructure.sync.config.SyncProperties;
+import com.acme.middleware.infrastructure.sync.entity.SyncNodeEntity;
+import com.acme.middleware.infrastructure.sync.entity.SyncPartitionLeaseEntity;
+import com.acme.middleware.infrastructure.sync.notify.OutboxWakeup;
+import com.acme.middleware.infrastructure.sync.repository.SpringDataPartitionLeaseJpaRepository;
+import com.acme.middleware.infrastructure.sync.repository.SpringDataSyncNodeJpaRepository;
+
+/**
+ * Splits the outbox between replicas. Events are hashed by issue into a fixed number of
+ * partitions, and every node holds DB-backed leases on about {@code partitions / liveNodes} of
+ * them. Each heartbeat renews the node's leases, gives back partitions above its fair share and
+ * takes free or expired ones up to it, so a joining node picks up work within a couple of
+ * heartbeats and a dead node's partitions move once its leases run out.
+ * <p>
+ * All events of an issue hash to one partition, so an issue is only ever synced by one node.
+ */
+@Component
+public class SyncPartitionManager implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(SyncPartitionManager.class);
+
+    // Node rows older than this many lease TTLs are removed
+    private static final int STALE_NODE_TTL_FACTOR = 10;
+
+    private final SpringDataPartitionLeaseJpaRepository leaseRepository;
+    private final SpringDataSyncNodeJpaRepository nodeRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxWakeup wakeup;
+    private final SyncProperties.Cluster cluster;
+    private final String nodeId;
+    private final Clock clock;
+
+    private volatile Set<Integer> owned = Set.of();
+    // Local deadline of the leases written by the last heartbeat
+    private volatile Instant ownedUntil = Instant.MIN;
+    private volatile boolean running;
+    private ScheduledExecutorService heartbeatExecutor;
+
+    @Autowired
+    public SyncPartitionManager(SpringDataPartitionLeaseJpaRepository leaseRepository,
+                                SpringDataSyncNodeJpaRepository nodeRepository,
+                                PlatformTransactionManager transactionManager,
+                                OutboxWakeup wakeup,
+                                SyncProperties syncProperties) {
+        this(leaseRepository, nodeRepository, new TransactionTemplate(transactionManager), wakeup,
+                syncProperties.cluster(), resolveNodeId(syncProperties.cluster()), Clock.systemUTC());
+    }
+
+    SyncPartitionManager(SpringDataPartitionLeaseJpaRepository leaseRepository,
+                         SpringDataSyncNodeJpaRepository nodeRepository,
+                         TransactionTemplate transactionTemplate,
+                         OutboxWakeup wakeup,
+                         SyncProperties.Cluster cluster,
+                         String nodeId,
+                         Clock clock) {
+        this.leaseRepository = leaseRepository;
+        this.nodeRepository = nodeRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.wakeup = wakeup;
+        this.cluster = cluster;
+        this.nodeId = nodeId;
+        this.clock = clock;
+    }
+
+    /**
+     * Stable, non-negative hash of an issue; its partition is this value modulo the partition
+     * count. Stored with each event so the partition count can change without rewriting rows.
+     */
+    public static int partitionHash(UUID issueId) {
+        return issueId.hashCode() & Integer.MAX_VALUE;
+    }
+
+    /**
+     * Partitions this node may claim events from. Empty once the leases could not be renewed in
+     * time, so a node cut off from the database stops claiming before others take over.
+     */
+    public Set<Integer> ownedPartitions() {
+        return clock.instant().isBefore(ownedUntil) ? owned : Set.of();
+    }
+
+    public int partitionCount() {
+        return cluster.partitions();
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        heartbeatExecutor = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("sync-heartbeat").daemon(true).factory());
+        heartbeatExecutor.scheduleWithFixedDelay(this::safeHeartbeat, 0,
+                cluster.heartbeatInterval().toMillis(), TimeUnit.MILLISECONDS);
+        log.info("Sync node {} started, sharing {} outbox partitions", nodeId, cluster.partitions());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (heartbeatExecutor != null) {
+            heartbeatExecutor.shutdownNow();
+        }
+        // Hand the partitions over now instead of making other nodes wait for the TTL
+        Set<Integer> released = owned;
+        owned = Set.of();
+        ownedUntil = Instant.MIN;
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!released.isEmpty()) {
+                    leaseRepository.release(nodeId, released);
+                }
+                nodeRepository.deleteById(nodeId);
+            });
+        } catch (Exception e) {
+            log.warn("Could not release partitions of sync node {}: {}", nodeId, e.getMessage());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void safeHeartbeat() {
+        try {
+            heartbeat();
+        } catch (Exception e) {
+            log.warn("Sync node {} heartbeat failed: {}", nodeId, e.getMessage());
+        }
+    }
+
+    void heartbeat() {
+        Instant now = clock.instant();
+        Instant until = now.plus(cluster.leaseTtl());
+        Set<Integer> previous = owned;
+
+        List<Integer> current = transactionTemplate.execute(status -> rebalance(now, until));
+
+        owned = Set.copyOf(current);
+        ownedUntil = until;
+        if (!owned.equals(previous)) {
+            log.info("Sync node {} now owns {} of {} partitions", nodeId, owned.size(), cluster.partitions());
+            if (!previous.containsAll(owned)) {
+                // New partitions may already have a backlog
+                wakeup.signal();
+            }
+        }
+    }
+
+    private List<Integer> rebalance(Instant now, Instant until) {
+        ensurePartitions();
+        nodeRepository.save(new SyncNodeEntity(nodeId, now));
+        nodeRepository.deleteStale(now.minus(cluster.leaseTtl().multipliedBy(STALE_NODE_TTL_FACTOR)));
+
+        leaseRepository.renew(nodeId, until, now);
+        List<Integer> mine = new ArrayList<>(leaseRepository.findOwned(nodeId, now));
+        long alive = Math.max(1, nodeRepository.countAlive(now.minus(cluster.leaseTtl())));
+        int fairShare = (int) Math.ceilDiv(cluster.partitions(), alive);
+
+        if (mine.size() > fairShare) {
+            Collections.sort(mine);
+            List<Integer> surplus = new ArrayList<>(mine.subList(fairShare, mine.size()));
+            leaseRepository.release(nodeId, surplus);
+            mine.removeAll(surplus);
+        } else if (mine.size() < fairShare) {
+            List<Integer> available = new ArrayList<>(leaseRepository.findAvailable(now));
+            // Random order keeps nodes that start together from fighting over the same rows
+            Collections.shuffle(available);
+            for (Integer partition : available) {
+                if (mine.size() >= fairShare) {
+                    break;
+                }
+                if (leaseRepository.tryAcquire(partition, nodeId, until, now) == 1) {
+                    mine.add(partition);
+                }
+            }
+        }
+        return mine;
+    }
+
+    private void ensurePartitions() {
+        if (leaseRepository.count() >= cluster.partitions()) {
+            return;
+        }
+        Set<Integer> existing = Set.copyOf(leaseRepository.findAll().stream().map(SyncPartitionLeaseEntity::getPartitionNo).toList());
+        for (int partition = 0; partition < cluster.partitions(); partition++) {
+            if (!existing.contains(partition)) {
+                leaseRepository.save(new SyncPartitionLeaseEntity(partition));
+            }
+        }
+    }
+
+    private static String resolveNodeId(SyncProperties.Cluster cluster) {
+        if (cluster.nodeId() != null && !cluster.nodeId().isBlank()) {
+            return cluster.nodeId();
+        }
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "node";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
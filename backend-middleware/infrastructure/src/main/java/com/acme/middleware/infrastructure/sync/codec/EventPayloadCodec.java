@@ -0,0 +1,84 @@
+package com.acme.middleware.infrastructure.sync.codec;
+
+import java.io.IOException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import com.acme.middleware.domain.model.IssueEventPayload;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * Stored form of {@link IssueEventPayload}: compact JSON tagged with a schema version. The
+ * reader and writer are built once, so encoding and decoding skip Jackson's per-call type
+ * lookups.
+ * <p>
+ * Rows written before the codec carry no version and were built with {@code String.format},
+ * which turned nulls into the string {@code "null"}; those are read leniently. A payload that is
+ * not valid JSON at all decodes as {@link IssueEventPayload#EMPTY}: dispatch works from the
+ * issue row, so only a delete loses anything, and it then has no Jira key to delete.
+ */
+@Component
+public class EventPayloadCodec {
+
+    private static final Logger log = LoggerFactory.getLogger(EventPayloadCodec.class);
+
+    private final ObjectWriter writer;
+    private final ObjectReader reader;
+
+    public EventPayloadCodec(ObjectMapper objectMapper) {
+        this.writer = objectMapper.writerFor(StoredPayload.class);
+        this.reader = objectMapper.readerFor(StoredPayload.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    public String encode(IssueEventPayload payload) {
+        if (payload == null) {
+            return null;
+        }
+        try {
+            return writer.writeValueAsString(new StoredPayload(IssueEventPayload.SCHEMA_VERSION,
+                    payload.title(), payload.description(), payload.priority(), payload.businessKey()));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not encode outbox payload", e);
+        }
+    }
+
+    public IssueEventPayload decode(String json) {
+        if (json == null || json.isBlank()) {
+            return IssueEventPayload.EMPTY;
+        }
+        StoredPayload stored;
+        try {
+            stored = reader.readValue(json);
+        } catch (IOException e) {
+            log.warn("Unreadable outbox payload, continuing without it: {}", e.getMessage());
+            return IssueEventPayload.EMPTY;
+        }
+        if (stored.version() == null) {
+            return new IssueEventPayload(legacy(stored.title()), legacy(stored.description()),
+                    legacy(stored.priority()), legacy(stored.businessKey()));
+        }
+        return new IssueEventPayload(stored.title(), stored.description(), stored.priority(), stored.businessKey());
+    }
+
+    private static String legacy(String value) {
+        return "null".equals(value) ? null : value;
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record StoredPayload(
+            @JsonProperty("v") Integer version,
+            @JsonProperty("title") String title,
+            @JsonProperty("description") String description,
+            @JsonProperty("priority") String priority,
+            @JsonProperty("businessKey") String businessKey
+    ) {}
+}
@@ -0,0 +1,49 @@
+package com.acme.middleware.infrastructure.sync.config;
+
+import java.time.Clock;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.acme.middleware.application.port.JiraIssueSearchPort;
+import com.acme.middleware.application.service.jira.IssueUpsertService;
+import com.acme.middleware.application.service.jira.JiraBackfillService;
+import com.acme.middleware.application.service.jira.JiraPullSyncService;
+import com.acme.middleware.application.service.jira.JiraReconciliationService;
+import com.acme.middleware.application.service.jira.SyncRetryPolicy;
+import com.acme.middleware.domain.port.IssueRepository;
+import com.acme.middleware.domain.port.SyncCheckpointRepository;
+
+@Configuration
+public class SyncConfig {
+
+    @Bean
+    public SyncRetryPolicy syncRetryPolicy(SyncProperties props) {
+        SyncProperties.Retry retry = props.retry();
+        return new SyncRetryPolicy(retry.maxAttempts(), retry.baseDelay(), retry.maxDelay());
+    }
+
+    @Bean
+    public JiraPullSyncService jiraPullSyncService(JiraIssueSearchPort searchPort, IssueUpsertService upsertService,
+                                                   SyncCheckpointRepository checkpointRepository, SyncProperties props) {
+        SyncProperties.Pull pull = props.pull();
+        return new JiraPullSyncService(searchPort, upsertService, checkpointRepository,
+                new JiraPullSyncService.Settings(pull.pageSize(), pull.parallelism(), pull.overlap(), pull.initialLookback()),
+                Clock.systemUTC());
+    }
+
+    @Bean
+    public JiraBackfillService jiraBackfillService(JiraIssueSearchPort searchPort, IssueUpsertService upsertService,
+                                                   IssueRepository issueRepository, SyncCheckpointRepository checkpointRepository,
+                                                   SyncProperties props) {
+        // Same search and page limits as the incremental pull
+        return new JiraBackfillService(searchPort, upsertService, issueRepository, checkpointRepository, props.pull().pageSize());
+    }
+
+    @Bean
+    public JiraReconciliationService jiraReconciliationService(JiraIssueSearchPort searchPort, IssueRepository issueRepository,
+                                                               IssueUpsertService upsertService, SyncProperties props) {
+        return new JiraReconciliationService(searchPort, issueRepository, upsertService,
+                props.reconciliation().buckets(), props.pull().pageSize());
+    }
+}
@@ -0,0 +1,271 @@
+package com.acme.middleware.infrastructure.sync.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import com.acme.middleware.infrastructure.sync.SyncPriority;
+
+@ConfigurationProperties(prefix = "sync")
+public record SyncProperties(
+        int batchSize,
+        int workers,
+        Duration leaseDuration,
+        Duration pollMinInterval,
+        Duration pollMaxInterval,
+        String notifyChannel,
+        Retry retry,
+        Cluster cluster,
+        Archive archive,
+        Priorities priorities,
+        Admission admission,
+        Pull pull,
+        Reconciliation reconciliation
+) {
+    // Upper bound for operations in flight regardless of configuration
+    public static final int MAX_WORKERS = 64;
+
+    public SyncProperties {
+        if (batchSize <= 0) {
+            batchSize = 100;
+        }
+        if (workers <= 0) {
+            workers = 16;
+        }
+        workers = Math.min(workers, MAX_WORKERS);
+        // Renewed while a batch runs, so it bounds how long a crashed node's claims stay hidden
+        if (leaseDuration == null || leaseDuration.isZero() || leaseDuration.isNegative()) {
+            leaseDuration = Duration.ofMinutes(2);
+        }
+        if (pollMinInterval == null || pollMinInterval.isZero() || pollMinInterval.isNegative()) {
+            pollMinInterval = Duration.ofSeconds(1);
+        }
+        if (pollMaxInterval == null || pollMaxInterval.isZero() || pollMaxInterval.isNegative()) {
+            pollMaxInterval = Duration.ofSeconds(30);
+        }
+        if (pollMaxInterval.compareTo(pollMinInterval) < 0) {
+            pollMaxInterval = pollMinInterval;
+        }
+        if (notifyChannel == null || notifyChannel.isBlank()) {
+            notifyChannel = "outbox_events";
+        }
+        // The channel is used as a bare identifier in LISTEN
+        if (!notifyChannel.matches("[a-z_][a-z0-9_]*")) {
+            throw new IllegalArgumentException("sync.notifyChannel must be a lowercase SQL identifier: " + notifyChannel);
+        }
+        if (retry == null) {
+            retry = new Retry(0, null, null);
+        }
+        if (cluster == null) {
+            cluster = new Cluster(0, null, null, null);
+        }
+        if (archive == null) {
+            archive = new Archive(null, 0);
+        }
+        if (priorities == null) {
+            priorities = new Priorities(0, 0, 0);
+        }
+        if (admission == null) {
+            admission = new Admission(0, 0, null);
+        }
+        if (pull == null) {
+            pull = new Pull(null, null, 0, 0, null, null);
+        }
+        if (reconciliation == null) {
+            reconciliation = new Reconciliation(null, null, 0);
+        }
+    }
+
+    /**
+     * Backoff for failed sync attempts.
+     */
+    public record Retry(
+            int maxAttempts,
+            Duration baseDelay,
+            Duration maxDelay
+    ) {
+        public Retry {
+            if (maxAttempts <= 0) {
+                maxAttempts = 10;
+            }
+            if (baseDelay == null || baseDelay.isZero() || baseDelay.isNegative()) {
+                baseDelay = Duration.ofSeconds(5);
+            }
+            if (maxDelay == null || maxDelay.isZero() || maxDelay.isNegative()) {
+                maxDelay = Duration.ofMinutes(30);
+            }
+            if (maxDelay.compareTo(baseDelay) < 0) {
+                maxDelay = baseDelay;
+            }
+        }
+    }
+
+    /**
+     * Sharding of the outbox across replicas. Each node leases a share of the hash partitions and
+     * only claims events of the issues hashed into them.
+     */
+    public record Cluster(
+            int partitions,
+            Duration leaseTtl,
+            Duration heartbeatInterval,
+            String nodeId
+    ) {
+        // Partition count bounds the number of replicas that can share the work
+        public static final int MAX_PARTITIONS = 1024;
+
+        public Cluster {
+            if (partitions <= 0) {
+                partitions = 64;
+            }
+            partitions = Math.min(partitions, MAX_PARTITIONS);
+            if (heartbeatInterval == null || heartbeatInterval.isZero() || heartbeatInterval.isNegative()) {
+                heartbeatInterval = Duration.ofSeconds(10);
+            }
+            if (leaseTtl == null || leaseTtl.isZero() || leaseTtl.isNegative()) {
+                leaseTtl = Duration.ofSeconds(30);
+            }
+            // A lease has to survive at least one missed heartbeat
+            if (leaseTtl.compareTo(heartbeatInterval.multipliedBy(2)) < 0) {
+                leaseTtl = heartbeatInterval.multipliedBy(3);
+            }
+        }
+    }
+
+    /**
+     * Retention of processed events in the day-partitioned {@code events_archive} table.
+     */
+    public record Archive(
+            Duration retention,
+            int precreateDays
+    ) {
+        public Archive {
+            if (retention == null || retention.toDays() < 1) {
+                retention = Duration.ofDays(30);
+            }
+            // Partitions for the coming days exist before the first row for them arrives
+            if (precreateDays <= 0) {
+                precreateDays = 3;
+            }
+        }
+    }
+
+    /**
+     * Relative share of each claimed batch reserved for a priority class. Every class with
+     * pending events gets at least one slot per batch, so LOW issues are delayed under load but
+     * never starved; slots a class leaves unused go to the others, highest class first.
+     */
+    public record Priorities(
+            int highWeight,
+            int mediumWeight,
+            int lowWeight
+    ) {
+        public Priorities {
+            if (highWeight <= 0) {
+                highWeight = 6;
+            }
+            if (mediumWeight <= 0) {
+                mediumWeight = 3;
+            }
+            if (lowWeight <= 0) {
+                lowWeight = 1;
+            }
+        }
+
+        public int weight(SyncPriority priority) {
+            return switch (priority) {
+                case HIGH -> highWeight;
+                case MEDIUM -> mediumWeight;
+                case LOW -> lowWeight;
+            };
+        }
+
+        /**
+         * Slots of a batch reserved for the class.
+         */
+        public int quota(SyncPriority priority, int batchSize) {
+            int total = highWeight + mediumWeight + lowWeight;
+            return Math.max(1, (int) ((long) batchSize * weight(priority) / total));
+        }
+    }
+
+    /**
+     * Backlog limits for issue creation. New issues are refused once the outbox reaches the
+     * high-water mark and accepted again only after it drained below the low-water mark, so the
+     * API does not flap around a single threshold.
+     */
+    public record Admission(
+            long highWaterMark,
+            long lowWaterMark,
+            Duration retryAfter
+    ) {
+        public Admission {
+            if (highWaterMark <= 0) {
+                highWaterMark = 50_000;
+            }
+            if (lowWaterMark <= 0 || lowWaterMark >= highWaterMark) {
+                lowWaterMark = highWaterMark * 4 / 5;
+            }
+            if (retryAfter == null || retryAfter.isZero() || retryAfter.isNegative()) {
+                retryAfter = Duration.ofSeconds(30);
+            }
+        }
+    }
+
+    /**
+     * Scheduled pull of issues changed in Jira, covering webhooks that were never delivered.
+     * Each run reads {@code [watermark - overlap, now)} in {@code parallelism} concurrent time
+     * slices of {@code pageSize} issues per request.
+     */
+    public record Pull(
+            Boolean enabled,
+            Duration interval,
+            int pageSize,
+            int parallelism,
+            Duration overlap,
+            // Window of the first run, before any watermark exists
+            Duration initialLookback
+    ) {
+        public Pull {
+            if (enabled == null) {
+                enabled = true;
+            }
+            if (interval == null || interval.isZero() || interval.isNegative()) {
+                interval = Duration.ofMinutes(5);
+            }
+            if (pageSize <= 0 || pageSize > 100) {
+                pageSize = 100;
+            }
+            if (parallelism <= 0) {
+                parallelism = 4;
+            }
+            if (overlap == null || overlap.isNegative()) {
+                overlap = Duration.ofMinutes(2);
+            }
+            if (initialLookback == null || initialLookback.isZero() || initialLookback.isNegative()) {
+                initialLookback = Duration.ofDays(1);
+            }
+        }
+    }
+
+    /**
+     * Scheduled check that local issues still match Jira. Issues are spread over {@code buckets}
+     * digests; only issues in buckets whose digests differ are compared one by one.
+     */
+    public record Reconciliation(
+            Boolean enabled,
+            Duration interval,
+            int buckets
+    ) {
+        public Reconciliation {
+            if (enabled == null) {
+                enabled = true;
+            }
+            if (interval == null || interval.isZero() || interval.isNegative()) {
+                interval = Duration.ofHours(6);
+            }
+            if (buckets <= 0) {
+                buckets = 256;
+            }
+        }
+    }
+}
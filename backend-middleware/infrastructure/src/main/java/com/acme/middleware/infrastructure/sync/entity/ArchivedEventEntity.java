@@ -0,0 +1,87 @@
+package com.acme.middleware.infrastructure.sync.entity;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import org.springframework.data.domain.Persistable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * A processed outbox event. On Postgres the table is range partitioned by day of
+ * {@code processed_at} (see V5__events_archive.sql), so expired days are dropped as whole
+ * partitions instead of being deleted row by row.
+ */
+@Entity
+@Table(name = "events_archive", indexes = {
+        @Index(name = "idx_events_archive_entity_id", columnList = "entity_id")
+})
+public class ArchivedEventEntity implements Persistable<String> {
+
+    @Id
+    private String id;
+    private String eventType;
+    @Column(name = "entity_id")
+    private UUID entityId;
+    @Column(columnDefinition = "TEXT")
+    private String payload;
+    private Integer attempts;
+    @Column(name = "created_at")
+    private Instant createdAt;
+    @Column(name = "processed_at", nullable = false)
+    private Instant processedAt;
+
+    public ArchivedEventEntity() {}
+
+    public ArchivedEventEntity(String id, String eventType, UUID entityId, String payload, Integer attempts, Instant createdAt, Instant processedAt) {
+        this.id = id;
+        this.eventType = eventType;
+        this.entityId = entityId;
+        this.payload = payload;
+        this.attempts = attempts;
+        this.createdAt = createdAt;
+        this.processedAt = processedAt;
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Archived rows are only ever inserted, so saving persists directly instead of selecting
+     * the id first.
+     */
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public UUID getEntityId() {
+        return entityId;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public Integer getAttempts() {
+        return attempts;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getProcessedAt() {
+        return processedAt;
+    }
+}
@@ -0,0 +1,104 @@
+package com.acme.middleware.infrastructure.sync.entity;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+@Entity
+@Table(name = "dead_letter_events", indexes = {
+        @Index(name = "idx_dead_letter_events_error_class_failed_at", columnList = "error_class, failed_at")
+})
+public class DeadLetterEventEntity {
+
+    @Id
+    private String id;
+    private String eventType;
+    private UUID entityId;
+    @Column(columnDefinition = "TEXT")
+    private String payload;
+    @Column(name = "error_class", length = 255)
+    private String errorClass;
+    @Column(name = "first_error", columnDefinition = "TEXT")
+    private String firstError;
+    @Column(name = "first_failed_at")
+    private Instant firstFailedAt;
+    @Column(columnDefinition = "TEXT")
+    private String lastError;
+    private Integer attempts;
+    @Column(name = "created_at")
+    private Instant createdAt;
+    @Column(name = "failed_at")
+    private Instant failedAt;
+    @Column(name = "dispatched_at")
+    private Instant dispatchedAt;
+
+    public DeadLetterEventEntity() {}
+
+    public DeadLetterEventEntity(String id, String eventType, UUID entityId, String payload, String errorClass, String firstError, Instant firstFailedAt, String lastError, Integer attempts, Instant createdAt, Instant failedAt, Instant dispatchedAt) {
+        this.id = id;
+        this.eventType = eventType;
+        this.entityId = entityId;
+        this.payload = payload;
+        this.errorClass = errorClass;
+        this.firstError = firstError;
+        this.firstFailedAt = firstFailedAt;
+        this.lastError = lastError;
+        this.attempts = attempts;
+        this.createdAt = createdAt;
+        this.failedAt = failedAt;
+        this.dispatchedAt = dispatchedAt;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public UUID getEntityId() {
+        return entityId;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public String getErrorClass() {
+        return errorClass;
+    }
+
+    public String getFirstError() {
+        return firstError;
+    }
+
+    public Instant getFirstFailedAt() {
+        return firstFailedAt;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public Integer getAttempts() {
+        return attempts;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getFailedAt() {
+        return failedAt;
+    }
+
+    public Instant getDispatchedAt() {
+        return dispatchedAt;
+    }
+}
@@ -3,28 +3,56 @@ package com.acme.middleware.infrastructure.sync.entity;
 import java.time.Instant;
 import java.util.UUID;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 
 @Entity
-@Table(name = "events")
+@Table(name = "events", indexes = {
+        @Index(name = "idx_events_status_created_at", columnList = "status, created_at"),
+        @Index(name = "idx_events_status_next_attempt_at", columnList = "status, next_attempt_at"),
+        @Index(name = "idx_events_status_priority_created_at", columnList = "status, priority_rank, created_at")
+})
 public class EventEntity {
 
     @Id
     private String id;
     private String eventType;
     private UUID entityId;
+    @Column(columnDefinition = "TEXT")
     private String payload;
+    @Column(length = 32)
     private String status;
     private Integer retryCount;
+    @Column(name = "created_at")
     private Instant createdAt;
     private Instant processedAt;
+    @Column(columnDefinition = "TEXT")
     private String error;
+    @Column(name = "locked_until")
+    private Instant lockedUntil;
+    @Column(name = "next_attempt_at")
+    private Instant nextAttemptAt;
+    // Hash of the issue id; the event belongs to partition partition_hash % partitions
+    @Column(name = "partition_hash")
+    private Integer partitionHash;
+    // SyncPriority rank of the issue when the event was written
+    @Column(name = "priority_rank", columnDefinition = "SMALLINT")
+    private Integer priorityRank;
+
+    @Column(name = "dispatched_at")
+    private Instant dispatchedAt;
+    // Error and time of the first failed attempt; error holds the latest one
+    @Column(name = "first_error", columnDefinition = "TEXT")
+    private String firstError;
+    @Column(name = "first_failed_at")
+    private Instant firstFailedAt;
     
     public EventEntity() {}
 
-    public EventEntity(String id, String eventType, UUID entityId, String payload, String status, Integer retryCount, Instant createdAt, Instant processedAt, String error) {
+    public EventEntity(String id, String eventType, UUID entityId, String payload, String status, Integer retryCount, Instant createdAt, Instant processedAt, String error, Instant lockedUntil, Instant nextAttemptAt) {
         this.id = id;
         this.eventType = eventType;
         this.entityId = entityId;
@@ -34,6 +62,8 @@ public class EventEntity {
         this.createdAt = createdAt;
         this.processedAt = processedAt;
         this.error = error;
+        this.lockedUntil = lockedUntil;
+        this.nextAttemptAt = nextAttemptAt;
     }
 
     public String getId() {
@@ -108,5 +138,59 @@ public class EventEntity {
         this.error = error;
     }
 
-    
+    public Instant getLockedUntil() {
+        return lockedUntil;
+    }
+
+    public void setLockedUntil(Instant lockedUntil) {
+        this.lockedUntil = lockedUntil;
+    }
+
+    public Instant getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public void setNextAttemptAt(Instant nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public Integer getPartitionHash() {
+        return partitionHash;
+    }
+
+    public void setPartitionHash(Integer partitionHash) {
+        this.partitionHash = partitionHash;
+    }
+
+    public Integer getPriorityRank() {
+        return priorityRank;
+    }
+
+    public void setPriorityRank(Integer priorityRank) {
+        this.priorityRank = priorityRank;
+    }
+
+    public Instant getDispatchedAt() {
+        return dispatchedAt;
+    }
+
+    public void setDispatchedAt(Instant dispatchedAt) {
+        this.dispatchedAt = dispatchedAt;
+    }
+
+    public String getFirstError() {
+        return firstError;
+    }
+
+    public void setFirstError(String firstError) {
+        this.firstError = firstError;
+    }
+
+    public Instant getFirstFailedAt() {
+        return firstFailedAt;
+    }
+
+    public void setFirstFailedAt(Instant firstFailedAt) {
+        this.firstFailedAt = firstFailedAt;
+    }
 }
@@ -0,0 +1,83 @@
+package com.acme.middleware.infrastructure.sync.entity;
+
+import java.time.Instant;
+
+import com.acme.middleware.domain.model.SyncCheckpoint;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Stored progress of a sync from Jira.
+ */
+@Entity
+@Table(name = "sync_checkpoints")
+public class SyncCheckpointEntity {
+
+    @Id
+    @Column(length = 64)
+    private String name;
+    private Instant watermark;
+    @Column(name = "cursor_value")
+    private String cursor;
+    @Column(nullable = false)
+    private long processed;
+    private Long total;
+    @Enumerated(EnumType.STRING)
+    @Column(length = 16)
+    private SyncCheckpoint.State state;
+    @Column(name = "started_at")
+    private Instant startedAt;
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    public SyncCheckpointEntity() {}
+
+    public SyncCheckpointEntity(String name, Instant watermark, String cursor, long processed, Long total,
+                                SyncCheckpoint.State state, Instant startedAt, Instant updatedAt) {
+        this.name = name;
+        this.watermark = watermark;
+        this.cursor = cursor;
+        this.processed = processed;
+        this.total = total;
+        this.state = state;
+        this.startedAt = startedAt;
+        this.updatedAt = updatedAt;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Instant getWatermark() {
+        return watermark;
+    }
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    public long getProcessed() {
+        return processed;
+    }
+
+    public Long getTotal() {
+        return total;
+    }
+
+    public SyncCheckpoint.State getState() {
+        return state;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+}
@@ -0,0 +1,37 @@
+package com.acme.middleware.infrastructure.sync.entity;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Sync node membership; a node counts as alive while its heartbeat is younger than the lease TTL.
+ */
+@Entity
+@Table(name = "sync_nodes")
+public class SyncNodeEntity {
+
+    @Id
+    @Column(name = "node_id", length = 128)
+    private String nodeId;
+    @Column(name = "heartbeat_at")
+    private Instant heartbeatAt;
+
+    public SyncNodeEntity() {}
+
+    public SyncNodeEntity(String nodeId, Instant heartbeatAt) {
+        this.nodeId = nodeId;
+        this.heartbeatAt = heartbeatAt;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public Instant getHeartbeatAt() {
+        return heartbeatAt;
+    }
+}
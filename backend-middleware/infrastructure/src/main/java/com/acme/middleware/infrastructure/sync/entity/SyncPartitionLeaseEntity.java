@@ -0,0 +1,43 @@
+package com.acme.middleware.infrastructure.sync.entity;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Lease of one outbox hash partition. A partition with no owner, or whose lease ran out, can be
+ * taken by any node.
+ */
+@Entity
+@Table(name = "sync_partition_leases")
+public class SyncPartitionLeaseEntity {
+
+    @Id
+    @Column(name = "partition_no")
+    private Integer partitionNo;
+    @Column(length = 128)
+    private String owner;
+    @Column(name = "lease_until")
+    private Instant leaseUntil;
+
+    public SyncPartitionLeaseEntity() {}
+
+    public SyncPartitionLeaseEntity(Integer partitionNo) {
+        this.partitionNo = partitionNo;
+    }
+
+    public Integer getPartitionNo() {
+        return partitionNo;
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    public Instant getLeaseUntil() {
+        return leaseUntil;
+    }
+}
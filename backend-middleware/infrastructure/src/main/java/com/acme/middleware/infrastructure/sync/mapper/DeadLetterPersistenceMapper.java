@@ -0,0 +1,58 @@
+package com.acme.middleware.infrastructure.sync.mapper;
+
+import org.springframework.stereotype.Component;
+
+import com.acme.middleware.domain.model.DeadLetterEvent;
+import com.acme.middleware.domain.model.IssueId;
+import com.acme.middleware.infrastructure.sync.codec.EventPayloadCodec;
+import com.acme.middleware.infrastructure.sync.entity.DeadLetterEventEntity;
+
+@Component
+public class DeadLetterPersistenceMapper {
+
+    private final EventPayloadCodec payloadCodec;
+
+    public DeadLetterPersistenceMapper(EventPayloadCodec payloadCodec) {
+        this.payloadCodec = payloadCodec;
+    }
+
+    public DeadLetterEventEntity toEntity(DeadLetterEvent deadLetter) {
+        if (deadLetter == null) {
+            return null;
+        }
+        return new DeadLetterEventEntity(
+                deadLetter.getId(),
+                deadLetter.getEventType(),
+                deadLetter.getEntityId().getValue(),
+                payloadCodec.encode(deadLetter.getPayload()),
+                deadLetter.getErrorClass(),
+                deadLetter.getFirstError(),
+                deadLetter.getFirstFailedAt(),
+                deadLetter.getLastError(),
+                deadLetter.getAttempts(),
+                deadLetter.getCreatedAt(),
+                deadLetter.getFailedAt(),
+                deadLetter.getDispatchedAt()
+        );
+    }
+
+    public DeadLetterEvent toDomain(DeadLetterEventEntity entity) {
+        if (entity == null) {
+            return null;
+        }
+        return DeadLetterEvent.restore(
+                entity.getId(),
+                entity.getEventType(),
+                IssueId.of(entity.getEntityId()),
+                payloadCodec.decode(entity.getPayload()),
+                entity.getErrorClass(),
+                entity.getFirstError(),
+                entity.getFirstFailedAt(),
+                entity.getLastError(),
+                entity.getAttempts() != null ? entity.getAttempts() : 0,
+                entity.getCreatedAt(),
+                entity.getFailedAt(),
+                entity.getDispatchedAt()
+        );
+    }
+}
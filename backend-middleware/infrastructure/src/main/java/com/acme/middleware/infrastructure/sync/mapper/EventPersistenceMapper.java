@@ -1,10 +1,15 @@
 package com.acme.middleware.infrastructure.sync.mapper;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Component;
 
+import com.acme.middleware.infrastructure.sync.SyncPriority;
+import com.acme.middleware.infrastructure.sync.cluster.SyncPartitionManager;
+import com.acme.middleware.infrastructure.sync.codec.EventPayloadCodec;
+import com.acme.middleware.infrastructure.sync.entity.ArchivedEventEntity;
 import com.acme.middleware.infrastructure.sync.entity.EventEntity;
 import com.acme.middleware.domain.model.Event;
 import com.acme.middleware.domain.model.IssueId;
@@ -12,6 +17,12 @@ import com.acme.middleware.domain.model.IssueId;
 @Component
 public class EventPersistenceMapper {
 
+    private final EventPayloadCodec payloadCodec;
+
+    public EventPersistenceMapper(EventPayloadCodec payloadCodec) {
+        this.payloadCodec = payloadCodec;
+    }
+
       public EventEntity toEntity(Event event) {
         if (event == null) {
             return null;
@@ -20,13 +31,20 @@ public class EventPersistenceMapper {
                 event.getId(),
                 event.getEventType(),
                 event.getEntityId().getValue(),
-                event.getPayload(),
+                payloadCodec.encode(event.getPayload()),
                 event.getStatus(),
                 event.getRetryCount(),
                 event.getCreatedAt(),
                 event.getProcessedAt(),
-                event.getError()
+                event.getError(),
+                event.getLockedUntil(),
+                event.getNextAttemptAt()
         );
+        entity.setPartitionHash(SyncPartitionManager.partitionHash(event.getEntityId().getValue()));
+        entity.setPriorityRank(SyncPriority.of(event.getPayload() != null ? event.getPayload().priority() : null).rank());
+        entity.setDispatchedAt(event.getDispatchedAt());
+        entity.setFirstError(event.getFirstError());
+        entity.setFirstFailedAt(event.getFirstFailedAt());
         return entity;
     }
 
@@ -34,17 +52,26 @@ public class EventPersistenceMapper {
         if (entity == null) {
             return null;
         }
-        return Event.restore(
+        Event event = Event.restore(
                 entity.getId(),
                 entity.getEventType(),
                 IssueId.of(entity.getEntityId()),
-                entity.getPayload(),
+                payloadCodec.decode(entity.getPayload()),
                 entity.getStatus(),
                 entity.getRetryCount(),
                 entity.getCreatedAt(),
                 entity.getProcessedAt(),
-                entity.getError()
+                entity.getError(),
+                entity.getLockedUntil(),
+                entity.getNextAttemptAt()
         );
+        if (entity.getDispatchedAt() != null) {
+            event.markDispatched(entity.getDispatchedAt());
+        }
+        if (entity.getFirstFailedAt() != null) {
+            event.restoreFirstFailure(entity.getFirstError(), entity.getFirstFailedAt());
+        }
+        return event;
     }
 
     public List<Event> toDomain(List<EventEntity> entities) {
@@ -56,6 +83,21 @@ public class EventPersistenceMapper {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Archive row for a processed event; attempts include the one that went through.
+     */
+    public ArchivedEventEntity toArchive(Event event, Instant processedAt) {
+        return new ArchivedEventEntity(
+                event.getId(),
+                event.getEventType(),
+                event.getEntityId().getValue(),
+                payloadCodec.encode(event.getPayload()),
+                event.attempts() + 1,
+                event.getCreatedAt(),
+                processedAt
+        );
+    }
+
     public EventEntity toPersistence(Event event) {
         return toEntity(event);
     }
@@ -0,0 +1,124 @@
+package com.acme.middleware.infrastructure.sync.metrics;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.acme.middleware.domain.model.Event;
+import com.acme.middleware.domain.model.EventConstants;
+import com.acme.middleware.infrastructure.sync.SyncPriority;
+import com.acme.middleware.infrastructure.sync.repository.SpringDataEventJpaRepository;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Outbox backlog per priority class, tagged {@code priority}:
+ * <ul>
+ *   <li>{@code sync.outbox.depth}: pending events</li>
+ *   <li>{@code sync.outbox.oldest.age}: seconds the oldest pending event has been waiting</li>
+ *   <li>{@code sync.outbox.wait}: time from enqueue to claim of each claimed event</li>
+ * </ul>
+ * The gauges read a snapshot refreshed by one grouped query every few seconds, so scrapes
+ * never hit the database.
+ */
+@Component
+public class OutboxMetrics {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxMetrics.class);
+
+    private final SpringDataEventJpaRepository eventJpaRepository;
+    private final Map<SyncPriority, AtomicLong> depth = new EnumMap<>(SyncPriority.class);
+    private final Map<SyncPriority, AtomicLong> oldestCreatedAt = new EnumMap<>(SyncPriority.class);
+    private final Map<SyncPriority, Timer> claimWait = new EnumMap<>(SyncPriority.class);
+    // Bumped on every successful refresh
+    private final AtomicLong snapshotVersion = new AtomicLong();
+
+    public OutboxMetrics(MeterRegistry meterRegistry, SpringDataEventJpaRepository eventJpaRepository) {
+        this.eventJpaRepository = eventJpaRepository;
+        for (SyncPriority priority : SyncPriority.values()) {
+            AtomicLong pending = new AtomicLong();
+            // Epoch millis of the oldest pending event, 0 while the class is empty
+            AtomicLong oldest = new AtomicLong();
+            depth.put(priority, pending);
+            oldestCreatedAt.put(priority, oldest);
+            Gauge.builder("sync.outbox.depth", pending, AtomicLong::get)
+                    .description("Pending outbox events")
+                    .tag("priority", priority.name())
+                    .register(meterRegistry);
+            Gauge.builder("sync.outbox.oldest.age", oldest, OutboxMetrics::ageSeconds)
+                    .description("Age of the oldest pending outbox event")
+                    .baseUnit("seconds")
+                    .tag("priority", priority.name())
+                    .register(meterRegistry);
+            claimWait.put(priority, Timer.builder("sync.outbox.wait")
+                    .description("Time from enqueue to claim of an outbox event")
+                    .tag("priority", priority.name())
+                    .register(meterRegistry));
+        }
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelay = 15, timeUnit = TimeUnit.SECONDS)
+    public void refresh() {
+        List<SpringDataEventJpaRepository.PriorityBacklog> backlog;
+        try {
+            backlog = eventJpaRepository.pendingBacklog(EventConstants.STATUS_PENDING);
+        } catch (DataAccessException e) {
+            log.debug("Could not read outbox backlog: {}", e.getMessage());
+            return;
+        }
+        Map<SyncPriority, Long> pending = new EnumMap<>(SyncPriority.class);
+        Map<SyncPriority, Long> oldest = new EnumMap<>(SyncPriority.class);
+        for (SpringDataEventJpaRepository.PriorityBacklog row : backlog) {
+            SyncPriority priority = SyncPriority.ofRank(row.getPriorityRank());
+            pending.merge(priority, row.getDepth(), Long::sum);
+            if (row.getOldestCreatedAt() != null) {
+                oldest.merge(priority, row.getOldestCreatedAt().toEpochMilli(), Math::min);
+            }
+        }
+        for (SyncPriority priority : SyncPriority.values()) {
+            depth.get(priority).set(pending.getOrDefault(priority, 0L));
+            oldestCreatedAt.get(priority).set(oldest.getOrDefault(priority, 0L));
+        }
+        snapshotVersion.incrementAndGet();
+    }
+
+    /**
+     * Pending events of all classes as of the last refresh.
+     */
+    public long pendingEvents() {
+        return depth.values().stream().mapToLong(AtomicLong::get).sum();
+    }
+
+    public long snapshotVersion() {
+        return snapshotVersion.get();
+    }
+
+    public void recordClaimed(List<Event> events) {
+        Instant now = Instant.now();
+        for (Event event : events) {
+            if (event.getCreatedAt() == null) {
+                continue;
+            }
+            SyncPriority priority = SyncPriority.of(event.getPayload() != null ? event.getPayload().priority() : null);
+            Duration wait = Duration.between(event.getCreatedAt(), now);
+            claimWait.get(priority).record(wait.isNegative() ? Duration.ZERO : wait);
+        }
+    }
+
+    private static double ageSeconds(AtomicLong oldestCreatedAt) {
+        long oldest = oldestCreatedAt.get();
+        return oldest == 0 ? 0 : Math.max(0, System.currentTimeMillis() - oldest) / 1000.0;
+    }
+}
@@ -0,0 +1,122 @@
+package com.acme.middleware.infrastructure.sync.notify;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import com.acme.middleware.infrastructure.sync.config.SyncProperties;
+
+/**
+ * Keeps a dedicated (non-pooled) connection in {@code LISTEN} on the outbox channel and rings
+ * {@link OutboxWakeup} for every notification. On databases without LISTEN/NOTIFY the listener
+ * stays idle and the dispatcher falls back to adaptive polling.
+ */
+@Component
+public class OutboxNotificationListener implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxNotificationListener.class);
+
+    private static final int POLL_TIMEOUT_MILLIS = 1000;
+    private static final long RECONNECT_DELAY_MILLIS = 5000;
+
+    private final DataSourceProperties dataSourceProperties;
+    private final OutboxWakeup wakeup;
+    private final SyncProperties syncProperties;
+
+    private volatile boolean running;
+    private volatile boolean listening;
+    private Thread listenerThread;
+
+    public OutboxNotificationListener(DataSourceProperties dataSourceProperties, OutboxWakeup wakeup, SyncProperties syncProperties) {
+        this.dataSourceProperties = dataSourceProperties;
+        this.wakeup = wakeup;
+        this.syncProperties = syncProperties;
+    }
+
+    /**
+     * @return true while notifications are being received, i.e. polling can be relaxed
+     */
+    public boolean isListening() {
+        return listening;
+    }
+
+    @Override
+    public void start() {
+        String url = dataSourceProperties.determineUrl();
+        if (url == null || !url.startsWith("jdbc:postgresql:")) {
+            log.info("Outbox notifications unavailable for {}; using adaptive polling", url);
+            return;
+        }
+        running = true;
+        listenerThread = Thread.ofPlatform().name("outbox-listener").daemon(true).start(this::listenLoop);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listenLoop() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(
+                    dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(),
+                    dataSourceProperties.determinePassword())) {
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + syncProperties.notifyChannel());
+                }
+                listening = true;
+                log.info("Listening for outbox notifications on channel {}", syncProperties.notifyChannel());
+
+                // Catch up on anything enqueued while we were not listening
+                wakeup.signal();
+
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MILLIS);
+                    if (notifications != null && notifications.length > 0) {
+                        wakeup.signal();
+                    }
+                }
+            } catch (SQLException e) {
+                if (running) {
+                    log.warn("Outbox listener connection lost, reconnecting in {} ms: {}", RECONNECT_DELAY_MILLIS, e.getMessage());
+                }
+            } finally {
+                listening = false;
+            }
+
+            if (running && !sleepBeforeReconnect()) {
+                return;
+            }
+        }
+    }
+
+    private boolean sleepBeforeReconnect() {
+        try {
+            Thread.sleep(RECONNECT_DELAY_MILLIS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.acme.middleware.infrastructure.sync.notify;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.acme.middleware.infrastructure.sync.config.SyncProperties;
+
+/**
+ * Announces newly enqueued outbox events. On Postgres a {@code pg_notify} is issued inside the
+ * producer's transaction, so every listening node is woken exactly when the row becomes visible.
+ * The local dispatcher is always woken after commit, which also covers databases without
+ * notification support.
+ */
+@Component
+public class OutboxNotifier {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final OutboxWakeup wakeup;
+    private final SyncProperties syncProperties;
+    private final boolean postgres;
+
+    public OutboxNotifier(JdbcTemplate jdbcTemplate, OutboxWakeup wakeup, SyncProperties syncProperties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.wakeup = wakeup;
+        this.syncProperties = syncProperties;
+        this.postgres = Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName())));
+    }
+
+    public void eventEnqueued() {
+        if (postgres) {
+            // Postgres holds the notification until the surrounding transaction commits
+            jdbcTemplate.query("SELECT pg_notify(?, '')", (RowCallbackHandler) rs -> { }, syncProperties.notifyChannel());
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    wakeup.signal();
+                }
+            });
+        } else {
+            wakeup.signal();
+        }
+    }
+}
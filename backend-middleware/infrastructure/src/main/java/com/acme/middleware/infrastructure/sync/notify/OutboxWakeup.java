@@ -0,0 +1,34 @@
+package com.acme.middleware.infrastructure.sync.notify;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory doorbell between outbox producers / the notification listener and the sync
+ * dispatcher. Multiple signals while the dispatcher is busy collapse into one wakeup.
+ */
+@Component
+public class OutboxWakeup {
+
+    private final Semaphore doorbell = new Semaphore(0);
+
+    public void signal() {
+        if (doorbell.availablePermits() == 0) {
+            doorbell.release();
+        }
+    }
+
+    /**
+     * Blocks until signalled or until the timeout elapses.
+     *
+     * @return true when woken by a signal, false on timeout
+     */
+    public boolean await(Duration timeout) throws InterruptedException {
+        boolean signalled = doorbell.tryAcquire(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        doorbell.drainPermits();
+        return signalled;
+    }
+}
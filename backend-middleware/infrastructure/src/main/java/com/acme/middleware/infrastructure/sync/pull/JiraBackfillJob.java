@@ -0,0 +1,63 @@
+package com.acme.middleware.infrastructure.sync.pull;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.acme.middleware.application.dto.BackfillProgress;
+import com.acme.middleware.application.service.jira.JiraBackfillService;
+import com.acme.middleware.infrastructure.jira.client.JiraCircuitBreaker;
+import com.acme.middleware.infrastructure.sync.cluster.SyncPartitionManager;
+
+/**
+ * Picks up a requested or interrupted Jira backfill. Like the incremental pull it only runs on
+ * the node leasing outbox partition 0, and it stops between pages once that lease moves, so the
+ * new holder resumes it. A run takes far longer than a scheduler tick and gets its own thread.
+ */
+@Component
+public class JiraBackfillJob {
+
+    private static final Logger log = LoggerFactory.getLogger(JiraBackfillJob.class);
+
+    private final JiraBackfillService backfillService;
+    private final SyncPartitionManager partitionManager;
+    private final JiraCircuitBreaker circuitBreaker;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public JiraBackfillJob(JiraBackfillService backfillService, SyncPartitionManager partitionManager,
+                           JiraCircuitBreaker circuitBreaker) {
+        this.backfillService = backfillService;
+        this.partitionManager = partitionManager;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    @Scheduled(initialDelay = 30, fixedDelay = 30, timeUnit = TimeUnit.SECONDS)
+    public void poll() {
+        if (!isLeader() || !circuitBreaker.remainingOpen().isZero()) {
+            return;
+        }
+        boolean pending = backfillService.progress().map(BackfillProgress::isActive).orElse(false);
+        if (pending && running.compareAndSet(false, true)) {
+            Thread.ofVirtual().name("jira-backfill").start(this::run);
+        }
+    }
+
+    private void run() {
+        try {
+            backfillService.run(this::isLeader);
+        } catch (RuntimeException e) {
+            // The checkpoint still points at the last page written; the next poll resumes there
+            log.warn("Jira backfill interrupted, resuming on the next poll: {}", e.getMessage());
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private boolean isLeader() {
+        return partitionManager.ownedPartitions().contains(0);
+    }
+}
@@ -0,0 +1,53 @@
+package com.acme.middleware.infrastructure.sync.pull;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.acme.middleware.application.service.jira.JiraPullSyncService;
+import com.acme.middleware.infrastructure.jira.client.JiraCircuitBreaker;
+import com.acme.middleware.infrastructure.sync.cluster.SyncPartitionManager;
+import com.acme.middleware.infrastructure.sync.config.SyncProperties;
+
+/**
+ * Runs the incremental Jira pull on a fixed delay. Only the node currently leasing outbox
+ * partition 0 pulls, so replicas do not read the same changes; a handover may let two nodes
+ * overlap for one round, which the idempotent upsert absorbs. Rounds are skipped while the
+ * Jira circuit breaker is open.
+ */
+@Component
+public class JiraPullSyncJob {
+
+    private static final Logger log = LoggerFactory.getLogger(JiraPullSyncJob.class);
+
+    private final JiraPullSyncService pullSyncService;
+    private final SyncPartitionManager partitionManager;
+    private final JiraCircuitBreaker circuitBreaker;
+    private final SyncProperties.Pull pull;
+
+    public JiraPullSyncJob(JiraPullSyncService pullSyncService, SyncPartitionManager partitionManager,
+                           JiraCircuitBreaker circuitBreaker, SyncProperties syncProperties) {
+        this.pullSyncService = pullSyncService;
+        this.partitionManager = partitionManager;
+        this.circuitBreaker = circuitBreaker;
+        this.pull = syncProperties.pull();
+    }
+
+    @Scheduled(initialDelayString = "${sync.pull.interval:5m}", fixedDelayString = "${sync.pull.interval:5m}")
+    public void pull() {
+        if (!pull.enabled() || !partitionManager.ownedPartitions().contains(0)) {
+            return;
+        }
+        if (!circuitBreaker.remainingOpen().isZero()) {
+            log.debug("Jira circuit is open, skipping the pull");
+            return;
+        }
+        try {
+            pullSyncService.pull();
+        } catch (RuntimeException e) {
+            // The watermark did not move, so the next round covers this one's window again
+            log.warn("Jira pull failed, retrying next round: {}", e.getMessage());
+        }
+    }
+}
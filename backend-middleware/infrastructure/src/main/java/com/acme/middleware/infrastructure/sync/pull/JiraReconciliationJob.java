@@ -0,0 +1,72 @@
+package com.acme.middleware.infrastructure.sync.pull;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.acme.middleware.application.dto.ReconciliationReport;
+import com.acme.middleware.application.service.jira.JiraReconciliationService;
+import com.acme.middleware.infrastructure.jira.client.JiraCircuitBreaker;
+import com.acme.middleware.infrastructure.sync.cluster.SyncPartitionManager;
+import com.acme.middleware.infrastructure.sync.config.SyncProperties;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Compares the local issues with Jira on a fixed delay, on the node leasing outbox partition 0
+ * like the pull. The drift found by the last run is published as {@code jira.reconciliation.drift}.
+ */
+@Component
+public class JiraReconciliationJob {
+
+    private static final Logger log = LoggerFactory.getLogger(JiraReconciliationJob.class);
+
+    private final JiraReconciliationService reconciliationService;
+    private final SyncPartitionManager partitionManager;
+    private final JiraCircuitBreaker circuitBreaker;
+    private final SyncProperties.Reconciliation reconciliation;
+    private final AtomicInteger missingLocally = new AtomicInteger();
+    private final AtomicInteger missingInJira = new AtomicInteger();
+    private final AtomicInteger differing = new AtomicInteger();
+
+    public JiraReconciliationJob(JiraReconciliationService reconciliationService, SyncPartitionManager partitionManager,
+                                 JiraCircuitBreaker circuitBreaker, SyncProperties syncProperties, MeterRegistry meterRegistry) {
+        this.reconciliationService = reconciliationService;
+        this.partitionManager = partitionManager;
+        this.circuitBreaker = circuitBreaker;
+        this.reconciliation = syncProperties.reconciliation();
+        registerDrift(meterRegistry, "missing_locally", missingLocally);
+        registerDrift(meterRegistry, "missing_in_jira", missingInJira);
+        registerDrift(meterRegistry, "differing", differing);
+    }
+
+    private static void registerDrift(MeterRegistry meterRegistry, String kind, AtomicInteger value) {
+        Gauge.builder("jira.reconciliation.drift", value, AtomicInteger::get)
+                .description("Issues that differed between the local table and Jira in the last reconciliation")
+                .tag("kind", kind)
+                .register(meterRegistry);
+    }
+
+    @Scheduled(initialDelayString = "${sync.reconciliation.interval:6h}", fixedDelayString = "${sync.reconciliation.interval:6h}")
+    public void reconcile() {
+        if (!reconciliation.enabled() || !partitionManager.ownedPartitions().contains(0)) {
+            return;
+        }
+        if (!circuitBreaker.remainingOpen().isZero()) {
+            log.debug("Jira circuit is open, skipping the reconciliation");
+            return;
+        }
+        try {
+            ReconciliationReport report = reconciliationService.reconcile();
+            missingLocally.set(report.missingLocally());
+            missingInJira.set(report.missingInJira());
+            differing.set(report.differing());
+        } catch (RuntimeException e) {
+            log.warn("Jira reconciliation failed, retrying next round: {}", e.getMessage());
+        }
+    }
+}
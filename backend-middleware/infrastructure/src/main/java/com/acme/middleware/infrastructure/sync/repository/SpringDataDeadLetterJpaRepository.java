@@ -0,0 +1,19 @@
+package com.acme.middleware.infrastructure.sync.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.acme.middleware.infrastructure.sync.entity.DeadLetterEventEntity;
+
+@Repository
+public interface SpringDataDeadLetterJpaRepository extends JpaRepository<DeadLetterEventEntity, String> {
+
+    List<DeadLetterEventEntity> findByErrorClassOrderByFailedAtAsc(String errorClass, Pageable pageable);
+
+    List<DeadLetterEventEntity> findAllByOrderByFailedAtAsc(Pageable pageable);
+
+    long countByErrorClass(String errorClass);
+}
@@ -1,11 +1,74 @@
 package com.acme.middleware.infrastructure.sync.repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.acme.middleware.infrastructure.sync.entity.EventEntity;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface SpringDataEventJpaRepository extends JpaRepository<EventEntity, String> {
-        
+
+    /**
+     * Locks the oldest claimable events of the given partitions: pending ones that are due (not
+     * backing off after a failure) plus processing ones whose lease ran out. Rows written before
+     * partitioning have no hash and go to whichever node owns partition 0. Restricted to one
+     * priority class unless {@code anyPriority} is set, in which case higher classes come first.
+     * A lock timeout of -2 is Hibernate's SKIP_LOCKED, so rows already locked by another poller
+     * are skipped instead of waited on.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT e FROM EventEntity e "
+            + "WHERE ((e.status = :pending AND (e.nextAttemptAt IS NULL OR e.nextAttemptAt <= :now)) "
+            + "OR (e.status = :processing AND e.lockedUntil < :now)) "
+            + "AND (MOD(e.partitionHash, :partitionCount) IN :partitions "
+            + "OR (:includeUnpartitioned = true AND e.partitionHash IS NULL)) "
+            + "AND (:anyPriority = true OR e.priorityRank = :priorityRank) "
+            + "ORDER BY e.priorityRank ASC, e.createdAt ASC")
+    List<EventEntity> lockClaimable(@Param("pending") String pending,
+                                    @Param("processing") String processing,
+                                    @Param("now") Instant now,
+                                    @Param("partitionCount") int partitionCount,
+                                    @Param("partitions") Collection<Integer> partitions,
+                                    @Param("includeUnpartitioned") boolean includeUnpartitioned,
+                                    @Param("anyPriority") boolean anyPriority,
+                                    @Param("priorityRank") int priorityRank,
+                                    Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE EventEntity e SET e.lockedUntil = :lockedUntil WHERE e.id IN :ids AND e.status = :processing")
+    int extendLease(@Param("ids") Collection<String> ids, @Param("processing") String processing,
+                    @Param("lockedUntil") Instant lockedUntil);
+
+    @Modifying
+    @Query("UPDATE EventEntity e SET e.dispatchedAt = :dispatchedAt WHERE e.id IN :ids")
+    int markDispatched(@Param("ids") Collection<String> ids, @Param("dispatchedAt") Instant dispatchedAt);
+
+    /**
+     * Pending events per priority class with the creation time of the oldest one.
+     */
+    @Query("SELECT e.priorityRank AS priorityRank, COUNT(e) AS depth, MIN(e.createdAt) AS oldestCreatedAt "
+            + "FROM EventEntity e WHERE e.status = :pending GROUP BY e.priorityRank")
+    List<PriorityBacklog> pendingBacklog(@Param("pending") String pending);
+
+    interface PriorityBacklog {
+        Integer getPriorityRank();
+
+        long getDepth();
+
+        Instant getOldestCreatedAt();
+    }
 }
@@ -0,0 +1,46 @@
+package com.acme.middleware.infrastructure.sync.repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.acme.middleware.infrastructure.sync.entity.SyncPartitionLeaseEntity;
+
+/**
+ * Lease changes are single conditional UPDATEs, so two nodes racing for a partition are
+ * serialized by the row lock and exactly one sees an update count of 1.
+ */
+@Repository
+public interface SpringDataPartitionLeaseJpaRepository extends JpaRepository<SyncPartitionLeaseEntity, Integer> {
+
+    @Modifying
+    @Query("UPDATE SyncPartitionLeaseEntity l SET l.owner = :node, l.leaseUntil = :until "
+            + "WHERE l.partitionNo = :partition "
+            + "AND (l.owner IS NULL OR l.owner = :node OR l.leaseUntil < :now)")
+    int tryAcquire(@Param("partition") int partition,
+                   @Param("node") String node,
+                   @Param("until") Instant until,
+                   @Param("now") Instant now);
+
+    @Modifying
+    @Query("UPDATE SyncPartitionLeaseEntity l SET l.leaseUntil = :until "
+            + "WHERE l.owner = :node AND l.leaseUntil >= :now")
+    int renew(@Param("node") String node, @Param("until") Instant until, @Param("now") Instant now);
+
+    @Modifying
+    @Query("UPDATE SyncPartitionLeaseEntity l SET l.owner = NULL, l.leaseUntil = NULL "
+            + "WHERE l.owner = :node AND l.partitionNo IN :partitions")
+    int release(@Param("node") String node, @Param("partitions") Collection<Integer> partitions);
+
+    @Query("SELECT l.partitionNo FROM SyncPartitionLeaseEntity l WHERE l.owner = :node AND l.leaseUntil >= :now")
+    List<Integer> findOwned(@Param("node") String node, @Param("now") Instant now);
+
+    @Query("SELECT l.partitionNo FROM SyncPartitionLeaseEntity l WHERE l.owner IS NULL OR l.leaseUntil < :now")
+    List<Integer> findAvailable(@Param("now") Instant now);
+}
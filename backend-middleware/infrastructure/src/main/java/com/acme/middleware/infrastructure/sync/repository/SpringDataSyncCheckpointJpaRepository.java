@@ -0,0 +1,10 @@
+package com.acme.middleware.infrastructure.sync.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.acme.middleware.infrastructure.sync.entity.SyncCheckpointEntity;
+
+@Repository
+public interface SpringDataSyncCheckpointJpaRepository extends JpaRepository<SyncCheckpointEntity, String> {
+}
@@ -0,0 +1,22 @@
+package com.acme.middleware.infrastructure.sync.repository;
+
+import java.time.Instant;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.acme.middleware.infrastructure.sync.entity.SyncNodeEntity;
+
+@Repository
+public interface SpringDataSyncNodeJpaRepository extends JpaRepository<SyncNodeEntity, String> {
+
+    @Query("SELECT COUNT(n) FROM SyncNodeEntity n WHERE n.heartbeatAt >= :since")
+    long countAlive(@Param("since") Instant since);
+
+    @Modifying
+    @Query("DELETE FROM SyncNodeEntity n WHERE n.heartbeatAt < :before")
+    int deleteStale(@Param("before") Instant before);
+}
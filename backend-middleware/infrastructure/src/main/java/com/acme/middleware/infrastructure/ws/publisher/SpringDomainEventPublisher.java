@@ -9,6 +9,9 @@ import com.acme.middleware.infrastructure.ws.dto.WebSocketEventMessage;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Component;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 @Component
 public class SpringDomainEventPublisher implements DomainEventPublisher {
 
@@ -29,33 +32,27 @@ public class SpringDomainEventPublisher implements DomainEventPublisher {
             message = new WebSocketEventMessage("TASK_UPDATED", createTaskFromIssue(issueUpdated));
             messagingTemplate.convertAndSend("/topic/jira-events", message);
         } else if (event instanceof IssueDeleted issueDeleted) {
-            message = new WebSocketEventMessage("TASK_DELETED", issueDeleted.getIssue().getId().toString());
+            message = new WebSocketEventMessage("TASK_DELETED", issueDeleted.getIssueId().toString());
             messagingTemplate.convertAndSend("/topic/jira-events", message);
         }
     }
     
     /**
-     * Transform domain issue to frontend task format
+     * Transform domain event to frontend task format
      */
     private Object createTaskFromIssue(DomainEvent event) {
+        Map<String, Object> task = new LinkedHashMap<>();
         if (event instanceof IssueCreated created) {
-            return createTaskObject(created.getIssue());
+            task.put("id", created.getIssueId().toString());
+            task.put("title", created.getTitle());
+            task.put("description", created.getDescription());
         } else if (event instanceof IssueUpdated updated) {
-            return createTaskObject(updated.getIssue());
+            task.put("id", updated.getIssueId().toString());
+            task.put("title", updated.getTitle());
+            task.put("description", updated.getDescription());
+            task.put("status", updated.getStatus().toString());
         }
-        return null;
-    }
-    
-    private Object createTaskObject(com.acme.middleware.domain.model.Issue issue) {
-        return new Object() {
-            public final String id = issue.getId().toString();
-            public final String title = issue.getTitle();
-            public final String description = issue.getDescription();
-            public final String status = issue.getStatus().toString();
-            public final java.time.LocalDateTime createdAt = issue.getCreatedAt();
-            public final java.time.LocalDateTime updatedAt = issue.getUpdatedAt();
-            public final java.time.LocalDate dueDate = issue.getDueDate();
-            public final String priority = issue.getPriority();
-        };
+        task.put("updatedAt", event.getOccurredAt());
+        return task;
     }
-}
\ No newline at end of file
+}
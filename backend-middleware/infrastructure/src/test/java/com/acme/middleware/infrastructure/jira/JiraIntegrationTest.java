@@ -1,5 +1,6 @@
 package com.acme.middleware.infrastructure.jira;
 
+import com.acme.middleware.application.port.JiraIssuePort;
 import com.acme.middleware.application.service.jira.JiraIssueService;
 import com.acme.middleware.infrastructure.jira.dto.JiraCreateIssueRequest;
 import com.acme.middleware.infrastructure.jira.dto.JiraIssueFields;
@@ -8,15 +9,19 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
-@SpringBootTest
+// The application class lives in the bootstrap module, so only the service under test is loaded
+@SpringBootTest(classes = JiraIssueService.class)
 @ActiveProfiles("test")
 class JiraIntegrationTest {
 
     @Autowired
     private JiraIssueService jiraIssueService;
+    @MockitoBean
+    private JiraIssuePort jiraIssuePort;
     
     private final ObjectMapper objectMapper = new ObjectMapper();
 
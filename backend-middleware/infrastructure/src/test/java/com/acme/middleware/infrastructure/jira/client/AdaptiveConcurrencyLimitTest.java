@@ -0,0 +1,100 @@
+package com.acme.middleware.infrastructure.jira.client;
+
+import com.acme.middleware.infrastructure.jira.config.JiraProperties;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimitTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(
+            new JiraProperties.Concurrency(4, 1, 20, 2.0, 0.5), now::get);
+
+    @Test
+    void growsWhileSaturatedCallsStayFast() throws InterruptedException {
+        for (int round = 0; round < 10; round++) {
+            runRound(limit.limit(), Duration.ofMillis(100), false);
+        }
+
+        assertThat(limit.limit()).isGreaterThan(4);
+    }
+
+    @Test
+    void doesNotGrowWhenTheLimitIsNotUsed() throws InterruptedException {
+        for (int i = 0; i < 50; i++) {
+            runRound(1, Duration.ofMillis(100), false);
+        }
+
+        assertThat(limit.limit()).isEqualTo(4);
+    }
+
+    @Test
+    void dropsCutTheLimitOncePerRound() throws InterruptedException {
+        // Four calls of the same round all fail: one cut, not four
+        runRound(4, Duration.ofMillis(100), true);
+        assertThat(limit.limit()).isEqualTo(2);
+
+        runRound(2, Duration.ofMillis(100), true);
+        assertThat(limit.limit()).isEqualTo(1);
+    }
+
+    @Test
+    void latencySpikeCountsAsCongestion() throws InterruptedException {
+        for (int i = 0; i < 20; i++) {
+            runRound(1, Duration.ofMillis(100), false);
+        }
+
+        runRound(1, Duration.ofSeconds(2), false);
+
+        assertThat(limit.limit()).isEqualTo(2);
+    }
+
+    @Test
+    void largeBulkRequestsAreNotALatencySpike() throws InterruptedException {
+        for (int i = 0; i < 20; i++) {
+            runRound(1, Duration.ofMillis(100), false);
+        }
+
+        // 50 issues in 2s is 40ms per issue, faster than a single call
+        long startedAt = limit.acquire();
+        now.addAndGet(Duration.ofSeconds(2).toNanos());
+        limit.releaseBulk(startedAt, false, 50);
+
+        assertThat(limit.limit()).isEqualTo(4);
+    }
+
+    @Test
+    void callsRefusedLocallyLeaveTheLimitAlone() throws InterruptedException {
+        // Saturated rounds of fast calls would grow the limit if they counted
+        for (int round = 0; round < 10; round++) {
+            for (int i = 0; i < 4; i++) {
+                limit.acquire();
+            }
+            for (int i = 0; i < 4; i++) {
+                limit.releaseUnsampled();
+            }
+        }
+
+        assertThat(limit.limit()).isEqualTo(4);
+        assertThat(limit.inFlight()).isZero();
+    }
+
+    /**
+     * Starts {@code calls} calls together and finishes them after {@code latency}.
+     */
+    private void runRound(int calls, Duration latency, boolean dropped) throws InterruptedException {
+        List<Long> started = new ArrayList<>();
+        for (int i = 0; i < calls; i++) {
+            started.add(limit.acquire());
+        }
+        now.addAndGet(latency.toNanos());
+        started.forEach(startedAt -> limit.release(startedAt, dropped));
+        now.addAndGet(1);
+    }
+}
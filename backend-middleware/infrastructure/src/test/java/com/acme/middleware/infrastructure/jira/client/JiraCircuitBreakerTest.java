@@ -0,0 +1,132 @@
+package com.acme.middleware.infrastructure.jira.client;
+
+import com.acme.middleware.infrastructure.jira.config.JiraProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JiraCircuitBreakerTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final List<Object> events = new ArrayList<>();
+    private final JiraCircuitBreaker breaker = new JiraCircuitBreaker(
+            new JiraProperties.CircuitBreaker(50, 10, 4, Duration.ofSeconds(30), 2), now::get, events::add, new SimpleMeterRegistry());
+
+    @Test
+    void staysClosedBelowTheFailureRate() {
+        call(false);
+        call(true);
+        call(false);
+        call(false);
+        call(true);
+
+        assertThat(breaker.state()).isEqualTo(JiraCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void opensOnceEnoughCallsFailAndFailsFast() {
+        call(true);
+        call(true);
+        call(true);
+        assertThat(breaker.state()).isEqualTo(JiraCircuitBreaker.State.CLOSED);
+
+        call(true);
+
+        assertThat(breaker.state()).isEqualTo(JiraCircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire()).isEqualTo(JiraCircuitBreaker.DENIED);
+        assertThat(breaker.remainingOpen()).isEqualTo(Duration.ofSeconds(30));
+        assertThat(events).singleElement().satisfies(event -> {
+            assertThat(((JiraCircuitStateChangedEvent) event).from()).isEqualTo(JiraCircuitBreaker.State.CLOSED);
+            assertThat(((JiraCircuitStateChangedEvent) event).to()).isEqualTo(JiraCircuitBreaker.State.OPEN);
+        });
+    }
+
+    @Test
+    void closesAfterSuccessfulProbes() {
+        trip();
+        now.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        long first = breaker.tryAcquire();
+        long second = breaker.tryAcquire();
+        assertThat(breaker.state()).isEqualTo(JiraCircuitBreaker.State.HALF_OPEN);
+        // Only the probes get through
+        assertThat(breaker.tryAcquire()).isEqualTo(JiraCircuitBreaker.DENIED);
+
+        breaker.onResult(first, false);
+        breaker.onResult(second, false);
+
+        assertThat(breaker.state()).isEqualTo(JiraCircuitBreaker.State.CLOSED);
+        assertThat(events).extracting(event -> ((JiraCircuitStateChangedEvent) event).to()).containsExactly(
+                JiraCircuitBreaker.State.OPEN, JiraCircuitBreaker.State.HALF_OPEN, JiraCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void failedProbeReopens() {
+        trip();
+        now.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        breaker.onResult(breaker.tryAcquire(), true);
+
+        assertThat(breaker.state()).isEqualTo(JiraCircuitBreaker.State.OPEN);
+        assertThat(breaker.remainingOpen()).isEqualTo(Duration.ofSeconds(30));
+    }
+
+    @Test
+    void lateOutcomeOfAnEarlierCallDoesNotCountAsAProbe() {
+        long slow = breaker.tryAcquire();
+        trip();
+        now.addAndGet(Duration.ofSeconds(30).toNanos());
+        long probe = breaker.tryAcquire();
+
+        breaker.onResult(slow, true);
+
+        assertThat(breaker.state()).isEqualTo(JiraCircuitBreaker.State.HALF_OPEN);
+        breaker.onResult(probe, false);
+        breaker.onResult(breaker.tryAcquire(), false);
+        assertThat(breaker.state()).isEqualTo(JiraCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void releasedProbeIsNeitherASuccessNorLost() {
+        trip();
+        now.addAndGet(Duration.ofSeconds(30).toNanos());
+        long first = breaker.tryAcquire();
+        long second = breaker.tryAcquire();
+
+        // Both calls were turned away locally before reaching Jira
+        breaker.release(first);
+        breaker.release(second);
+
+        assertThat(breaker.state()).isEqualTo(JiraCircuitBreaker.State.HALF_OPEN);
+        breaker.onResult(breaker.tryAcquire(), false);
+        breaker.onResult(breaker.tryAcquire(), false);
+        assertThat(breaker.state()).isEqualTo(JiraCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void releasedCallsDoNotDiluteTheFailureRate() {
+        for (int i = 0; i < 10; i++) {
+            breaker.release(breaker.tryAcquire());
+        }
+
+        trip();
+
+        assertThat(breaker.state()).isEqualTo(JiraCircuitBreaker.State.OPEN);
+    }
+
+    private void trip() {
+        for (int i = 0; i < 4; i++) {
+            call(true);
+        }
+    }
+
+    private void call(boolean failed) {
+        breaker.onResult(breaker.tryAcquire(), failed);
+    }
+}
@@ -0,0 +1,84 @@
+package com.acme.middleware.infrastructure.jira.client;
+
+import com.acme.middleware.infrastructure.jira.config.JiraProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class JiraRateLimiterTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final JiraRateLimiter limiter = new JiraRateLimiter(
+            new JiraProperties.RateLimit(10, 1, 2, 3, Duration.ofSeconds(10)), now::get, meterRegistry);
+
+    @Test
+    void burstThenRefillAtTheConfiguredRate() {
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+
+        advance(Duration.ofMillis(100));
+
+        assertThat(limiter.reserve()).isZero();
+    }
+
+    @Test
+    void throttlingPausesEveryoneAndHalvesTheRate() {
+        limiter.onThrottled(Duration.ofSeconds(5));
+
+        assertThat(limiter.reserve()).isEqualTo(TimeUnit.SECONDS.toNanos(5));
+        assertThat(limiter.currentRate()).isEqualTo(5.0);
+        assertThat(meterRegistry.get("jira.ratelimit.throttled").counter().count()).isEqualTo(1.0);
+
+        // No tokens accrue during the pause
+        advance(Duration.ofSeconds(5));
+        assertThat(limiter.reserve()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(200));
+        advance(Duration.ofMillis(200));
+        assertThat(limiter.reserve()).isZero();
+    }
+
+    @Test
+    void rateRecoversWithCleanResponsesButNotBeyondTheMaximum() {
+        limiter.onThrottled(Duration.ZERO);
+        limiter.onThrottled(Duration.ZERO);
+        limiter.onThrottled(Duration.ZERO);
+        limiter.onThrottled(Duration.ZERO);
+        assertThat(limiter.currentRate()).isEqualTo(1.0);
+
+        for (int i = 0; i < 20; i++) {
+            limiter.onSuccess();
+        }
+        assertThat(limiter.currentRate()).isCloseTo(2.0, within(1e-9));
+
+        for (int i = 0; i < 1000; i++) {
+            limiter.onSuccess();
+        }
+        assertThat(limiter.currentRate()).isEqualTo(10.0);
+    }
+
+    @Test
+    void retryAfterAcceptsSecondsAndHttpDates() {
+        Instant now = Instant.parse("2025-09-01T12:00:00Z");
+        HttpHeaders seconds = new HttpHeaders();
+        seconds.set(HttpHeaders.RETRY_AFTER, "7");
+        HttpHeaders date = new HttpHeaders();
+        date.set(HttpHeaders.RETRY_AFTER, "Mon, 01 Sep 2025 12:00:30 GMT");
+
+        assertThat(JiraRateLimitInterceptor.retryAfter(seconds, now)).contains(Duration.ofSeconds(7));
+        assertThat(JiraRateLimitInterceptor.retryAfter(date, now)).contains(Duration.ofSeconds(30));
+        assertThat(JiraRateLimitInterceptor.retryAfter(new HttpHeaders(), now)).isEmpty();
+    }
+
+    private void advance(Duration duration) {
+        now.addAndGet(duration.toNanos());
+    }
+}
@@ -0,0 +1,196 @@
+package com.acme.middleware.infrastructure.jira.client;
+
+import com.acme.middleware.application.dto.BulkCreateResult;
+import com.acme.middleware.application.dto.JiraIssueDraft;
+import com.acme.middleware.application.dto.JiraIssuePage;
+import com.acme.middleware.application.dto.JiraIssueSnapshot;
+import com.acme.middleware.infrastructure.jira.config.JiraProperties;
+import com.acme.middleware.infrastructure.jira.metadata.JiraMetadata;
+import com.acme.middleware.infrastructure.jira.metadata.JiraMetadataCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.Matchers.contains;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.jsonPath;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+
+/**
+ * Runs the bulk create against a stubbed Jira endpoint rather than a mocked RestTemplate, so the
+ * real JSON (de)serialization and error handling are exercised.
+ */
+class JiraRestClientAdapterBulkTest {
+
+    private static final String BULK_URL = "https://example.atlassian.net/rest/api/3/issue/bulk";
+
+    private MockRestServiceServer jira;
+    private JiraMetadataCache metadataCache;
+    private JiraRestClientAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        RestTemplate restTemplate = new RestTemplateBuilder().rootUri("https://example.atlassian.net").build();
+        jira = MockRestServiceServer.bindTo(restTemplate).build();
+        metadataCache = mock(JiraMetadataCache.class);
+        when(metadataCache.current()).thenReturn(JiraMetadata.EMPTY);
+        adapter = new JiraRestClientAdapter(restTemplate, new JiraProperties("https://example.atlassian.net", "u", "t", "DEMO", "", null, null, null, null, null, null, null),
+                metadataCache);
+    }
+
+    @Test
+    void partialFailure_mapsResultsBackToRequestOrder() {
+        jira.expect(requestTo(BULK_URL))
+                .andExpect(method(HttpMethod.POST))
+                .andExpect(jsonPath("$.issueUpdates.length()").value(3))
+                .andExpect(jsonPath("$.issueUpdates[1].fields.summary").value("second"))
+                .andRespond(withStatus(HttpStatus.CREATED).contentType(MediaType.APPLICATION_JSON).body("""
+                        {
+                          "issues": [
+                            {"id": "10001", "key": "DEMO-1", "self": "https://example.atlassian.net/rest/api/3/issue/10001"},
+                            {"id": "10002", "key": "DEMO-2", "self": "https://example.atlassian.net/rest/api/3/issue/10002"}
+                          ],
+                          "errors": [
+                            {
+                              "status": 400,
+                              "elementErrors": {"errorMessages": [], "errors": {"priority": "Priority name 'Urgent' is not valid"}},
+                              "failedElementNumber": 1
+                            }
+                          ]
+                        }
+                        """));
+
+        List<BulkCreateResult> results = adapter.createIssuesBulk(List.of(draft("first"), draft("second"), draft("third")));
+
+        jira.verify();
+        assertThat(results).extracting(BulkCreateResult::issueKey).containsExactly("DEMO-1", null, "DEMO-2");
+        assertThat(results.get(1).succeeded()).isFalse();
+        assertThat(results.get(1).error()).contains("400").contains("Priority name 'Urgent' is not valid");
+    }
+
+    @Test
+    void allElementsRejected_returnsFailuresInsteadOfThrowing() {
+        jira.expect(requestTo(BULK_URL))
+                .andRespond(withStatus(HttpStatus.BAD_REQUEST).contentType(MediaType.APPLICATION_JSON).body("""
+                        {
+                          "issues": [],
+                          "errors": [
+                            {"status": 400, "elementErrors": {"errorMessages": ["Summary is required"]}, "failedElementNumber": 0}
+                          ]
+                        }
+                        """));
+
+        List<BulkCreateResult> results = adapter.createIssuesBulk(List.of(draft("")));
+
+        assertThat(results).singleElement().satisfies(result -> {
+            assertThat(result.succeeded()).isFalse();
+            assertThat(result.error()).contains("Summary is required");
+        });
+    }
+
+    @Test
+    void moreThanFiftyDrafts_areSplitIntoSeveralRequests() {
+        jira.expect(requestTo(BULK_URL))
+                .andExpect(jsonPath("$.issueUpdates.length()").value(50))
+                .andRespond(withStatus(HttpStatus.CREATED).contentType(MediaType.APPLICATION_JSON).body(createdBody(1, 50)));
+        jira.expect(requestTo(BULK_URL))
+                .andExpect(jsonPath("$.issueUpdates.length()").value(2))
+                .andRespond(withStatus(HttpStatus.CREATED).contentType(MediaType.APPLICATION_JSON).body(createdBody(51, 2)));
+
+        List<BulkCreateResult> results = adapter.createIssuesBulk(
+                IntStream.rangeClosed(1, 52).mapToObj(i -> draft("issue " + i)).toList());
+
+        jira.verify();
+        assertThat(results).hasSize(52).allMatch(BulkCreateResult::succeeded);
+        assertThat(results.get(51).issueKey()).isEqualTo("DEMO-52");
+    }
+
+    @Test
+    void draftsTheMetadataRulesOut_areRejectedWithoutBeingSent() {
+        JiraMetadata.Field summary = new JiraMetadata.Field("summary", true, false, List.of());
+        JiraMetadata.Field priority = new JiraMetadata.Field("priority", false, true, List.of(new JiraMetadata.Value("3", "Medium")));
+        JiraMetadata.Field component = new JiraMetadata.Field("customfield_10010", true, false, List.of());
+        when(metadataCache.current()).thenReturn(new JiraMetadata(Map.of(
+                "task", new JiraMetadata.IssueType("10001", "Task", Map.of("summary", summary, "priority", priority)),
+                "bug", new JiraMetadata.IssueType("10002", "Bug", Map.of("summary", summary, "customfield_10010", component))),
+                List.of(), Instant.now()));
+        jira.expect(requestTo(BULK_URL))
+                .andExpect(jsonPath("$.issueUpdates.length()").value(2))
+                .andExpect(jsonPath("$.issueUpdates[0].fields.issuetype.id").value("10001"))
+                .andExpect(jsonPath("$.issueUpdates[0].fields.priority.id").value("3"))
+                .andExpect(jsonPath("$.issueUpdates[0].fields.duedate").doesNotExist())
+                .andRespond(withStatus(HttpStatus.CREATED).contentType(MediaType.APPLICATION_JSON).body(createdBody(1, 2)));
+
+        List<BulkCreateResult> results = adapter.createIssuesBulk(List.of(draft("first"),
+                new JiraIssueDraft("second", "description", "Bug", null, "Medium"), draft("third")));
+
+        jira.verify();
+        assertThat(results).extracting(BulkCreateResult::issueKey).containsExactly("DEMO-1", null, "DEMO-2");
+        assertThat(results.get(1).retryable()).isFalse();
+        assertThat(results.get(1).error()).contains("customfield_10010");
+    }
+
+    @Test
+    void serverError_failsTheWholeRequest() {
+        jira.expect(requestTo(BULK_URL)).andRespond(withServerError());
+
+        assertThatThrownBy(() -> adapter.createIssuesBulk(List.of(draft("first"))))
+                .isInstanceOf(HttpServerErrorException.class);
+    }
+
+    @Test
+    void searchByKeys_pagesThroughKeysBeyondThePageSize() {
+        String fetchUrl = "https://example.atlassian.net/rest/api/3/issue/bulkfetch";
+        jira.expect(requestTo(fetchUrl))
+                .andExpect(jsonPath("$.issueIdsOrKeys").value(contains("DEMO-1", "DEMO-2")))
+                .andRespond(withStatus(HttpStatus.OK).contentType(MediaType.APPLICATION_JSON).body(fetchedBody("DEMO-1", "DEMO-2")));
+        jira.expect(requestTo(fetchUrl))
+                .andExpect(jsonPath("$.issueIdsOrKeys").value(contains("DEMO-3")))
+                .andRespond(withStatus(HttpStatus.OK).contentType(MediaType.APPLICATION_JSON).body(fetchedBody("DEMO-3")));
+
+        JiraIssuePage first = adapter.searchByKeys(List.of("DEMO-1", "DEMO-2", "DEMO-3"), null, 2);
+        JiraIssuePage second = adapter.searchByKeys(List.of("DEMO-1", "DEMO-2", "DEMO-3"), first.nextPageToken(), 2);
+
+        jira.verify();
+        assertThat(first.issues()).extracting(JiraIssueSnapshot::key).containsExactly("DEMO-1", "DEMO-2");
+        assertThat(first.nextPageToken()).isNotNull();
+        assertThat(second.issues()).extracting(JiraIssueSnapshot::key).containsExactly("DEMO-3");
+        assertThat(second.nextPageToken()).isNull();
+    }
+
+    private static JiraIssueDraft draft(String summary) {
+        return new JiraIssueDraft(summary, "description", "Task", "2025-10-01", "Medium");
+    }
+
+    private static String fetchedBody(String... keys) {
+        String issues = String.join(",", Arrays.stream(keys)
+                .map(key -> "{\"id\": \"1\", \"key\": \"" + key + "\", \"fields\": {\"summary\": \"" + key + "\"}}")
+                .toList());
+        return "{\"issues\": [" + issues + "]}";
+    }
+
+    private static String createdBody(int firstNumber, int count) {
+        String issues = String.join(",", IntStream.range(firstNumber, firstNumber + count)
+                .mapToObj(n -> "{\"id\": \"" + (10000 + n) + "\", \"key\": \"DEMO-" + n + "\"}")
+                .toList());
+        return "{\"issues\": [" + issues + "], \"errors\": []}";
+    }
+}
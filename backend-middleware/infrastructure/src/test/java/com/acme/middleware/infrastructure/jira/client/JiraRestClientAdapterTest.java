@@ -1,6 +1,16 @@
 package com.acme.middleware.infrastructure.jira.client;
 
+import com.acme.middleware.application.dto.JiraIssuePage;
+import com.acme.middleware.application.dto.JiraIssueSnapshot;
+import com.acme.middleware.domain.model.IssueStatus;
 import com.acme.middleware.infrastructure.jira.config.JiraProperties;
+import com.acme.middleware.infrastructure.jira.dto.JiraCreateIssueRequest;
+import com.acme.middleware.infrastructure.jira.dto.JiraCreateIssueResponse;
+import com.acme.middleware.infrastructure.jira.dto.JiraSearchRequest;
+import com.acme.middleware.infrastructure.jira.dto.JiraSearchResponse;
+import com.acme.middleware.infrastructure.jira.metadata.JiraMetadataCache;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -8,6 +18,7 @@ import org.springframework.http.*;
 import org.springframework.web.client.RestTemplate;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -23,33 +34,35 @@ class JiraRestClientAdapterTest {
     @BeforeEach
     void setUp() {
         restTemplate = mock(RestTemplate.class);
-        props = new JiraProperties("https://example.atlassian.net", "u", "t", "DEMO", "");
-        adapter = new JiraRestClientAdapter(restTemplate, props);
+        props = new JiraProperties("https://example.atlassian.net", "u", "t", "DEMO", "", null, null, null, null, null, null, null);
+        adapter = new JiraRestClientAdapter(restTemplate, props, new JiraMetadataCache(restTemplate, props));
     }
 
     @Test
-    void createIssue_postsCorrectPayload() {
-        when(restTemplate.exchange(anyString(), eq(HttpMethod.POST), any(HttpEntity.class), eq(Map.class)))
-                .thenReturn(ResponseEntity.ok(Map.of("key", "DEMO-1")));
+    void createIssue_postsCorrectPayload() throws Exception {
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.POST), any(HttpEntity.class), eq(JiraCreateIssueResponse.class)))
+                .thenReturn(ResponseEntity.ok(new JiraCreateIssueResponse("10001", "DEMO-1", null)));
 
-        String key = adapter.createIssue("Summary", "Desc", "Task", Instant.now(), "Normal");
+        String key = adapter.createIssue("Summary", "Desc", "Task", Instant.parse("2025-10-01T22:30:00Z"), "Normal");
 
         assertThat(key).isEqualTo("DEMO-1");
 
         @SuppressWarnings("unchecked")
-        ArgumentCaptor<HttpEntity<Map<String, Object>>> captor = ArgumentCaptor.forClass(HttpEntity.class);
-        verify(restTemplate).exchange(eq("/rest/api/3/issue"), eq(HttpMethod.POST), captor.capture(), eq(Map.class));
+        ArgumentCaptor<HttpEntity<JiraCreateIssueRequest>> captor = ArgumentCaptor.forClass(HttpEntity.class);
+        verify(restTemplate).exchange(eq("/rest/api/3/issue"), eq(HttpMethod.POST), captor.capture(), eq(JiraCreateIssueResponse.class));
 
-        HttpEntity<Map<String, Object>> sent = captor.getValue();
+        HttpEntity<JiraCreateIssueRequest> sent = captor.getValue();
         assertThat(sent.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
-        Map<String, Object> body = sent.getBody();
-        assertThat(body).isNotNull();
-        Map<String, Object> fields = (Map<String, Object>) body.get("fields");
-        assertThat(fields).containsEntry("summary", "Summary");
-        assertThat(fields).containsEntry("description", "Desc");
-        assertThat((Map<String, Object>) fields.get("project")).containsEntry("key", "DEMO");
-        assertThat((Map<String, Object>) fields.get("issuetype")).containsEntry("name", "Task");
-        assertThat(fields).containsKey("dueDate");
+        assertThat(sent.getBody()).isNotNull();
+        // Asserted on the JSON Jira receives, since the nested field records are internal to the DTO package
+        JsonNode fields = new ObjectMapper().valueToTree(sent.getBody()).get("fields");
+        assertThat(fields.get("summary").asText()).isEqualTo("Summary");
+        assertThat(fields.at("/description/type").asText()).isEqualTo("doc");
+        assertThat(fields.at("/description/content/0/content/0/text").asText()).isEqualTo("Desc");
+        assertThat(fields.at("/project/key").asText()).isEqualTo("DEMO");
+        assertThat(fields.at("/issuetype/name").asText()).isEqualTo("Task");
+        assertThat(fields.get("duedate").asText()).isEqualTo("2025-10-01");
+        assertThat(fields.at("/priority/name").asText()).isEqualTo("Normal");
     }
 
     @Test
@@ -76,4 +89,64 @@ class JiraRestClientAdapterTest {
 
         verify(restTemplate).exchange(eq("/rest/api/3/issue/DEMO-2"), eq(HttpMethod.DELETE), eq(HttpEntity.EMPTY), eq(Void.class));
     }
+
+    @Test
+    void findIssueKeysByLabels_followsPagesAndKeepsTheOldestDuplicate() {
+        when(restTemplate.postForObject(eq("/rest/api/3/search/jql"), any(HttpEntity.class), eq(JiraSearchResponse.class)))
+                .thenReturn(new JiraSearchResponse(List.of(found("DEMO-12", "mw-a"), found("DEMO-5", "other")), "page-2"))
+                .thenReturn(new JiraSearchResponse(List.of(found("DEMO-7", "mw-a")), null));
+
+        Map<String, String> keys = adapter.findIssueKeysByLabels(List.of("mw-a", "mw-b"));
+
+        assertThat(keys).containsExactly(Map.entry("mw-a", "DEMO-7"));
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<HttpEntity<JiraSearchRequest>> captor = ArgumentCaptor.forClass(HttpEntity.class);
+        verify(restTemplate, times(2)).postForObject(eq("/rest/api/3/search/jql"), captor.capture(), eq(JiraSearchResponse.class));
+        JiraSearchRequest first = captor.getAllValues().get(0).getBody();
+        assertThat(first.jql()).isEqualTo("project = \"DEMO\" AND labels in (\"mw-a\", \"mw-b\")");
+        assertThat(first.fields()).containsExactly("labels");
+        assertThat(captor.getAllValues().get(1).getBody().nextPageToken()).isEqualTo("page-2");
+    }
+
+    @Test
+    void searchUpdated_readsTheWindowInTheJiraTimeZoneAndMapsIssues() throws Exception {
+        adapter = new JiraRestClientAdapter(restTemplate, new JiraProperties("https://example.atlassian.net", "u", "t", "DEMO", "",
+                null, null, null, null, null, "Europe/Madrid", null), new JiraMetadataCache(restTemplate, props));
+        JiraSearchResponse.SearchFields fields = new JiraSearchResponse.SearchFields(List.of("mw-a"), "Summary",
+                new ObjectMapper().readTree("{\"type\":\"doc\",\"version\":1,\"content\":[{\"type\":\"paragraph\",\"content\":[{\"type\":\"text\",\"text\":\"Body\"}]}]}"),
+                new JiraSearchResponse.Status("Won't Do", new JiraSearchResponse.StatusCategory("done")),
+                new JiraSearchResponse.Named("Highest"), "2025-09-30", "2025-09-01T10:00:00.000+0200", "2025-09-01T12:30:00.000+0200");
+        when(restTemplate.postForObject(eq("/rest/api/3/search/jql"), any(HttpEntity.class), eq(JiraSearchResponse.class)))
+                .thenReturn(new JiraSearchResponse(List.of(new JiraSearchResponse.SearchIssue("1", "DEMO-3", fields)), "page-2"));
+
+        JiraIssuePage page = adapter.searchUpdated(Instant.parse("2025-09-01T10:00:00Z"), Instant.parse("2025-09-01T11:00:00Z"), null, 100);
+
+        assertThat(page.nextPageToken()).isEqualTo("page-2");
+        assertThat(page.issues()).containsExactly(new JiraIssueSnapshot("DEMO-3", "Summary", "Body", IssueStatus.CANCELLED, "HIGH",
+                Instant.parse("2025-09-30T00:00:00Z"), Instant.parse("2025-09-01T08:00:00Z"), Instant.parse("2025-09-01T10:30:00Z"), List.of("mw-a")));
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<HttpEntity<JiraSearchRequest>> captor = ArgumentCaptor.forClass(HttpEntity.class);
+        verify(restTemplate).postForObject(eq("/rest/api/3/search/jql"), captor.capture(), eq(JiraSearchResponse.class));
+        assertThat(captor.getValue().getBody().jql()).isEqualTo(
+                "project = \"DEMO\" AND updated >= \"2025/09/01 12:00\" AND updated < \"2025/09/01 13:00\" ORDER BY updated ASC, key ASC");
+    }
+
+    @Test
+    void searchProject_continuesAfterTheLastKey() {
+        when(restTemplate.postForObject(eq("/rest/api/3/search/jql"), any(HttpEntity.class), eq(JiraSearchResponse.class)))
+                .thenReturn(new JiraSearchResponse(List.of(), null));
+
+        adapter.searchProject("DEMO-100", 50);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<HttpEntity<JiraSearchRequest>> captor = ArgumentCaptor.forClass(HttpEntity.class);
+        verify(restTemplate).postForObject(eq("/rest/api/3/search/jql"), captor.capture(), eq(JiraSearchResponse.class));
+        assertThat(captor.getValue().getBody().jql()).isEqualTo("project = \"DEMO\" AND key > \"DEMO-100\" ORDER BY key ASC");
+        assertThat(captor.getValue().getBody().maxResults()).isEqualTo(50);
+        assertThat(captor.getValue().getBody().nextPageToken()).isNull();
+    }
+
+    private static JiraSearchResponse.SearchIssue found(String key, String label) {
+        return new JiraSearchResponse.SearchIssue("1", key, JiraSearchResponse.SearchFields.labels(List.of(label)));
+    }
 }
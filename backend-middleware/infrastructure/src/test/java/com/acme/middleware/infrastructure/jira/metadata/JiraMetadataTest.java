@@ -0,0 +1,87 @@
+package com.acme.middleware.infrastructure.jira.metadata;
+
+import com.acme.middleware.application.dto.JiraIssueDraft;
+import com.acme.middleware.application.exceptions.InvalidJiraPayloadException;
+import com.acme.middleware.infrastructure.jira.dto.JiraIssueFields;
+import com.acme.middleware.infrastructure.jira.dto.JiraPriority;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JiraMetadataTest {
+
+    private static final List<JiraMetadata.Value> PRIORITIES = List.of(
+            new JiraMetadata.Value("1", "Highest"), new JiraMetadata.Value("3", "Medium"), new JiraMetadata.Value("5", "Lowest"));
+
+    private final JiraMetadata metadata = new JiraMetadata(Map.of(
+            "task", new JiraMetadata.IssueType("10001", "Task", Map.of(
+                    "summary", field("summary", true),
+                    "description", field("description", false),
+                    "duedate", field("duedate", false),
+                    "labels", field("labels", false),
+                    "priority", new JiraMetadata.Field("priority", false, true, List.of())))),
+            PRIORITIES, Instant.now());
+
+    @Test
+    void unknownIssueType_fallsBackToTheDefault() {
+        JiraIssueFields fields = metadata.toCreateFields("DEMO", new JiraIssueDraft("s", "d", "Story", "2025-10-01", "HIGH", "mw-1"), "Task");
+
+        assertThat(json(fields).at("/issuetype/id").asText()).isEqualTo("10001");
+        assertThat(fields.duedate()).isEqualTo("2025-10-01");
+        assertThat(fields.labels()).containsExactly("mw-1");
+        // Matched to the site's priorities by synonym, since the screen lists no allowed values
+        assertThat(fields.priority().id()).isEqualTo("1");
+    }
+
+    @Test
+    void missingDefaultIssueType_isRejected() {
+        assertThatThrownBy(() -> metadata.toCreateFields("DEMO", new JiraIssueDraft("s", "d", "Story", null, null), "Epic"))
+                .isInstanceOf(InvalidJiraPayloadException.class)
+                .hasMessageContaining("Story");
+    }
+
+    @Test
+    void fieldsOffTheCreateScreen_areLeftOut() {
+        JiraMetadata narrow = new JiraMetadata(Map.of(
+                "task", new JiraMetadata.IssueType("10001", "Task", Map.of("summary", field("summary", true)))),
+                PRIORITIES, Instant.now());
+
+        JiraIssueFields fields = narrow.toCreateFields("DEMO", new JiraIssueDraft("s", "d", null, "2025-10-01", "LOW", "mw-1"), "Task");
+
+        assertThat(fields.description()).isNull();
+        assertThat(fields.duedate()).isNull();
+        assertThat(fields.priority()).isNull();
+        assertThat(fields.labels()).isNull();
+    }
+
+    @Test
+    void editPriority_isSentByIdOrLeftOut() {
+        assertThat(metadata.toPriority("LOW")).isEqualTo(JiraPriority.ofId("5"));
+        assertThat(metadata.toPriority("Urgent")).isNull();
+    }
+
+    @Test
+    void beforeTheFirstLoad_draftsGoOutAsTheyAre() {
+        JiraIssueFields fields = JiraMetadata.EMPTY.toCreateFields("DEMO", new JiraIssueDraft("s", "d", null, null, "HIGH"), "Task");
+
+        assertThat(json(fields).at("/issuetype/name").asText()).isEqualTo("Task");
+        assertThat(fields.priority()).isEqualTo(JiraPriority.of("HIGH"));
+        assertThat(JiraMetadata.EMPTY.toPriority("HIGH")).isEqualTo(JiraPriority.of("HIGH"));
+    }
+
+    // The issue type and project records are internal to the DTO package
+    private static JsonNode json(JiraIssueFields fields) {
+        return new ObjectMapper().valueToTree(fields);
+    }
+
+    private static JiraMetadata.Field field(String fieldId, boolean required) {
+        return new JiraMetadata.Field(fieldId, required, false, List.of());
+    }
+}
@@ -26,7 +26,7 @@ class JiraWebhookControllerTest {
 
     @Test
     void acceptsWebhookWithoutSecret() throws Exception {
-        JiraProperties props = new JiraProperties("https://example.atlassian.net", "u", "t", "DEMO", "");
+        JiraProperties props = new JiraProperties("https://example.atlassian.net", "u", "t", "DEMO", "", null, null, null, null, null, null, null);
         JiraWebhookController controller = new JiraWebhookController(service, props);
         mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
 
@@ -44,7 +44,7 @@ class JiraWebhookControllerTest {
 
     @Test
     void rejectsWebhookWithInvalidSecret() throws Exception {
-        JiraProperties props = new JiraProperties("https://example.atlassian.net", "u", "t", "DEMO", "secret");
+        JiraProperties props = new JiraProperties("https://example.atlassian.net", "u", "t", "DEMO", "secret", null, null, null, null, null, null, null);
         JiraWebhookController controller = new JiraWebhookController(service, props);
         mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
 
@@ -63,7 +63,7 @@ class JiraWebhookControllerTest {
 
     @Test
     void acceptsWebhookWithValidSecret() throws Exception {
-        JiraProperties props = new JiraProperties("https://example.atlassian.net", "u", "t", "DEMO", "secret");
+        JiraProperties props = new JiraProperties("https://example.atlassian.net", "u", "t", "DEMO", "secret", null, null, null, null, null, null, null);
         JiraWebhookController controller = new JiraWebhookController(service, props);
         mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
 
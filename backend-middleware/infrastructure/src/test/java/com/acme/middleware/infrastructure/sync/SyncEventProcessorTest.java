@@ -0,0 +1,161 @@
+package com.acme.middleware.infrastructure.sync;
+
+import com.acme.middleware.application.dto.SyncOperation;
+import com.acme.middleware.application.service.jira.OutboxCoalescer;
+import com.acme.middleware.application.service.jira.ProcessJiraSyncEventService;
+import com.acme.middleware.domain.model.Event;
+import com.acme.middleware.domain.model.EventConstants;
+import com.acme.middleware.domain.model.IssueId;
+import com.acme.middleware.domain.port.EventRepository;
+import com.acme.middleware.infrastructure.jira.client.JiraCircuitBreaker;
+import com.acme.middleware.infrastructure.sync.config.SyncProperties;
+import com.acme.middleware.infrastructure.sync.metrics.OutboxMetrics;
+import com.acme.middleware.infrastructure.sync.notify.OutboxNotificationListener;
+import com.acme.middleware.infrastructure.sync.notify.OutboxWakeup;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Drives one dispatcher batch at a time against a Jira service whose calls complete on another
+ * thread, to show that no issue ever has two of its changes in flight.
+ */
+class SyncEventProcessorTest {
+
+    private final EventRepository eventRepository = mock(EventRepository.class);
+    private final ProcessJiraSyncEventService syncService = mock(ProcessJiraSyncEventService.class);
+    private SyncEventProcessor processor;
+
+    @BeforeEach
+    void setUp() {
+        SyncProperties syncProperties = new SyncProperties(100, 0, Duration.ofMillis(300), null, null, null, null, null, null, null, null, null, null);
+        processor = new SyncEventProcessor(eventRepository, syncService, new OutboxCoalescer(), syncProperties,
+                mock(OutboxWakeup.class), mock(OutboxNotificationListener.class), mock(OutboxMetrics.class), mock(JiraCircuitBreaker.class));
+        when(syncService.loadIssues(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void anIssueHasAtMostOneOperationInFlight() throws Exception {
+        IssueId first = IssueId.generate();
+        IssueId second = IssueId.generate();
+        when(eventRepository.claimPendingEvents(anyInt(), any())).thenReturn(List.of(
+                event(first), event(second), event(first), event(first)));
+
+        Set<IssueId> inFlight = ConcurrentHashMap.newKeySet();
+        List<IssueId> overlapping = new CopyOnWriteArrayList<>();
+        List<SyncOperation> executed = new CopyOnWriteArrayList<>();
+        ScheduledExecutorService jira = Executors.newSingleThreadScheduledExecutor();
+        try {
+            when(syncService.executeAsync(any())).thenAnswer(invocation -> {
+                SyncOperation operation = invocation.getArgument(0);
+                executed.add(operation);
+                if (!inFlight.add(operation.issueId())) {
+                    overlapping.add(operation.issueId());
+                }
+                CompletableFuture<Void> done = new CompletableFuture<>();
+                jira.schedule(() -> {
+                    inFlight.remove(operation.issueId());
+                    done.complete(null);
+                }, 50, TimeUnit.MILLISECONDS);
+                return done;
+            });
+
+            assertThat(processor.syncEvents()).isEqualTo(4);
+        } finally {
+            jira.shutdownNow();
+        }
+
+        assertThat(overlapping).isEmpty();
+        assertThat(executed).extracting(SyncOperation::issueId).containsExactly(first, second);
+        assertThat(executed.get(0).events()).hasSize(3);
+        // The batch is only over once every call finished
+        assertThat(inFlight).isEmpty();
+    }
+
+    @Test
+    void nextClaimWaitsForTheBatchAndKeepsItsLease() throws Exception {
+        IssueId issueId = IssueId.generate();
+        List<Event> batch = List.of(event(issueId));
+        when(eventRepository.claimPendingEvents(anyInt(), any())).thenReturn(batch);
+        CompletableFuture<Void> slowCall = new CompletableFuture<>();
+        when(syncService.executeAsync(any())).thenReturn(slowCall);
+
+        List<Integer> claimed = new ArrayList<>();
+        Thread dispatcher = Thread.ofVirtual().start(() -> {
+            try {
+                claimed.add(processor.syncEvents());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        // Longer than the 300ms lease
+        dispatcher.join(Duration.ofMillis(500));
+        assertThat(dispatcher.isAlive()).isTrue();
+        verify(eventRepository, times(1)).claimPendingEvents(anyInt(), any());
+        verify(eventRepository, atLeastOnce()).extendLease(eq(batch), any());
+
+        slowCall.complete(null);
+        dispatcher.join(Duration.ofSeconds(2));
+        assertThat(dispatcher.isAlive()).isFalse();
+        assertThat(claimed).containsExactly(1);
+    }
+
+    @Test
+    void operationsInFlightAreCappedByWorkers() throws Exception {
+        SyncProperties syncProperties = new SyncProperties(100, 2, Duration.ofMillis(300), null, null, null, null, null, null, null, null, null, null);
+        processor = new SyncEventProcessor(eventRepository, syncService, new OutboxCoalescer(), syncProperties,
+                mock(OutboxWakeup.class), mock(OutboxNotificationListener.class), mock(OutboxMetrics.class), mock(JiraCircuitBreaker.class));
+        when(eventRepository.claimPendingEvents(anyInt(), any())).thenReturn(List.of(
+                event(IssueId.generate()), event(IssueId.generate()), event(IssueId.generate()), event(IssueId.generate()), event(IssueId.generate())));
+
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        ScheduledExecutorService jira = Executors.newSingleThreadScheduledExecutor();
+        try {
+            when(syncService.executeAsync(any())).thenAnswer(invocation -> {
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                CompletableFuture<Void> done = new CompletableFuture<>();
+                jira.schedule(() -> {
+                    inFlight.decrementAndGet();
+                    done.complete(null);
+                }, 20, TimeUnit.MILLISECONDS);
+                return done;
+            });
+
+            assertThat(processor.syncEvents()).isEqualTo(5);
+        } finally {
+            jira.shutdownNow();
+        }
+
+        verify(syncService, times(5)).executeAsync(any());
+        assertThat(maxInFlight.get()).isEqualTo(2);
+    }
+
+    private static Event event(IssueId issueId) {
+        return new Event(UUID.randomUUID().toString(), EventConstants.ISSUE_UPDATED, issueId, "title", "description", "MEDIUM");
+    }
+}
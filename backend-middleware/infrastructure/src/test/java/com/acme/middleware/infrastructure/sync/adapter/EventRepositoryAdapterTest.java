@@ -0,0 +1,157 @@
+package com.acme.middleware.infrastructure.sync.adapter;
+
+import com.acme.middleware.domain.model.Event;
+import com.acme.middleware.domain.model.EventConstants;
+import com.acme.middleware.domain.model.IssueId;
+import com.acme.middleware.infrastructure.sync.cluster.SyncPartitionManager;
+import com.acme.middleware.infrastructure.sync.codec.EventPayloadCodec;
+import com.acme.middleware.infrastructure.sync.config.SyncProperties;
+import com.acme.middleware.infrastructure.sync.entity.ArchivedEventEntity;
+import com.acme.middleware.infrastructure.sync.mapper.EventPersistenceMapper;
+import com.acme.middleware.infrastructure.sync.notify.OutboxNotifier;
+import com.acme.middleware.infrastructure.sync.repository.SpringDataArchivedEventJpaRepository;
+import com.acme.middleware.infrastructure.sync.repository.SpringDataEventJpaRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest(properties = {"spring.flyway.enabled=false", "spring.jpa.hibernate.ddl-auto=create-drop"})
+@ContextConfiguration(classes = EventRepositoryAdapterTest.JpaConfig.class)
+class EventRepositoryAdapterTest {
+
+    @Configuration
+    @EntityScan("com.acme.middleware.infrastructure.sync.entity")
+    @EnableJpaRepositories("com.acme.middleware.infrastructure.sync.repository")
+    static class JpaConfig {
+    }
+
+    @Autowired
+    private SpringDataEventJpaRepository eventJpaRepository;
+    @Autowired
+    private SpringDataArchivedEventJpaRepository archiveRepository;
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private EventRepositoryAdapter outbox;
+
+    @BeforeEach
+    void setUp() {
+        // A single partition owned by this node
+        SyncPartitionManager partitionManager = mock(SyncPartitionManager.class);
+        when(partitionManager.ownedPartitions()).thenReturn(Set.of(0));
+        when(partitionManager.partitionCount()).thenReturn(1);
+        SyncProperties syncProperties = new SyncProperties(100, 0, null, null, null, null, null, null, null,
+                new SyncProperties.Priorities(6, 3, 1), null, null, null);
+        outbox = new EventRepositoryAdapter(eventJpaRepository, archiveRepository,
+                new EventPersistenceMapper(new EventPayloadCodec(new ObjectMapper())), mock(OutboxNotifier.class), partitionManager, syncProperties);
+    }
+
+    @Test
+    void claimSharesTheBatchByPriorityWeight() {
+        // LOW events are the oldest, so plain FIFO would claim nothing else
+        List<String> low = append(20, "LOW");
+        List<String> medium = append(20, "MEDIUM");
+        List<String> high = append(20, "HIGH");
+
+        List<Event> claimed = outbox.claimPendingEvents(10, Duration.ofMinutes(2));
+
+        List<String> ids = claimed.stream().map(Event::getId).toList();
+        assertThat(ids).hasSize(10);
+        assertThat(ids.subList(0, 6)).isEqualTo(high.subList(0, 6));
+        assertThat(ids.subList(6, 9)).isEqualTo(medium.subList(0, 3));
+        assertThat(ids.subList(9, 10)).isEqualTo(low.subList(0, 1));
+    }
+
+    @Test
+    void unusedShareGoesToTheHighestClassWithWork() {
+        List<String> high = append(20, "HIGH");
+        append(1, "LOW");
+
+        List<Event> claimed = outbox.claimPendingEvents(10, Duration.ofMinutes(2));
+
+        assertThat(claimed).hasSize(10);
+        assertThat(claimed).extracting(Event::getId).containsAll(high.subList(0, 9));
+        assertThat(claimed).allSatisfy(event -> assertThat(event.getStatus()).isEqualTo(EventConstants.STATUS_PROCESSING));
+    }
+
+    @Test
+    void dispatchMarkSurvivesReclaimAndRetry() {
+        append(1, "MEDIUM");
+        List<Event> claimed = outbox.claimPendingEvents(10, Duration.ofMinutes(2));
+
+        outbox.markDispatched(claimed, Instant.now());
+        // A failed attempt saves the event from its in-memory state
+        claimed.get(0).scheduleRetry("timeout", Instant.now().minusSeconds(1));
+        outbox.save(claimed.get(0));
+
+        assertThat(outbox.claimPendingEvents(10, Duration.ofMinutes(2)))
+                .singleElement()
+                .satisfies(event -> assertThat(event.wasDispatched()).isTrue());
+    }
+
+    @Test
+    void extendLeaseOnlyTouchesEventsStillProcessing() {
+        append(2, "MEDIUM");
+        List<Event> claimed = outbox.claimPendingEvents(10, Duration.ofMinutes(2));
+        claimed.get(1).scheduleRetry("timeout", Instant.now().plusSeconds(60));
+        outbox.save(claimed.get(1));
+
+        Instant renewed = Instant.now().plus(Duration.ofMinutes(10));
+        outbox.extendLease(claimed, renewed);
+        entityManager.clear();
+
+        assertThat(eventJpaRepository.findById(claimed.get(0).getId()).orElseThrow().getLockedUntil())
+                .isCloseTo(renewed, within(1, ChronoUnit.MILLIS));
+        assertThat(eventJpaRepository.findById(claimed.get(1).getId()).orElseThrow().getLockedUntil())
+                .isNotEqualTo(renewed);
+    }
+
+    @Test
+    void archiveMovesEventsOutOfTheOutbox() {
+        IssueId issueId = IssueId.generate();
+        Event processed = outbox.save(new Event(UUID.randomUUID().toString(), EventConstants.ISSUE_CREATED, issueId, "title", "description", "MEDIUM"));
+        Event pending = outbox.save(new Event(UUID.randomUUID().toString(), EventConstants.ISSUE_UPDATED, issueId, "title", "edited", "MEDIUM"));
+
+        outbox.archive(List.of(processed));
+
+        assertThat(eventJpaRepository.findAll()).extracting(entity -> entity.getId()).containsExactly(pending.getId());
+        List<ArchivedEventEntity> archived = archiveRepository.findAll();
+        assertThat(archived).hasSize(1);
+        assertThat(archived.get(0).getId()).isEqualTo(processed.getId());
+        assertThat(archived.get(0).getEntityId()).isEqualTo(issueId.getValue());
+        assertThat(archived.get(0).getAttempts()).isEqualTo(1);
+        assertThat(archived.get(0).getProcessedAt()).isNotNull();
+    }
+
+    private List<String> append(int count, String priority) {
+        Instant base = Instant.parse("2025-09-01T12:00:00Z").plusSeconds(eventJpaRepository.count());
+        return IntStream.range(0, count)
+                .mapToObj(i -> {
+                    Event event = new Event(UUID.randomUUID().toString(), EventConstants.ISSUE_CREATED, IssueId.generate(), "title " + i, "description", priority);
+                    event.setCreatedAt(base.plusSeconds(i));
+                    event.setNextAttemptAt(base.plusSeconds(i));
+                    return outbox.save(event).getId();
+                })
+                .toList();
+    }
+}
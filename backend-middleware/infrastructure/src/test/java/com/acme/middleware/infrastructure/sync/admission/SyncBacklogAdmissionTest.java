@@ -0,0 +1,53 @@
+package com.acme.middleware.infrastructure.sync.admission;
+
+import com.acme.middleware.application.exceptions.SyncBacklogSaturatedException;
+import com.acme.middleware.infrastructure.sync.config.SyncProperties;
+import com.acme.middleware.infrastructure.sync.metrics.OutboxMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SyncBacklogAdmissionTest {
+
+    private final OutboxMetrics outboxMetrics = mock(OutboxMetrics.class);
+    private final SyncBacklogAdmission gate = new SyncBacklogAdmission(outboxMetrics,
+            new SyncProperties(100, 0, null, null, null, null, null, null, null, null,
+                    new SyncProperties.Admission(100, 80, Duration.ofSeconds(20)), null, null),
+            new SimpleMeterRegistry());
+
+    @Test
+    void countsAdmissionsUntilTheNextSnapshot() {
+        snapshot(1, 98);
+
+        gate.admit();
+        gate.admit();
+
+        assertThatThrownBy(gate::admit)
+                .isInstanceOf(SyncBacklogSaturatedException.class)
+                .satisfies(e -> assertThat(((SyncBacklogSaturatedException) e).getRetryAfter()).isEqualTo(Duration.ofSeconds(20)));
+    }
+
+    @Test
+    void staysClosedUntilBelowTheLowWaterMark() {
+        snapshot(1, 100);
+        assertThatThrownBy(gate::admit).isInstanceOf(SyncBacklogSaturatedException.class);
+
+        snapshot(2, 90);
+        assertThatThrownBy(gate::admit).isInstanceOf(SyncBacklogSaturatedException.class);
+
+        snapshot(3, 80);
+        assertThatCode(gate::admit).doesNotThrowAnyException();
+    }
+
+    private void snapshot(long version, long pending) {
+        when(outboxMetrics.snapshotVersion()).thenReturn(version);
+        when(outboxMetrics.pendingEvents()).thenReturn(pending);
+    }
+}
@@ -0,0 +1,188 @@
+package com.acme.middleware.infrastructure.sync.cluster;
+
+import com.acme.middleware.domain.model.Event;
+import com.acme.middleware.domain.model.EventConstants;
+import com.acme.middleware.domain.model.IssueId;
+import com.acme.middleware.infrastructure.sync.adapter.EventRepositoryAdapter;
+import com.acme.middleware.infrastructure.sync.codec.EventPayloadCodec;
+import com.acme.middleware.infrastructure.sync.config.SyncProperties;
+import com.acme.middleware.infrastructure.sync.mapper.EventPersistenceMapper;
+import com.acme.middleware.infrastructure.sync.notify.OutboxNotifier;
+import com.acme.middleware.infrastructure.sync.notify.OutboxWakeup;
+import com.acme.middleware.infrastructure.sync.repository.SpringDataArchivedEventJpaRepository;
+import com.acme.middleware.infrastructure.sync.repository.SpringDataEventJpaRepository;
+import com.acme.middleware.infrastructure.sync.repository.SpringDataPartitionLeaseJpaRepository;
+import com.acme.middleware.infrastructure.sync.repository.SpringDataSyncNodeJpaRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Two sync nodes sharing one database, driven heartbeat by heartbeat on a manual clock.
+ */
+@DataJpaTest(properties = {"spring.flyway.enabled=false", "spring.jpa.hibernate.ddl-auto=create-drop"})
+@ContextConfiguration(classes = SyncPartitionManagerTest.JpaConfig.class)
+class SyncPartitionManagerTest {
+
+    private static final int PARTITIONS = 8;
+    private static final SyncProperties SYNC_PROPERTIES = new SyncProperties(100, 0, null, null, null, null, null, null, null, null, null, null, null);
+
+    @Configuration
+    @EntityScan("com.acme.middleware.infrastructure.sync.entity")
+    @EnableJpaRepositories("com.acme.middleware.infrastructure.sync.repository")
+    static class JpaConfig {
+    }
+
+    @Autowired
+    private SpringDataPartitionLeaseJpaRepository leaseRepository;
+    @Autowired
+    private SpringDataSyncNodeJpaRepository nodeRepository;
+    @Autowired
+    private SpringDataEventJpaRepository eventJpaRepository;
+    @Autowired
+    private SpringDataArchivedEventJpaRepository archiveRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final ManualClock clock = new ManualClock(Instant.parse("2025-09-01T12:00:00Z"));
+    private final SyncProperties.Cluster cluster = new SyncProperties.Cluster(PARTITIONS, Duration.ofSeconds(30), Duration.ofSeconds(10), null);
+
+    private SyncPartitionManager nodeA;
+    private SyncPartitionManager nodeB;
+
+    @BeforeEach
+    void setUp() {
+        nodeA = node("node-a");
+        nodeB = node("node-b");
+    }
+
+    @Test
+    void singleNodeTakesEveryPartition() {
+        nodeA.heartbeat();
+
+        assertThat(nodeA.ownedPartitions()).hasSize(PARTITIONS);
+    }
+
+    @Test
+    void joiningNodeGetsAFairShareWithoutOverlap() {
+        nodeA.heartbeat();
+        nodeB.heartbeat();
+        // A notices the second node and gives back its surplus, B picks it up
+        clock.advance(Duration.ofSeconds(10));
+        nodeA.heartbeat();
+        nodeB.heartbeat();
+
+        assertThat(nodeA.ownedPartitions()).hasSize(PARTITIONS / 2);
+        assertThat(nodeB.ownedPartitions()).hasSize(PARTITIONS / 2);
+        assertThat(nodeA.ownedPartitions()).doesNotContainAnyElementsOf(nodeB.ownedPartitions());
+    }
+
+    @Test
+    void partitionsOfADeadNodeMoveAfterLeaseExpiry() {
+        nodeA.heartbeat();
+        nodeB.heartbeat();
+        clock.advance(Duration.ofSeconds(10));
+        nodeA.heartbeat();
+        nodeB.heartbeat();
+
+        // B stops heartbeating
+        clock.advance(Duration.ofSeconds(10));
+        nodeA.heartbeat();
+        assertThat(nodeA.ownedPartitions()).hasSize(PARTITIONS / 2);
+
+        clock.advance(Duration.ofSeconds(31));
+        nodeA.heartbeat();
+
+        assertThat(nodeA.ownedPartitions()).hasSize(PARTITIONS);
+        // B's own view expired as well, so it would not claim even if it were only partitioned away
+        assertThat(nodeB.ownedPartitions()).isEmpty();
+    }
+
+    @Test
+    void nodesClaimDisjointEventsCoveringTheWholeOutbox() {
+        nodeA.heartbeat();
+        nodeB.heartbeat();
+        clock.advance(Duration.ofSeconds(10));
+        nodeA.heartbeat();
+        nodeB.heartbeat();
+
+        EventRepositoryAdapter outboxA = outbox(nodeA);
+        EventRepositoryAdapter outboxB = outbox(nodeB);
+        List<String> ids = IntStream.range(0, 40)
+                .mapToObj(i -> outboxA.save(new Event(UUID.randomUUID().toString(), EventConstants.ISSUE_CREATED,
+                        IssueId.generate(), "title " + i, "description", "MEDIUM")).getId())
+                .toList();
+
+        List<Event> claimedByA = outboxA.claimPendingEvents(100, Duration.ofMinutes(2));
+        List<Event> claimedByB = outboxB.claimPendingEvents(100, Duration.ofMinutes(2));
+
+        assertThat(claimedByA).allSatisfy(event -> assertThat(nodeA.ownedPartitions()).contains(partitionOf(event)));
+        assertThat(claimedByB).allSatisfy(event -> assertThat(nodeB.ownedPartitions()).contains(partitionOf(event)));
+        Set<String> claimed = new HashSet<>();
+        claimedByA.forEach(event -> claimed.add(event.getId()));
+        claimedByB.forEach(event -> assertThat(claimed.add(event.getId())).isTrue());
+        assertThat(claimed).containsExactlyInAnyOrderElementsOf(ids);
+    }
+
+    private SyncPartitionManager node(String nodeId) {
+        return new SyncPartitionManager(leaseRepository, nodeRepository, new TransactionTemplate(transactionManager),
+                new OutboxWakeup(), cluster, nodeId, clock);
+    }
+
+    private EventRepositoryAdapter outbox(SyncPartitionManager node) {
+        return new EventRepositoryAdapter(eventJpaRepository, archiveRepository, new EventPersistenceMapper(new EventPayloadCodec(new ObjectMapper())), mock(OutboxNotifier.class), node, SYNC_PROPERTIES);
+    }
+
+    private static int partitionOf(Event event) {
+        return SyncPartitionManager.partitionHash(event.getEntityId().getValue()) % PARTITIONS;
+    }
+
+    private static final class ManualClock extends Clock {
+        private Instant now;
+
+        ManualClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
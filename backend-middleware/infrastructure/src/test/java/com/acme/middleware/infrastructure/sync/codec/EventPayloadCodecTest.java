@@ -0,0 +1,47 @@
+package com.acme.middleware.infrastructure.sync.codec;
+
+import com.acme.middleware.domain.model.IssueEventPayload;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventPayloadCodecTest {
+
+    private final EventPayloadCodec codec = new EventPayloadCodec(new ObjectMapper());
+
+    @Test
+    void roundTripsQuotesNewlinesAndUnicode() {
+        IssueEventPayload payload = IssueEventPayload.of("Fix \"login\" page", "line one\nline two\t\\ – ñ", "HIGH");
+
+        String json = codec.encode(payload);
+
+        assertThat(json).startsWith("{\"v\":1,");
+        assertThat(codec.decode(json)).isEqualTo(payload);
+    }
+
+    @Test
+    void omitsNullFields() {
+        assertThat(codec.encode(IssueEventPayload.deleted("DEMO-4", null))).isEqualTo("{\"v\":1,\"businessKey\":\"DEMO-4\"}");
+    }
+
+    @Test
+    void readsUnversionedLegacyRows() {
+        assertThat(codec.decode("{\"title\":\"Old\",\"description\":\"null\",\"priority\":\"MEDIUM\"}"))
+                .isEqualTo(IssueEventPayload.of("Old", null, "MEDIUM"));
+        assertThat(codec.decode("{\"businessKey\":\"DEMO-9\"}").businessKey()).isEqualTo("DEMO-9");
+    }
+
+    @Test
+    void malformedLegacyRowDecodesAsEmpty() {
+        // String.format did not escape quotes inside the description
+        assertThat(codec.decode("{\"title\":\"a\",\"description\":\"say \"hi\"\",\"priority\":\"LOW\"}"))
+                .isEqualTo(IssueEventPayload.EMPTY);
+        assertThat(codec.decode(null)).isEqualTo(IssueEventPayload.EMPTY);
+    }
+
+    @Test
+    void ignoresFieldsFromNewerSchemas() {
+        assertThat(codec.decode("{\"v\":2,\"title\":\"t\",\"labels\":[\"x\"]}").title()).isEqualTo("t");
+    }
+}